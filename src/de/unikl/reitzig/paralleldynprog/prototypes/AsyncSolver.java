@@ -0,0 +1,158 @@
+/*
+ * This file is part of Parallel Dynamic Programming Implementation Prototype (PDPIP).
+ *
+ * PDPIP is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDPIP is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDPIP.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unikl.reitzig.paralleldynprog.prototypes;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * Runs a solver in the background. Cancelling a returned future, or letting its deadline
+ * pass, interrupts the solve; see {@link DynProgSolver#solve(DynProgProblem)} for what
+ * that leaves behind. Returned futures complete only once the solver has returned, so
+ * no worker touches the problem any more when they do.
+ *
+ * @author agent, 10.2026
+ */
+public class AsyncSolver {
+  private final DynProgSolver solver;
+
+  /**
+   * Creates a new instance
+   * @param solver The solver to run in the background
+   */
+  public AsyncSolver(final DynProgSolver solver) {
+    assert solver != null : "null parameter";
+    this.solver = solver;
+  }
+
+  /**
+   * Starts solving the specified problem.
+   * @param problem The problem to be solved
+   * @param <T> Solution type of {@code problem}
+   * @return A future that completes with the problem's solution, or exceptionally with a
+   *         {@link CancellationException} if the solve has been stopped early. Cancelling it
+   *         only requests the solve to stop; it completes once the solver has returned.
+   *         Use {@link #solve(DynProgProblem, long, TimeUnit)} rather than
+   *         {@link CompletableFuture#orTimeout(long, TimeUnit)} for deadlines.
+   */
+  public <T> CompletableFuture<T> solve(final DynProgProblem<T> problem) {
+    return start(problem, new CompletableFuture<Void>());
+  }
+
+  /**
+   * Starts solving the specified problem with a deadline.
+   * @param problem The problem to be solved
+   * @param timeout Time after which the solve is stopped
+   * @param unit Unit of {@code timeout}
+   * @param <T> Solution type of {@code problem}
+   * @return A future as by {@link #solve(DynProgProblem)} that completes exceptionally with a
+   *         {@link java.util.concurrent.TimeoutException} if the deadline passes first.
+   */
+  public <T> CompletableFuture<T> solve(final DynProgProblem<T> problem, final long timeout, final TimeUnit unit) {
+    final CompletableFuture<Void> control = new CompletableFuture<Void>();
+    control.orTimeout(timeout, unit);
+    return start(problem, control);
+  }
+
+  /**
+   * Runs the solve on a thread of its own.
+   * @param control Completing this exceptionally stops the solve; the exception is then
+   *                passed on to the result unless the solver fails.
+   */
+  private <T> CompletableFuture<T> start(final DynProgProblem<T> problem, final CompletableFuture<Void> control) {
+    assert problem != null && control != null : "null parameter";
+    final CompletableFuture<T> result = new Result<T>(control);
+
+    final Thread runner = new Thread(new Runnable() {
+      @Override
+      public void run() {
+        try {
+          solver.solve(problem);
+        }
+        catch ( Throwable t ) {
+          control.complete(null);
+          result.completeExceptionally(t);
+          return;
+        }
+
+        if ( !control.complete(null) ) {
+          result.completeExceptionally(cause(control));
+        }
+        else if ( problem.isSolved() ) {
+          result.complete(problem.getSolution());
+        }
+        else {
+          result.completeExceptionally(new CancellationException(solver + " stopped early"));
+        }
+      }
+    }, solver + ".Async");
+    runner.setDaemon(true);
+
+    control.whenComplete(new BiConsumer<Void, Throwable>() {
+      @Override
+      public void accept(final Void v, final Throwable t) {
+        if ( t != null ) {
+          runner.interrupt();
+        }
+      }
+    });
+
+    runner.start();
+    return result;
+  }
+
+  /**
+   * @return The exception {@code future} has completed with
+   */
+  private static Throwable cause(final CompletableFuture<?> future) {
+    try {
+      future.join();
+      throw new IllegalStateException("Completed normally");
+    }
+    catch ( CompletionException e ) {
+      return e.getCause();
+    }
+    catch ( CancellationException e ) {
+      return e;
+    }
+  }
+
+  /**
+   * A future whose cancellation is passed on to the runner instead of completing it.
+   */
+  private static final class Result<T> extends CompletableFuture<T> {
+    private final CompletableFuture<Void> control;
+
+    Result(final CompletableFuture<Void> control) {
+      this.control = control;
+    }
+
+    @Override
+    public boolean cancel(final boolean mayInterruptIfRunning) {
+      return !isDone() && control.cancel(mayInterruptIfRunning);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return this.getClass().getSimpleName() + "[" + solver + "]";
+  }
+}
@@ -17,6 +17,8 @@
 
 package de.unikl.reitzig.paralleldynprog.prototypes;
 
+import de.unikl.reitzig.paralleldynprog.prototypes.allpairs.AllPairs;
+import de.unikl.reitzig.paralleldynprog.prototypes.corpus.Corpus;
 import de.unikl.reitzig.paralleldynprog.prototypes.problems.EditDistance;
 import de.unikl.reitzig.paralleldynprog.prototypes.problems.RsDummy;
 import de.unikl.reitzig.paralleldynprog.prototypes.solvers.*;
@@ -55,6 +57,9 @@ public class Benchmark {
 
   private static final int[] blockSizes = new int[] { -1, 100 };
 
+  private static final int[] pairCounts = new int[] { 250, 500, 1000, 2000, 4000 };
+  private static final int pairLength = 100;
+
   private static final List<Profiler> profilers = new ArrayList<Profiler>();
 
   private static void profile() throws IOException {
@@ -66,14 +71,29 @@ public class Benchmark {
     }
     catch ( Exception e ) {}
 
+    // Reproducible inputs if a seed is given
+    Corpus corpus = null;
+    if ( ARGS.containsKey("seed") ) {
+      corpus = new Corpus(new File(ARGS.get("corpus")), Long.parseLong(ARGS.get("seed")));
+      System.out.println("Reading inputs from " + corpus);
+    }
+
     for ( final int size : sizes ) {
+      final int[] lengths = "DF".equals(ARGS.get("case")) ? new int[] { rows > 0 ? rows : size, size } : new int[] { size };
+      if ( corpus != null ) {
+        corpus.generate("DF".equals(ARGS.get("case")) ? Corpus.Kind.STRINGS : Corpus.Kind.ARRAYS,
+                        lengths, inputsPerSize, Runtime.getRuntime().availableProcessors());
+      }
+
       for ( int i=0; i<inputsPerSize; i++ ) {
         final DynProgProblem<Integer> prob;
         if ( "DF".equals(ARGS.get("case")) ) {
-          prob = new EditDistance(Util.randomString(rows > 0 ? rows : size), Util.randomString(size));
+          final String[] in = corpus != null ? corpus.strings(lengths, i)
+                                             : new String[] { Util.randomString(lengths[0]), Util.randomString(size) };
+          prob = new EditDistance(in[0], in[1]);
         }
         else {
-          prob = new RsDummy(rows > 0 ? rows : size, Util.randomArray(size));
+          prob = new RsDummy(rows > 0 ? rows : size, corpus != null ? corpus.arrays(lengths, i)[0] : Util.randomArray(size));
         }
 
         for ( final Profiler p : profilers ) {
@@ -85,6 +105,59 @@ public class Benchmark {
     }
   }
 
+  /**
+   * Has every specified engine compute all pairwise distances of random string sets and
+   * records throughput in pairs per second.
+   * @param engines The engines to profile
+   * @param targetDir Directory to write results and distance matrices into
+   * @throws IOException In case of problems writing results to file
+   */
+  private static void profileAllPairs(final List<AllPairs> engines, final File targetDir) throws IOException {
+    System.out.println("Starting all-pairs profiling on " + pairCounts.length * inputsPerSize + " inputs, each " + runsPerInput + " times per engine.");
+
+    final File matrix = new File(targetDir.getAbsolutePath() + System.getProperty("file.separator") + "allpairs");
+    final Map<AllPairs, BufferedWriter> targets = new HashMap<AllPairs, BufferedWriter>();
+    for ( final AllPairs e : engines ) {
+      targets.put(e, new BufferedWriter(new FileWriter(new File(targetDir.getAbsolutePath() + System.getProperty("file.separator") +
+                                                                "raw" + System.getProperty("file.separator") + e.toString()))));
+    }
+
+    try {
+      for ( final int n : pairCounts ) {
+        final long pairs = (long)n * (n - 1) / 2;
+
+        for ( int i=0; i<inputsPerSize; i++ ) {
+          final String[] strings = new String[n];
+          for ( int j=0; j<n; j++ ) {
+            strings[j] = Util.randomString(pairLength);
+          }
+
+          for ( final AllPairs e : engines ) {
+            final StringBuilder res = new StringBuilder("" + n);
+            for ( int r=0; r<runsPerInput; r++ ) {
+              System.gc();
+              final long start = System.currentTimeMillis();
+              e.compute(strings, matrix);
+              final long end = System.currentTimeMillis();
+              res.append(",").append(pairs * 1000 / Math.max(1, end - start));
+            }
+
+            targets.get(e).write(res.toString());
+            targets.get(e).newLine();
+            targets.get(e).flush();
+          }
+        }
+        System.out.println("Inputs of size " + n + " done.");
+      }
+    }
+    finally {
+      for ( final BufferedWriter w : targets.values() ) {
+        w.close();
+      }
+      matrix.delete();
+    }
+  }
+
   public static void main(final String[] args) {
     Logger.getLogger(AffinityLock.class.getName()).setLevel(Level.SEVERE);
 
@@ -103,6 +176,12 @@ public class Benchmark {
       else if ( arg.startsWith("-r=") ) {
         key = "rows";
       }
+      else if ( arg.startsWith("-s=") ) {
+        key = "seed";
+      }
+      else if ( arg.startsWith("-i=") ) {
+        key = "corpus";
+      }
 
       if ( key != null ) {
         ARGS.put(key, arg.substring(3));
@@ -119,8 +198,21 @@ public class Benchmark {
     }
     System.out.println("Writing to '" + targetDir.getAbsolutePath() + "'");
 
+    if ( ARGS.containsKey("seed") ) {
+      try {
+        Long.parseLong(ARGS.get("seed"));
+      }
+      catch ( NumberFormatException e ) {
+        System.err.println("Invalid seed " + ARGS.get("seed"));
+        System.exit(1);
+      }
+      if ( !ARGS.containsKey("corpus") ) {
+        ARGS.put("corpus", targetDir.getAbsolutePath() + System.getProperty("file.separator") + "corpus");
+      }
+    }
+
     // Use default CPU number that ignores hyperthreading
-    int cpuCount = AffinityLock.cpuLayout().sockets() * AffinityLock.cpuLayout().coresPerSocket();
+    int cpuCount = Util.physicalCores();
     if ( ARGS.containsKey("processors") ) {
       try {
         cpuCount = Integer.parseInt(ARGS.get("processors"));
@@ -142,29 +234,43 @@ public class Benchmark {
       System.exit(1);
     }
     try {
-      profilers.add(new Profiler(profileDir, new RowFill()));
-
-      for ( int p=1; p<=cpuCount; p++ ) {
-        if ( "DF".equals(ARGS.get("case")) ) {
-          //profilers.add(new Profiler(profileDir, new CellCheck(p)));
-          //profilers.add(new Profiler(profileDir, new CellCheckSleep(p)));
-          //profilers.add(new Profiler(profileDir, new CellCheckWait(p)));
+      final List<AllPairs> engines = new ArrayList<AllPairs>();
+      if ( "AP".equals(ARGS.get("case")) ) {
+        for ( int p=1; p<=cpuCount; p++ ) {
+          engines.add(new AllPairs(p, -1));
         }
+        System.out.println(engines.size() + " engines created.");
+      }
+      else {
+        profilers.add(new Profiler(profileDir, new RowFill()));
 
-        for ( final int k : blockSizes ) {
+        for ( int p=1; p<=cpuCount; p++ ) {
           if ( "DF".equals(ARGS.get("case")) ) {
-            profilers.add(new Profiler(profileDir, new BlockCheck(p, k)));
-            profilers.add(new Profiler(profileDir, new BlockCheckSleep(p, k)));
-            profilers.add(new Profiler(profileDir, new BlockCheckWait(p, k)));
-            profilers.add(new Profiler(profileDir, new ColumnBlock(p, k, k)));
-            profilers.add(new Profiler(profileDir, new ColumnBlock(p, k)));
+            //profilers.add(new Profiler(profileDir, new CellCheck(p)));
+            //profilers.add(new Profiler(profileDir, new CellCheckSleep(p)));
+            //profilers.add(new Profiler(profileDir, new CellCheckWait(p)));
+            profilers.add(new Profiler(profileDir, new QuadrantSplit(p)));
           }
-          else {
-            profilers.add(new Profiler(profileDir, new RowSplit(p, k)));
+
+          for ( final int k : blockSizes ) {
+            if ( "DF".equals(ARGS.get("case")) ) {
+              profilers.add(new Profiler(profileDir, new BlockCheck(p, k)));
+              profilers.add(new Profiler(profileDir, new BlockCheckSleep(p, k)));
+              profilers.add(new Profiler(profileDir, new BlockCheckWait(p, k)));
+              profilers.add(new Profiler(profileDir, new ColumnBlock(p, k, k)));
+              profilers.add(new Profiler(profileDir, new ColumnBlock(p, k)));
+              profilers.add(new Profiler(profileDir, new AspectAware(p, k)));
+              profilers.add(new Profiler(profileDir, new TileFlow(p, k)));
+            }
+            else {
+              profilers.add(new Profiler(profileDir, new RowSplit(p, k)));
+              profilers.add(new Profiler(profileDir, new TrapezoidSplit(p, k)));
+              profilers.add(new Profiler(profileDir, new RowSplitNeighbours(p, k)));
+            }
           }
         }
+        System.out.println(profilers.size() + " profilers created.");
       }
-      System.out.println(profilers.size() + " profilers created.");
 
       // Log some system metadata
       final BufferedWriter w = new BufferedWriter(new FileWriter(new File(targetDir.getAbsolutePath() + System.getProperty("file.separator") + "meta")));
@@ -182,7 +288,12 @@ public class Benchmark {
 
       w.close();
 
-      profile();
+      if ( "AP".equals(ARGS.get("case")) ) {
+        profileAllPairs(engines, targetDir);
+      }
+      else {
+        profile();
+      }
     }
     catch (IOException e) {
       e.printStackTrace();
@@ -52,6 +52,16 @@ public interface DynProgProblem<T> extends Cloneable {
    */
   void compute(int[] i);
 
+  /**
+   * Computes cells {@code [from, to)} of row {@code row} of a two-dimensional table; same as
+   * calling {@link #compute(int[])} on each of them from left to right, but in one call.
+   * Solvers should prefer this in their inner loops.
+   * @param row Row index; {@code 0 <= row < getDimension()[0]} must hold.
+   * @param from First column to compute
+   * @param to Column after the last one to compute; {@code 0 <= from <= to <= getDimension()[1]} must hold.
+   */
+  void computeRange(int row, int from, int to);
+
   /**
    * Throws a runtime error if {@code isSolved() == false}.
    * @return This problem's solution.
@@ -63,6 +73,12 @@ public interface DynProgProblem<T> extends Cloneable {
    */
   boolean isSolved();
 
+  /**
+   * Equal keys imply equal solutions, no matter which solver is used.
+   * @return a key that identifies this problem's inputs.
+   */
+  InputKey getInputKey();
+
   /**
    * @return a clean copy of this problem, i.e. just like before any solver touched it.
    */
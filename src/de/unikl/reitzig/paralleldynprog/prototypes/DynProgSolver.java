@@ -26,6 +26,10 @@ public interface DynProgSolver {
   /**
    * Solves an unsolved dynamic programming problem. Does nothing if the specified
    * problem is already solved.
+   * <p/>
+   * If the calling thread is interrupted, implementations stop all their workers promptly
+   * and return with the interrupt status set. The problem is then left partially solved;
+   * all cells computed so far are correct, so it can be passed to {@code solve} again.
    * @param problem The problem to be solved.
    */
   void solve(DynProgProblem<?> problem);
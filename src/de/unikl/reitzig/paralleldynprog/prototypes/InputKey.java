@@ -0,0 +1,70 @@
+/*
+ * This file is part of Parallel Dynamic Programming Implementation Prototype (PDPIP).
+ *
+ * PDPIP is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDPIP is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDPIP.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unikl.reitzig.paralleldynprog.prototypes;
+
+import java.util.Arrays;
+
+/**
+ * Identifies the inputs of a {@link DynProgProblem} by content, e.g. to recognise
+ * repeated instances. Two keys are equal iff they stem from the same problem class and their
+ * parts are deeply equal; arrays are compared element-wise.
+ * <p/>
+ * The hash is computed once on creation, so parts must not be changed afterwards.
+ *
+ * @author agent, 10.2026
+ */
+public final class InputKey {
+  private final Class<?> type;
+  private final Object[] parts;
+  private final int hash;
+
+  /**
+   * Creates a new instance
+   * @param type Class of the problem the key belongs to
+   * @param parts Everything that determines the problem's solution
+   */
+  public InputKey(final Class<?> type, final Object... parts) {
+    assert type != null && parts != null : "null parameter";
+    this.type = type;
+    this.parts = parts;
+    this.hash = 31 * type.hashCode() + Arrays.deepHashCode(parts);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if ( this == o ) {
+      return true;
+    }
+    else if ( !(o instanceof InputKey) ) {
+      return false;
+    }
+
+    final InputKey other = (InputKey)o;
+    return hash == other.hash && type == other.type && Arrays.deepEquals(parts, other.parts);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    return type.getSimpleName() + "#" + Integer.toHexString(hash);
+  }
+}
@@ -0,0 +1,44 @@
+/*
+ * This file is part of Parallel Dynamic Programming Implementation Prototype (PDPIP).
+ *
+ * PDPIP is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDPIP is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDPIP.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unikl.reitzig.paralleldynprog.prototypes;
+
+/**
+ * Dynamic programming problems over the intervals of a sequence, e.g. matrix chain ordering,
+ * CYK parsing or optimal binary search trees. Cell {@code (i,j)} with {@code i <= j} stands for
+ * interval {@code [i,j]} and depends on the cells of all its proper subintervals, i.e. on
+ * cells {@code (i,k)} and {@code (k,j)}; computing it takes time linear in its length.
+ * <p/>
+ * The table is {@code n x n} but only its upper triangle is used; cells {@code (i,j)} with
+ * {@code i > j} count as computed and are never computed. Since cells depend on rows below
+ * them, these problems have to be solved by interval length, e.g. by
+ * {@link de.unikl.reitzig.paralleldynprog.prototypes.solvers.DiagonalSweep}, not row by row.
+ *
+ * @param <T> Solution type of this problem
+ * @author agent, 10.2026
+ */
+public interface IntervalProblem<T> extends DynProgProblem<T> {
+  /**
+   * Computes the cells of intervals of length {@code length} starting at {@code from} up to
+   * (excluding) {@code to}, i.e. cells {@code (i, i+length-1)} for {@code from <= i < to}.
+   * All shorter intervals have to be computed already.
+   * @param length Interval length; {@code 1 <= length <= n} must hold.
+   * @param from First interval start
+   * @param to Interval start after the last one; {@code 0 <= from <= to <= n - length + 1} must hold.
+   */
+  void computeDiagonal(int length, int from, int to);
+}
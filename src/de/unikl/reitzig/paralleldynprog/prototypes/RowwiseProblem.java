@@ -0,0 +1,52 @@
+/*
+ * This file is part of Parallel Dynamic Programming Implementation Prototype (PDPIP).
+ *
+ * PDPIP is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDPIP is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDPIP.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unikl.reitzig.paralleldynprog.prototypes;
+
+/**
+ * Two-dimensional dynamic programming problems whose cells depend only on cells in the previous
+ * row, within a column window given per row. This includes data-dependent, long-range offsets
+ * such as in knapsack problems.
+ * <p/>
+ * Problems may keep only the most recent rows in memory; {@link #isComputed(int[])} is only
+ * meaningful for cells in the {@link #rowsKept()} most recent rows, and a row may only be
+ * computed once no cell of the row about to be overwritten is still needed.
+ *
+ * @param <T> Solution type of this problem
+ * @author agent, 10.2026
+ */
+public interface RowwiseProblem<T> extends DynProgProblem<T> {
+  /**
+   * @param i Row index; {@code 0 < i < getDimension()[0]} must hold.
+   * @return {@code l} so that cell {@code (i,j)} depends on no cell {@code (i-1,j')} with
+   *         {@code j' < j - l}
+   */
+  int reachLeft(int i);
+
+  /**
+   * @param i Row index; {@code 0 < i < getDimension()[0]} must hold.
+   * @return {@code r} so that cell {@code (i,j)} depends on no cell {@code (i-1,j')} with
+   *         {@code j' > j + r}
+   */
+  int reachRight(int i);
+
+  /**
+   * Computing row {@code i} may overwrite row {@code i - rowsKept()}.
+   * @return Number of rows kept in memory; at least {@code min(2, getDimension()[0])}.
+   */
+  int rowsKept();
+}
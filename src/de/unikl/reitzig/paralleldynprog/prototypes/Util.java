@@ -22,7 +22,13 @@ import vanilla.java.affinity.AffinityStrategy;
 import vanilla.java.affinity.AffinityThreadFactory;
 import vanilla.java.affinity.CpuLayout;
 
+import java.util.Collection;
 import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Provides some methods of general use.
@@ -60,6 +66,73 @@ public class Util {
     return numbers;
   }
 
+  /**
+   * @return the number of physical cores, i.e. ignoring hyperthreading.
+   */
+  public static int physicalCores() {
+    return AffinityLock.cpuLayout().sockets() * AffinityLock.cpuLayout().coresPerSocket();
+  }
+
+  /**
+   * Waits until all workers have counted down {@code endGate}. If the calling thread is
+   * interrupted meanwhile, the workers are interrupted and awaited regardless, so that they
+   * have released their affinity locks when this method returns. The caller's interrupt
+   * status is restored in that case.
+   * @param endGate Latch every worker counts down when it is done
+   * @param workers Threads that count down {@code endGate}
+   * @return {@code true} iff the caller has not been interrupted.
+   */
+  public static boolean awaitWorkers(final CountDownLatch endGate, final Collection<Thread> workers) {
+    assert endGate != null && workers != null : "null parameter";
+
+    try {
+      endGate.await();
+      return true;
+    }
+    catch ( InterruptedException e ) {
+      for ( final Thread t : workers ) {
+        t.interrupt();
+      }
+
+      boolean done = false;
+      while ( !done ) {
+        try {
+          endGate.await();
+          done = true;
+        }
+        catch ( InterruptedException ignored ) {}
+      }
+
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  /**
+   * Shuts down the specified pool and waits until all its threads have terminated, even if
+   * the calling thread is interrupted meanwhile. The caller's interrupt status is preserved.
+   * @param pool The pool to shut down
+   */
+  public static void shutdownAndAwait(final ExecutorService pool) {
+    assert pool != null : "null parameter";
+    pool.shutdown();
+
+    boolean interrupted = false;
+    boolean done = false;
+    while ( !done ) {
+      try {
+        done = pool.awaitTermination(1, TimeUnit.SECONDS);
+      }
+      catch ( InterruptedException e ) {
+        interrupted = true;
+      }
+    }
+
+    if ( interrupted ) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
   public static final AffinityStrategy SAME_SOCKET_DIFFERENT_CORE = new AffinityStrategy() {
     @Override
     public boolean matches(int cpuId, int cpuId2) {
@@ -100,4 +173,34 @@ public class Util {
       return t;
     }
   }
+
+  /**
+   * Creates fork/join worker threads that hold an affinity lock while they live, i.e. the
+   * counterpart of {@link AffinityFactory} for {@link ForkJoinPool}s.
+   */
+  public static class AffinityForkJoinFactory implements ForkJoinPool.ForkJoinWorkerThreadFactory {
+    @Override
+    public ForkJoinWorkerThread newThread(final ForkJoinPool pool) {
+      final ForkJoinWorkerThread t = new ForkJoinWorkerThread(pool) {
+        private AffinityLock lock;
+
+        @Override
+        protected void onStart() {
+          super.onStart();
+          lock = AffinityLock.acquireLock();
+        }
+
+        @Override
+        protected void onTermination(final Throwable exception) {
+          if ( lock != null ) {
+            lock.release();
+          }
+          super.onTermination(exception);
+        }
+      };
+      t.setPriority(Thread.MAX_PRIORITY);
+
+      return t;
+    }
+  }
 }
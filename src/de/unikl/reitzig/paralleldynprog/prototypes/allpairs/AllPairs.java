@@ -0,0 +1,265 @@
+/*
+ * This file is part of Parallel Dynamic Programming Implementation Prototype (PDPIP).
+ *
+ * PDPIP is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDPIP is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDPIP.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unikl.reitzig.paralleldynprog.prototypes.allpairs;
+
+import de.unikl.reitzig.paralleldynprog.prototypes.Util;
+import de.unikl.reitzig.paralleldynprog.prototypes.problems.EditDistance;
+import vanilla.java.affinity.AffinityThreadFactory;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static vanilla.java.affinity.AffinityStrategies.ANY;
+import static vanilla.java.affinity.AffinityStrategies.DIFFERENT_CORE;
+
+/**
+ * Computes the edit distances (as by {@link EditDistance}) between all pairs of a set of strings
+ * and writes them to disk.
+ * <p/>
+ * The pair matrix is cut into tiles of {@code b x b} pairs, which workers claim in row-major
+ * order, so that consecutive tiles share their row strings. Every worker computes distances in
+ * linear space with a pair of scratch rows it allocates once, and writes each finished tile
+ * directly to its place in a temporary file next to the target, which replaces the target
+ * once all tiles are written.
+ * <p/>
+ * File format (big endian): magic number {@link #MAGIC}, format version {@link #VERSION} and
+ * the number of strings {@code n}, all {@code int}s, followed by the {@code n(n-1)/2} distances
+ * of pairs {@code i < j} as {@code int}s in row-major order.
+ *
+ * @author agent, 10.2026
+ */
+public class AllPairs {
+  public static final int MAGIC = 0x50445041;
+  public static final int VERSION = 1;
+  private static final int HEADER = 3 * 4;
+
+  private final int p;
+  private final int blockSize;
+
+  /**
+   * Creates a new instance
+   *
+   * @param p The number of workers this engine will use. Has to be positive.
+   * @param b Number of strings per tile side. Passing a value less or equal to {@code 0} will
+   *          result in {@code 32} being used.
+   */
+  public AllPairs(final int p, final int b) {
+    assert p > 0 : "Invalid worker count";
+    this.p = p;
+    this.blockSize = b;
+  }
+
+  /**
+   * Creates a new instance that uses all processors and tiles of {@code 32 x 32} pairs.
+   */
+  public AllPairs() {
+    this(Runtime.getRuntime().availableProcessors(), -1);
+  }
+
+  /**
+   * @param n Number of strings
+   * @param i Index of the first string
+   * @param j Index of the second string; requires {@code i < j < n}
+   * @return Position of the distance of the specified pair in a result file.
+   */
+  static long offset(final int n, final int i, final int j) {
+    assert 0 <= i && i < j && j < n : "invalid pair";
+    return HEADER + 4L * ((long)i * n - (long)i * (i + 1) / 2 + (j - i - 1));
+  }
+
+  /**
+   * Computes all pairwise distances and writes them to the specified file.
+   * @param strings The strings to compare; none may be empty.
+   * @param target File to write to; is overwritten once all distances are computed.
+   * @throws InterruptedIOException If the calling thread is interrupted; {@code target} is
+   *                                left untouched and the interrupt flag stays set.
+   * @throws IOException In case of problems writing {@code target}
+   */
+  public void compute(final String[] strings, final File target) throws IOException {
+    assert strings != null && target != null : "null parameter";
+
+    final int n = strings.length;
+    final int b = blockSize > 0 ? blockSize : 32;
+    final int blocks = (n + b - 1) / b;
+    final char[][] chars = new char[n][];
+    int maxLength = 1;
+    for ( int i=0; i<n; i++ ) {
+      chars[i] = strings[i].toCharArray();
+      maxLength = Math.max(maxLength, chars[i].length);
+    }
+    final int rowLength = maxLength;
+
+    final File tmp = new File(target.getPath() + ".tmp");
+    final RandomAccessFile file = new RandomAccessFile(tmp, "rw");
+    boolean complete = false;
+    try {
+      final FileChannel channel = file.getChannel();
+      file.setLength(n > 1 ? offset(n, n - 2, n - 1) + 4 : HEADER);
+
+      // Tiles (I,J) with I <= J in row-major order
+      final int tiles = blocks * (blocks + 1) / 2;
+      final AtomicInteger next = new AtomicInteger(0);
+      final AtomicInteger written = new AtomicInteger(0);
+      final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+      final CountDownLatch endGate = new CountDownLatch(p);
+
+      final AffinityThreadFactory factory = new Util.AffinityFactory(this + ".Worker", Util.SAME_SOCKET_DIFFERENT_CORE, DIFFERENT_CORE, ANY);
+      final List<Thread> workers = new ArrayList<Thread>(p);
+
+      for ( int w=0; w<p; w++ ) {
+        final Thread t = factory.newThread(new Runnable() {
+          @Override
+          public void run() {
+            final int[] above = new int[rowLength];
+            final int[] row = new int[rowLength];
+            final ByteBuffer out = ByteBuffer.allocate(4 * b);
+            final IntBuffer outInts = out.asIntBuffer();
+
+            try {
+              int tile;
+              int bi = 0;
+              int seen = 0;
+              while ( (tile = next.getAndIncrement()) < tiles && !Thread.currentThread().isInterrupted() ) {
+                // Find tile row bi, which has blocks - bi tiles, without division
+                while ( tile >= seen + blocks - bi ) {
+                  seen += blocks - bi;
+                  bi++;
+                }
+                final int bj = bi + (tile - seen);
+
+                for ( int i=bi*b; i<Math.min(n, (bi+1)*b); i++ ) {
+                  final int from = Math.max(i + 1, bj*b);
+                  final int to = Math.min(n, (bj+1)*b);
+                  if ( from >= to ) {
+                    continue;
+                  }
+
+                  outInts.clear();
+                  for ( int j=from; j<to; j++ ) {
+                    outInts.put(EditDistance.distance(chars[i], chars[j], above, row));
+                  }
+                  out.clear().limit(4 * (to - from));
+                  write(channel, out, offset(n, i, from));
+                }
+                written.incrementAndGet();
+              }
+            }
+            catch ( Throwable e ) {
+              failure.compareAndSet(null, e);
+            }
+            finally {
+              endGate.countDown();
+            }
+          }
+        });
+        workers.add(t);
+        t.start();
+      }
+
+      Util.awaitWorkers(endGate, workers);
+      if ( Thread.currentThread().isInterrupted() ) {
+        // Interrupted workers may also have closed the channel
+        throw new InterruptedIOException("Interrupted after " + written.get() + " of " + tiles + " tiles");
+      }
+      else if ( failure.get() instanceof IOException ) {
+        throw (IOException)failure.get();
+      }
+      else if ( failure.get() != null ) {
+        throw new RuntimeException("Worker failed in " + this, failure.get());
+      }
+      else if ( written.get() < tiles ) {
+        throw new InterruptedIOException("Interrupted after " + written.get() + " of " + tiles + " tiles");
+      }
+
+      // Header last, so that no file with a valid header lacks distances
+      final ByteBuffer header = ByteBuffer.allocate(HEADER);
+      header.putInt(MAGIC).putInt(VERSION).putInt(n).flip();
+      write(channel, header, 0);
+      complete = true;
+    }
+    catch ( ClosedByInterruptException e ) {
+      final InterruptedIOException res = new InterruptedIOException("Interrupted while writing " + tmp);
+      res.initCause(e);
+      throw res;
+    }
+    finally {
+      file.close();
+      if ( !complete ) {
+        tmp.delete();
+      }
+    }
+
+    if ( (target.exists() && !target.delete()) || !tmp.renameTo(target) ) {
+      throw new IOException("Could not create " + target);
+    }
+  }
+
+  private static void write(final FileChannel channel, final ByteBuffer buffer, final long position) throws IOException {
+    long pos = position;
+    while ( buffer.hasRemaining() ) {
+      pos += channel.write(buffer, pos);
+    }
+  }
+
+  /**
+   * Reads a file written by {@link #compute(String[], File)}.
+   * @param source The file to read
+   * @return The full, symmetric distance matrix.
+   * @throws IOException If the file can not be read or has the wrong format
+   */
+  public static int[][] read(final File source) throws IOException {
+    final DataInputStream file = new DataInputStream(new BufferedInputStream(new FileInputStream(source), 1 << 16));
+    try {
+      if ( file.readInt() != MAGIC || file.readInt() != VERSION ) {
+        throw new IOException(source + " is no distance matrix of version " + VERSION);
+      }
+
+      final int n = file.readInt();
+      final int[][] res = new int[n][n];
+      for ( int i=0; i<n; i++ ) {
+        for ( int j=i+1; j<n; j++ ) {
+          res[i][j] = file.readInt();
+          res[j][i] = res[i][j];
+        }
+      }
+      return res;
+    }
+    finally {
+      file.close();
+    }
+  }
+
+  @Override
+  public String toString() {
+    return this.getClass().getSimpleName() + "[" + p + (blockSize > 0 ? "," + blockSize : "") + "]";
+  }
+}
@@ -0,0 +1,452 @@
+/*
+ * This file is part of Parallel Dynamic Programming Implementation Prototype (PDPIP).
+ *
+ * PDPIP is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDPIP is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDPIP.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unikl.reitzig.paralleldynprog.prototypes.analysis;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Evaluates the raw data {@link de.unikl.reitzig.paralleldynprog.prototypes.Benchmark} writes,
+ * i.e. one file per solver configuration named like {@code BlockCheck[4,100]} with lines
+ * {@code size,t1,t2,...} in milliseconds.
+ * <p/>
+ * Like {@code curate_data.rb}, the smallest and largest {@link #ALPHA} timings of every line
+ * are dropped and the rest are averaged per size. From these averages, speedups (against the
+ * same configuration with {@code p = 1}, and against {@code RowFill[1]}) and efficiencies are
+ * computed.
+ * <p/>
+ * In addition, every solver's timings are fitted to the model
+ * <pre>  T(n, p, k) = a W + b W/p + c S</pre>
+ * with work {@code W = n^2} (square inputs), i.e. Amdahl's law, plus a cost of {@code c} per
+ * synchronisation for {@code S = n B} synchronisations, {@code B} the number of blocks per
+ * row ({@code n/k}, or {@code p} if no block size is set). The fit minimises relative errors.
+ * The model then predicts the best configuration for sizes that have not been measured.
+ *
+ * @author agent, 10.2026
+ */
+public class ScalingReport {
+  /** Number of smallest and largest timings dropped per line */
+  public static final int ALPHA = 1;
+  public static final String SEQUENTIAL = "RowFill";
+
+  /** Value of absent parameters, as in {@code curate_data.rb} */
+  static final int ABSENT = -99;
+
+  private static final Pattern NAME = Pattern.compile("\\A(\\w+)\\[(\\d+)(?:,(-?\\d+))?(?:,(-?\\d+))?\\]\\z");
+
+  /**
+   * A solver with parameters, as encoded in a raw file name.
+   */
+  public static final class Config implements Comparable<Config> {
+    public final String solver;
+    public final int p;
+    public final int k1;
+    public final int k2;
+
+    public Config(final String solver, final int p, final int k1, final int k2) {
+      assert solver != null : "null parameter";
+      this.solver = solver;
+      this.p = p;
+      this.k1 = k1;
+      this.k2 = k2;
+    }
+
+    /**
+     * @param name A raw file name
+     * @return The configuration the name stands for, or {@code null} if it has the wrong format.
+     */
+    public static Config parse(final String name) {
+      final Matcher m = NAME.matcher(name);
+      if ( !m.matches() ) {
+        return null;
+      }
+      return new Config(m.group(1), Integer.parseInt(m.group(2)),
+                        m.group(3) != null ? Integer.parseInt(m.group(3)) : ABSENT,
+                        m.group(4) != null ? Integer.parseInt(m.group(4)) : ABSENT);
+    }
+
+    /**
+     * @return This configuration with {@code p} replaced.
+     */
+    public Config withP(final int p) {
+      return new Config(solver, p, k1, k2);
+    }
+
+    /**
+     * @param n Input size
+     * @return Number of blocks per row this configuration uses for inputs of size {@code n}.
+     */
+    double blocks(final int n) {
+      return k1 > 0 ? Math.ceil((double)n / k1) : p;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if ( !(o instanceof Config) ) {
+        return false;
+      }
+      final Config c = (Config)o;
+      return solver.equals(c.solver) && p == c.p && k1 == c.k1 && k2 == c.k2;
+    }
+
+    @Override
+    public int hashCode() {
+      return Arrays.hashCode(new int[] { solver.hashCode(), p, k1, k2 });
+    }
+
+    @Override
+    public int compareTo(final Config o) {
+      int res = solver.compareTo(o.solver);
+      res = res != 0 ? res : Integer.compare(p, o.p);
+      res = res != 0 ? res : Integer.compare(k1, o.k1);
+      return res != 0 ? res : Integer.compare(k2, o.k2);
+    }
+
+    @Override
+    public String toString() {
+      return solver + "[" + p + (k1 != ABSENT ? "," + k1 : "") + (k2 != ABSENT ? "," + k2 : "") + "]";
+    }
+  }
+
+  /**
+   * Fitted coefficients of the scaling model for one solver.
+   */
+  public static final class Model {
+    public final String solver;
+    public final double serial;
+    public final double parallel;
+    public final double sync;
+
+    Model(final String solver, final double serial, final double parallel, final double sync) {
+      this.solver = solver;
+      this.serial = serial;
+      this.parallel = parallel;
+      this.sync = sync;
+    }
+
+    /**
+     * @param c Configuration of {@link #solver}
+     * @param n Input size
+     * @return Predicted running time in milliseconds
+     */
+    public double predict(final Config c, final int n) {
+      final double[] x = terms(c, n);
+      return serial * x[0] + parallel * x[1] + sync * x[2];
+    }
+
+    @Override
+    public String toString() {
+      return solver + " : T = " + serial + " W + " + parallel + " W/p + " + sync + " S";
+    }
+  }
+
+  private final SortedMap<Config, SortedMap<Integer, Double>> times;
+
+  ScalingReport(final SortedMap<Config, SortedMap<Integer, Double>> times) {
+    this.times = times;
+  }
+
+  /**
+   * Reads all raw files in a directory; files with other names are skipped.
+   * @param raw The directory to read
+   * @return A report on the files' contents
+   * @throws IOException In case of problems reading files
+   */
+  public static ScalingReport read(final File raw) throws IOException {
+    final File[] files = raw.listFiles();
+    if ( files == null ) {
+      throw new IOException(raw + " is not a directory");
+    }
+
+    final SortedMap<Config, SortedMap<Integer, Double>> times = new TreeMap<Config, SortedMap<Integer, Double>>();
+    for ( final File f : files ) {
+      final Config c = Config.parse(f.getName());
+      if ( c == null || !f.isFile() ) {
+        continue;
+      }
+
+      // Sum and count of kept timings per size
+      final SortedMap<Integer, double[]> acc = new TreeMap<Integer, double[]>();
+      final BufferedReader in = new BufferedReader(new FileReader(f));
+      try {
+        String line;
+        while ( (line = in.readLine()) != null ) {
+          final String[] vals = line.trim().split(",");
+          if ( vals.length < 2 ) {
+            continue;
+          }
+
+          final int size = Integer.parseInt(vals[0].trim());
+          final long[] t = new long[vals.length - 1];
+          for ( int i=0; i<t.length; i++ ) {
+            t[i] = Long.parseLong(vals[i+1].trim());
+          }
+          Arrays.sort(t);
+
+          double[] a = acc.get(size);
+          if ( a == null ) {
+            a = new double[2];
+            acc.put(size, a);
+          }
+          for ( int i=ALPHA; i<t.length-ALPHA; i++ ) {
+            a[0] += t[i];
+            a[1]++;
+          }
+        }
+      }
+      finally {
+        in.close();
+      }
+
+      final SortedMap<Integer, Double> avg = new TreeMap<Integer, Double>();
+      for ( final Map.Entry<Integer, double[]> e : acc.entrySet() ) {
+        if ( e.getValue()[1] > 0 ) {
+          avg.put(e.getKey(), e.getValue()[0] / e.getValue()[1]);
+        }
+      }
+      times.put(c, avg);
+    }
+
+    return new ScalingReport(times);
+  }
+
+  /**
+   * @return All configurations with data, sorted
+   */
+  public List<Config> configs() {
+    return new ArrayList<Config>(times.keySet());
+  }
+
+  /**
+   * @return All solver names with data, sorted
+   */
+  public List<String> solvers() {
+    final TreeSet<String> res = new TreeSet<String>();
+    for ( final Config c : times.keySet() ) {
+      res.add(c.solver);
+    }
+    return new ArrayList<String>(res);
+  }
+
+  /**
+   * @return Average running time in milliseconds, or {@code NaN} if there is no data.
+   */
+  public double time(final Config c, final int n) {
+    final SortedMap<Integer, Double> t = times.get(c);
+    return t != null && t.containsKey(n) ? t.get(n) : Double.NaN;
+  }
+
+  /**
+   * @return Speedup of {@code c} against the same configuration with one worker, or {@code NaN}.
+   */
+  public double speedup(final Config c, final int n) {
+    return time(c.withP(1), n) / time(c, n);
+  }
+
+  /**
+   * @return Speedup of {@code c} against {@code RowFill[1]}, or {@code NaN}.
+   */
+  public double realSpeedup(final Config c, final int n) {
+    return time(new Config(SEQUENTIAL, 1, ABSENT, ABSENT), n) / time(c, n);
+  }
+
+  /**
+   * @return {@code speedup(c, n) / p}
+   */
+  public double efficiency(final Config c, final int n) {
+    return speedup(c, n) / c.p;
+  }
+
+  /**
+   * @return Values of the model's terms {@code W}, {@code W/p} and {@code S}.
+   */
+  static double[] terms(final Config c, final int n) {
+    final double w = (double)n * n;
+    return new double[] { w, w / c.p, n * c.blocks(n) };
+  }
+
+  /**
+   * Fits the scaling model to all data of one solver.
+   * @param solver Name of a solver with data
+   * @return The fitted model, or {@code null} if there is too little data.
+   */
+  public Model fit(final String solver) {
+    // Normal equations of weighted least squares; weights 1/T^2 minimise relative errors
+    final double[][] a = new double[3][4];
+    int points = 0;
+    for ( final Map.Entry<Config, SortedMap<Integer, Double>> e : times.entrySet() ) {
+      if ( !e.getKey().solver.equals(solver) ) {
+        continue;
+      }
+
+      for ( final Map.Entry<Integer, Double> m : e.getValue().entrySet() ) {
+        if ( m.getValue() <= 0 ) {
+          continue;
+        }
+
+        final double[] x = terms(e.getKey(), m.getKey());
+        final double wt = 1 / (m.getValue() * m.getValue());
+        for ( int i=0; i<3; i++ ) {
+          for ( int j=0; j<3; j++ ) {
+            a[i][j] += wt * x[i] * x[j];
+          }
+          a[i][3] += wt * x[i] * m.getValue();
+        }
+        points++;
+      }
+    }
+
+    final double[] coeff = points >= 3 ? solve(a) : null;
+    return coeff != null ? new Model(solver, coeff[0], coeff[1], coeff[2]) : null;
+  }
+
+  /**
+   * Solves a 3x3 linear system by Gaussian elimination with partial pivoting.
+   * @param a Augmented matrix; is changed
+   * @return The solution, or {@code null} if the system is singular.
+   */
+  static double[] solve(final double[][] a) {
+    final int n = a.length;
+    for ( int c=0; c<n; c++ ) {
+      int pivot = c;
+      for ( int r=c+1; r<n; r++ ) {
+        if ( Math.abs(a[r][c]) > Math.abs(a[pivot][c]) ) {
+          pivot = r;
+        }
+      }
+      if ( Math.abs(a[pivot][c]) < 1e-300 ) {
+        return null;
+      }
+      final double[] tmp = a[c]; a[c] = a[pivot]; a[pivot] = tmp;
+
+      for ( int r=0; r<n; r++ ) {
+        if ( r != c ) {
+          final double f = a[r][c] / a[c][c];
+          for ( int j=c; j<=n; j++ ) {
+            a[r][j] -= f * a[c][j];
+          }
+        }
+      }
+    }
+
+    final double[] res = new double[n];
+    for ( int i=0; i<n; i++ ) {
+      res[i] = a[i][n] / a[i][i];
+    }
+    return res;
+  }
+
+  /**
+   * Predicts the fastest configuration of a solver for an input size, trying every
+   * {@code p <= maxP} with every block size that has been measured for the solver.
+   * @param solver Name of a solver with data
+   * @param n Input size
+   * @param maxP Largest number of workers available
+   * @return The fastest configuration, or {@code null} if the model can not be fitted.
+   */
+  public Config best(final String solver, final int n, final int maxP) {
+    final Model m = fit(solver);
+    if ( m == null ) {
+      return null;
+    }
+
+    Config res = null;
+    double min = Double.POSITIVE_INFINITY;
+    for ( final Config c : times.keySet() ) {
+      if ( !c.solver.equals(solver) ) {
+        continue;
+      }
+
+      for ( int p=1; p<=maxP; p++ ) {
+        final double t = m.predict(c.withP(p), n);
+        if ( t < min ) {
+          min = t;
+          res = c.withP(p);
+        }
+      }
+    }
+    return res;
+  }
+
+  /**
+   * Writes a table of all measurements with speedups and efficiencies, followed by the
+   * fitted models.
+   * @param out Target
+   */
+  public void write(final PrintWriter out) {
+    out.println("config,size,time,speedup,realspeedup,efficiency");
+    for ( final Map.Entry<Config, SortedMap<Integer, Double>> e : times.entrySet() ) {
+      for ( final int n : e.getValue().keySet() ) {
+        final Config c = e.getKey();
+        out.println(c + "," + n + "," + time(c, n) + "," + speedup(c, n) + "," + realSpeedup(c, n) + "," + efficiency(c, n));
+      }
+    }
+
+    out.println();
+    for ( final String s : solvers() ) {
+      final Model m = fit(s);
+      out.println(m != null ? m.toString() : s + " : too little data");
+    }
+    out.flush();
+  }
+
+  /**
+   * Prints a report on a benchmark result directory.
+   * @param args Result directory (the one containing {@code raw}) and, optionally, an input
+   *             size and a maximum number of workers to predict the best configurations for.
+   */
+  public static void main(final String[] args) throws IOException {
+    if ( args.length == 0 ) {
+      System.err.println("Usage: ScalingReport <result directory> [<size> <max p>]");
+      System.exit(1);
+    }
+
+    final ScalingReport report = read(new File(args[0], "raw"));
+    final PrintWriter out = new PrintWriter(System.out);
+    report.write(out);
+
+    if ( args.length >= 3 ) {
+      final int n = Integer.parseInt(args[1]);
+      final int maxP = Integer.parseInt(args[2]);
+      final List<String> solvers = report.solvers();
+      Collections.sort(solvers);
+
+      out.println();
+      for ( final String s : solvers ) {
+        final Config c = report.best(s, n, maxP);
+        if ( c != null ) {
+          out.println("Best for size " + n + " : " + c + " at about " + Math.round(report.fit(s).predict(c, n)) + "ms");
+        }
+      }
+      out.flush();
+    }
+  }
+}
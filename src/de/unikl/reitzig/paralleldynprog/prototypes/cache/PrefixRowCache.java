@@ -0,0 +1,204 @@
+/*
+ * This file is part of Parallel Dynamic Programming Implementation Prototype (PDPIP).
+ *
+ * PDPIP is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDPIP is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDPIP.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unikl.reitzig.paralleldynprog.prototypes.cache;
+
+import de.unikl.reitzig.paralleldynprog.prototypes.problems.EditDistance;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Answers edit distance queries of many candidates against one fixed reference, i.e. computes
+ * what {@code new EditDistance(candidate, reference).getSolution()} would return.
+ * <p/>
+ * Row {@code i} of such a table only depends on the first {@code i+1} symbols of the candidate,
+ * so computed rows are stored in a trie keyed by candidate prefixes. A query resumes from the
+ * deepest cached row on its path and adds rows for the rest. Hence, querying candidates sorted
+ * by prefix costs about as many rows as the trie has nodes, instead of the sum of all lengths.
+ * <p/>
+ * Rows are evicted least recently used first once they exceed the memory budget. Queries
+ * touch rows bottom-up, so ancestors are always more recent than their descendants and only
+ * leaves are ever evicted.
+ *
+ * @author agent, 10.2026
+ */
+public class PrefixRowCache {
+  /** Rough per-node overhead of trie, LRU list and array headers in bytes. */
+  private static final int NODE_OVERHEAD = 128;
+
+  private final char[] reference;
+  private final long budget;
+  private final Node root;
+  private final LinkedHashMap<Node, Node> lru = new LinkedHashMap<Node, Node>(16, 0.75f, true);
+  private long computedRows = 0;
+  private long evictedRows = 0;
+
+  /**
+   * Creates a new instance
+   * @param reference The fixed second string of all queries; must not be empty
+   * @param budget Maximum number of bytes cached rows may occupy (approximately). At least one
+   *               row is always kept.
+   */
+  public PrefixRowCache(final String reference, final long budget) {
+    assert reference != null && reference.length() > 0 : "invalid reference";
+    this.reference = reference.toCharArray();
+    this.budget = budget;
+    this.root = new Node(null, '\0', new int[this.reference.length]);
+    EditDistance.computeRow(0, '\0', this.reference, null, root.row);
+  }
+
+  /**
+   * @return Approximate size of a cached row in bytes.
+   */
+  long rowBytes() {
+    return 4L * reference.length + NODE_OVERHEAD;
+  }
+
+  /**
+   * @param candidate First string; must not be empty
+   * @return Same as {@code new EditDistance(candidate, reference).getSolution()} after solving
+   */
+  public synchronized int distance(final String candidate) {
+    assert candidate != null && candidate.length() > 0 : "invalid candidate";
+
+    // Row 0 does not depend on the candidate, so the key starts at its second symbol
+    Node node = root;
+    int i = 1;
+    while ( i < candidate.length() ) {
+      final Node child = node.child(candidate.charAt(i));
+      if ( child == null ) {
+        break;
+      }
+      node = child;
+      i++;
+    }
+
+    for ( ; i<candidate.length(); i++ ) {
+      final int[] row = new int[reference.length];
+      EditDistance.computeRow(i, candidate.charAt(i), reference, node.row, row);
+      computedRows++;
+      node = node.add(candidate.charAt(i), row);
+    }
+
+    final int res = node.row[reference.length - 1];
+
+    for ( Node n = node; n != root; n = n.parent ) {
+      lru.put(n, n);
+    }
+    evict();
+
+    return res;
+  }
+
+  /**
+   * Answers many queries, in prefix order.
+   * @param candidates First strings; must not be empty
+   * @return {@code res[i] == distance(candidates[i])}
+   */
+  public synchronized int[] distances(final String[] candidates) {
+    assert candidates != null : "null parameter";
+
+    final Integer[] order = new Integer[candidates.length];
+    for ( int i=0; i<order.length; i++ ) {
+      order[i] = i;
+    }
+    Arrays.sort(order, new Comparator<Integer>() {
+      @Override
+      public int compare(final Integer i, final Integer j) {
+        return candidates[i].compareTo(candidates[j]);
+      }
+    });
+
+    final int[] res = new int[candidates.length];
+    for ( final int i : order ) {
+      res[i] = distance(candidates[i]);
+    }
+    return res;
+  }
+
+  private void evict() {
+    final long keep = Math.max(1, budget / rowBytes());
+    final Iterator<Node> it = lru.keySet().iterator();
+    while ( lru.size() > keep ) {
+      final Node eldest = it.next();
+      assert eldest.children == null || eldest.children.isEmpty() : "evicting inner node";
+      it.remove();
+      eldest.parent.children.remove(eldest.symbol);
+      evictedRows++;
+    }
+  }
+
+  /**
+   * @return Number of rows currently cached, not counting row 0.
+   */
+  public synchronized int getCachedRows() {
+    return lru.size();
+  }
+
+  /**
+   * @return Number of rows computed so far.
+   */
+  public synchronized long getComputedRows() {
+    return computedRows;
+  }
+
+  /**
+   * @return Number of rows evicted so far.
+   */
+  public synchronized long getEvictedRows() {
+    return evictedRows;
+  }
+
+  @Override
+  public synchronized String toString() {
+    return this.getClass().getSimpleName() + "[" + new String(reference) + "," + lru.size() + " rows]";
+  }
+
+  /**
+   * Trie node that holds the table row of one candidate prefix.
+   */
+  private static class Node {
+    private final Node parent;
+    private final char symbol;
+    private final int[] row;
+    private Map<Character, Node> children;
+
+    Node(final Node parent, final char symbol, final int[] row) {
+      this.parent = parent;
+      this.symbol = symbol;
+      this.row = row;
+    }
+
+    Node child(final char c) {
+      return children == null ? null : children.get(c);
+    }
+
+    Node add(final char c, final int[] row) {
+      if ( children == null ) {
+        children = new HashMap<Character, Node>(4);
+      }
+      final Node res = new Node(this, c, row);
+      children.put(c, res);
+      return res;
+    }
+  }
+}
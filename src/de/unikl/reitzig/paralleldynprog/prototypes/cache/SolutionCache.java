@@ -0,0 +1,208 @@
+/*
+ * This file is part of Parallel Dynamic Programming Implementation Prototype (PDPIP).
+ *
+ * PDPIP is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDPIP is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDPIP.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unikl.reitzig.paralleldynprog.prototypes.cache;
+
+import de.unikl.reitzig.paralleldynprog.prototypes.DynProgProblem;
+import de.unikl.reitzig.paralleldynprog.prototypes.DynProgSolver;
+import de.unikl.reitzig.paralleldynprog.prototypes.InputKey;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Remembers the solutions of recently solved problems, identified by their
+ * {@link DynProgProblem#getInputKey() input keys}. At most {@code capacity} solutions are kept;
+ * the least recently used one is evicted first.
+ * <p/>
+ * Concurrent requests for the same inputs are deduplicated: only the first one runs the solver,
+ * all others wait for its result.
+ * <p/>
+ * Note that a problem is only solved, i.e. its table filled, on a miss; on a hit, only the
+ * solution is returned.
+ *
+ * @author agent, 10.2026
+ */
+public class SolutionCache {
+  private final DynProgSolver solver;
+  private final int capacity;
+  private final Map<InputKey, Object> solutions;
+  private final ConcurrentHashMap<InputKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<InputKey, CompletableFuture<Object>>();
+
+  private final AtomicLong hits = new AtomicLong(0);
+  private final AtomicLong misses = new AtomicLong(0);
+  private final AtomicLong shared = new AtomicLong(0);
+  private final AtomicLong evictions = new AtomicLong(0);
+
+  /**
+   * Creates a new instance
+   * @param solver Solves problems on misses
+   * @param capacity Maximum number of solutions kept; has to be positive
+   */
+  public SolutionCache(final DynProgSolver solver, final int capacity) {
+    assert solver != null : "null parameter";
+    assert capacity > 0 : "invalid capacity";
+    this.solver = solver;
+    this.capacity = capacity;
+    this.solutions = new LinkedHashMap<InputKey, Object>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(final Map.Entry<InputKey, Object> eldest) {
+        if ( size() > SolutionCache.this.capacity ) {
+          evictions.incrementAndGet();
+          return true;
+        }
+        return false;
+      }
+    };
+  }
+
+  private Object lookup(final InputKey key) {
+    synchronized ( solutions ) {
+      return solutions.get(key);
+    }
+  }
+
+  /**
+   * Returns the solution of the specified problem, solving it only if no solution for the same
+   * inputs is cached or being computed.
+   * @param problem The problem to solve
+   * @return The problem's solution
+   * @throws CancellationException If the calling thread is interrupted while waiting for another
+   *                               thread's computation, or the computation it runs or waits for
+   *                               stops early. The interrupt flag is set iff the calling thread
+   *                               itself was interrupted; threads waiting for a computation that
+   *                               was interrupted in another thread keep theirs cleared.
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T solve(final DynProgProblem<T> problem) {
+    assert problem != null : "null parameter";
+    final InputKey key = problem.getInputKey();
+
+    Object res = lookup(key);
+    if ( res != null ) {
+      hits.incrementAndGet();
+      return (T)res;
+    }
+
+    final CompletableFuture<Object> mine = new CompletableFuture<Object>();
+    final CompletableFuture<Object> running = inFlight.putIfAbsent(key, mine);
+    if ( running != null ) {
+      shared.incrementAndGet();
+      try {
+        return (T)running.get();
+      }
+      catch ( InterruptedException e ) {
+        Thread.currentThread().interrupt();
+        throw new CancellationException("Interrupted while waiting for " + key);
+      }
+      catch ( ExecutionException e ) {
+        throw e.getCause() instanceof RuntimeException ? (RuntimeException)e.getCause()
+                                                       : new RuntimeException(e.getCause());
+      }
+    }
+
+    try {
+      // Another thread may have finished between lookup and registration
+      res = lookup(key);
+      if ( res != null ) {
+        hits.incrementAndGet();
+      }
+      else {
+        misses.incrementAndGet();
+        solver.solve(problem);
+        if ( !problem.isSolved() ) {
+          throw new CancellationException(solver + " stopped before solving " + key);
+        }
+
+        res = problem.getSolution();
+        synchronized ( solutions ) {
+          solutions.put(key, res);
+        }
+      }
+
+      mine.complete(res);
+      return (T)res;
+    }
+    catch ( RuntimeException e ) {
+      mine.completeExceptionally(e);
+      throw e;
+    }
+    catch ( Error e ) {
+      mine.completeExceptionally(e);
+      throw e;
+    }
+    finally {
+      inFlight.remove(key, mine);
+    }
+  }
+
+  /**
+   * Removes all cached solutions; does not reset statistics.
+   */
+  public void clear() {
+    synchronized ( solutions ) {
+      solutions.clear();
+    }
+  }
+
+  /**
+   * @return Number of solutions currently cached
+   */
+  public int size() {
+    synchronized ( solutions ) {
+      return solutions.size();
+    }
+  }
+
+  /**
+   * @return Number of requests answered from the cache
+   */
+  public long getHits() {
+    return hits.get();
+  }
+
+  /**
+   * @return Number of requests that ran the solver
+   */
+  public long getMisses() {
+    return misses.get();
+  }
+
+  /**
+   * @return Number of requests that waited for a concurrent request with the same inputs
+   */
+  public long getShared() {
+    return shared.get();
+  }
+
+  /**
+   * @return Number of solutions evicted so far
+   */
+  public long getEvictions() {
+    return evictions.get();
+  }
+
+  @Override
+  public String toString() {
+    return this.getClass().getSimpleName() + "[" + solver + "," + capacity + "]";
+  }
+}
@@ -0,0 +1,271 @@
+/*
+ * This file is part of Parallel Dynamic Programming Implementation Prototype (PDPIP).
+ *
+ * PDPIP is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDPIP is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDPIP.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unikl.reitzig.paralleldynprog.prototypes.corpus;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Reproducible benchmark inputs. Every input is a file that holds either some strings over
+ * {@code a-z} (for edit distance) or some {@code int} arrays (for the RS dummy), generated from
+ * a seed. The content only depends on seed, kind, lengths and the input's name, never on the
+ * machine or the number of threads generating it, so results from different hosts are
+ * comparable.
+ * <p/>
+ * File format (big endian): magic number {@link #MAGIC}, format version {@link #VERSION} and
+ * kind ({@code 0} for strings, {@code 1} for arrays) as {@code int}s, the seed as {@code long},
+ * the number of parts {@code c} and then {@code c} part lengths as {@code int}s, followed by
+ * the parts. Strings take one byte per symbol, arrays four bytes per entry.
+ * <p/>
+ * Parts are generated in chunks of {@link #CHUNK} entries, each from a random generator of its
+ * own, so large inputs are written in parallel straight into memory-mapped files. Reading
+ * maps files, too.
+ *
+ * @author agent, 10.2026
+ */
+public class Corpus {
+  public static final int MAGIC = 0x50445043;
+  public static final int VERSION = 1;
+  static final int CHUNK = 1 << 20;
+
+  public enum Kind { STRINGS, ARRAYS }
+
+  private final File dir;
+  private final long seed;
+
+  /**
+   * Creates a new instance
+   * @param dir Directory that holds the input files; created on demand
+   * @param seed Seed all inputs are derived from
+   */
+  public Corpus(final File dir, final long seed) {
+    assert dir != null : "null parameter";
+    this.dir = dir;
+    this.seed = seed;
+  }
+
+  /**
+   * @param kind Kind of input
+   * @param lengths Lengths of the parts
+   * @param index Number of the input among those with the same lengths
+   * @return File that holds the specified input
+   */
+  public File file(final Kind kind, final int[] lengths, final int index) {
+    final StringBuilder name = new StringBuilder(kind.name().toLowerCase()).append("_").append(seed);
+    for ( final int l : lengths ) {
+      name.append("_").append(l);
+    }
+    name.append("_").append(index).append(".pdc");
+    return new File(dir, name.toString());
+  }
+
+  /**
+   * Makes sure the specified inputs exist, generating missing ones with {@code p} threads.
+   * @param kind Kind of inputs
+   * @param lengths Lengths of the parts of every input
+   * @param count Number of inputs, i.e. indices {@code 0} to {@code count - 1}
+   * @param p Number of threads to use
+   * @throws IOException In case of problems writing files
+   */
+  public void generate(final Kind kind, final int[] lengths, final int count, final int p) throws IOException {
+    assert kind != null && lengths != null : "null parameter";
+    assert p > 0 : "invalid thread count";
+
+    if ( !dir.isDirectory() && !dir.mkdirs() ) {
+      throw new IOException("Could not create " + dir);
+    }
+
+    final ExecutorService pool = Executors.newFixedThreadPool(p);
+    final List<RandomAccessFile> open = new ArrayList<RandomAccessFile>();
+    final List<Future<?>> chunks = new ArrayList<Future<?>>();
+    final List<File> written = new ArrayList<File>();
+
+    try {
+      for ( int i=0; i<count; i++ ) {
+        final File target = file(kind, lengths, i);
+        if ( target.exists() ) {
+          continue;
+        }
+
+        final File tmp = new File(target.getPath() + ".tmp");
+        final int width = kind == Kind.STRINGS ? 1 : 4;
+        long size = 24 + 4L * lengths.length;
+        for ( final int l : lengths ) {
+          size += (long)width * l;
+        }
+        if ( size > Integer.MAX_VALUE ) {
+          throw new IOException("Input too large for one mapping: " + target);
+        }
+
+        final RandomAccessFile file = new RandomAccessFile(tmp, "rw");
+        open.add(file);
+        written.add(target);
+        file.setLength(size);
+        final MappedByteBuffer buffer = file.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, size);
+
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(kind.ordinal()).putLong(seed).putInt(lengths.length);
+        for ( final int l : lengths ) {
+          buffer.putInt(l);
+        }
+
+        final long inputSeed = mix(mix(seed, target.getName().hashCode()), i);
+        int offset = buffer.position();
+        for ( int part=0; part<lengths.length; part++ ) {
+          for ( int c=0; c*CHUNK<lengths[part]; c++ ) {
+            final int from = c*CHUNK;
+            final int to = Math.min(lengths[part], from + CHUNK);
+            final long chunkSeed = mix(mix(inputSeed, part), c);
+            final int base = offset + width * from;
+            final int range = lengths[part];
+
+            chunks.add(pool.submit(new Runnable() {
+              @Override
+              public void run() {
+                final SplittableRandom random = new SplittableRandom(chunkSeed);
+                if ( kind == Kind.STRINGS ) {
+                  for ( int j=0; j<to-from; j++ ) {
+                    buffer.put(base + j, (byte)('a' + random.nextInt(26)));
+                  }
+                }
+                else {
+                  for ( int j=0; j<to-from; j++ ) {
+                    buffer.putInt(base + 4*j, random.nextInt(2*range) - range);
+                  }
+                }
+              }
+            }));
+          }
+          offset += width * lengths[part];
+        }
+      }
+
+      for ( final Future<?> f : chunks ) {
+        f.get();
+      }
+    }
+    catch ( InterruptedException e ) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while generating inputs", e);
+    }
+    catch ( ExecutionException e ) {
+      throw new IOException("Could not generate inputs", e.getCause());
+    }
+    finally {
+      pool.shutdownNow();
+      for ( final RandomAccessFile f : open ) {
+        f.close();
+      }
+    }
+
+    for ( final File target : written ) {
+      if ( !new File(target.getPath() + ".tmp").renameTo(target) ) {
+        throw new IOException("Could not create " + target);
+      }
+    }
+  }
+
+  /**
+   * Reads an input of strings.
+   * @param lengths Lengths of the parts
+   * @param index Number of the input
+   * @return The strings of the specified input
+   * @throws IOException If the input does not exist or is damaged
+   */
+  public String[] strings(final int[] lengths, final int index) throws IOException {
+    final MappedByteBuffer buffer = map(Kind.STRINGS, lengths, index);
+    final String[] res = new String[lengths.length];
+    for ( int i=0; i<res.length; i++ ) {
+      final byte[] bytes = new byte[lengths[i]];
+      buffer.get(bytes);
+      res[i] = new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+    return res;
+  }
+
+  /**
+   * Reads an input of arrays.
+   * @param lengths Lengths of the parts
+   * @param index Number of the input
+   * @return The arrays of the specified input
+   * @throws IOException If the input does not exist or is damaged
+   */
+  public int[][] arrays(final int[] lengths, final int index) throws IOException {
+    final MappedByteBuffer buffer = map(Kind.ARRAYS, lengths, index);
+    final int[][] res = new int[lengths.length][];
+    for ( int i=0; i<res.length; i++ ) {
+      res[i] = new int[lengths[i]];
+      buffer.asIntBuffer().get(res[i]);
+      buffer.position(buffer.position() + 4 * lengths[i]);
+    }
+    return res;
+  }
+
+  /**
+   * Maps the specified input and checks its header.
+   * @return Buffer positioned at the first part
+   */
+  private MappedByteBuffer map(final Kind kind, final int[] lengths, final int index) throws IOException {
+    final File source = file(kind, lengths, index);
+    final RandomAccessFile file = new RandomAccessFile(source, "r");
+    try {
+      final MappedByteBuffer buffer = file.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, file.length());
+
+      boolean valid =    buffer.getInt() == MAGIC && buffer.getInt() == VERSION
+                      && buffer.getInt() == kind.ordinal() && buffer.getLong() == seed
+                      && buffer.getInt() == lengths.length;
+      for ( int i=0; valid && i<lengths.length; i++ ) {
+        valid = buffer.getInt() == lengths[i];
+      }
+      if ( !valid ) {
+        throw new IOException(source + " is no valid input of version " + VERSION);
+      }
+
+      return buffer;
+    }
+    finally {
+      // The mapping stays valid after closing
+      file.close();
+    }
+  }
+
+  /**
+   * Derives a seed from another seed and a value (SplitMix64 finaliser).
+   */
+  static long mix(final long seed, final long value) {
+    long z = seed + 0x9E3779B97F4A7C15L * (value + 1);
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+
+  @Override
+  public String toString() {
+    return this.getClass().getSimpleName() + "[" + dir + "," + seed + "]";
+  }
+}
@@ -0,0 +1,178 @@
+/*
+ * This file is part of Parallel Dynamic Programming Implementation Prototype (PDPIP).
+ *
+ * PDPIP is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDPIP is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDPIP.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unikl.reitzig.paralleldynprog.prototypes.distributed;
+
+import de.unikl.reitzig.paralleldynprog.prototypes.Util;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Coordinates a variant of {@link de.unikl.reitzig.paralleldynprog.prototypes.solvers.ColumnBlock}
+ * across processes. The table of an edit distance instance is cut into {@code q} column strips,
+ * each of which is filled by a separate {@link StripWorker} JVM. Neighbouring workers stream
+ * their boundary column to each other over sockets in blocks of {@code k} rows, so strips are
+ * filled in a pipeline.
+ * <p/>
+ * No process ever holds more than two rows of its strip, so the table is never materialised.
+ * For the same reason, this is not a {@link de.unikl.reitzig.paralleldynprog.prototypes.DynProgSolver};
+ * it computes what {@link de.unikl.reitzig.paralleldynprog.prototypes.problems.EditDistance#getSolution()}
+ * would return. Currently, all processes run on the loopback interface.
+ *
+ * @author agent, 10.2026
+ */
+public class ColumnProcesses {
+  private static final int TIMEOUT = 60000;
+
+  private final int q;
+  private final int blockSize;
+
+  /**
+   * Creates a new instance
+   *
+   * @param q The number of worker processes this solver will use. Has to be positive.
+   * @param k Number of rows per boundary message. Passing a value less or equal to {@code 0}
+   *          will result in {@code m/q + 1} being used, {@code m} the length of the first string.
+   */
+  public ColumnProcesses(final int q, final int k) {
+    assert q > 0 : "Invalid process count";
+    this.q = q;
+    this.blockSize = k;
+  }
+
+  /**
+   * Computes the edit distance of two strings.
+   * @param a First string; must not be empty.
+   * @param b Second string; must not be empty.
+   * @return The same value as {@code new EditDistance(a, b).getSolution()} after solving.
+   * @throws IOException If a worker process fails or can not be reached.
+   */
+  public int solve(final String a, final String b) throws IOException {
+    assert a != null && b != null && a.length() > 0 && b.length() > 0 : "invalid parameters";
+
+    final int n = b.length();
+    final int workers = Math.min(q, n);
+    final int k = blockSize > 0 ? blockSize : a.length()/workers + 1;
+    final List<Process> processes = new ArrayList<Process>(workers);
+    final List<Socket> sockets = new ArrayList<Socket>(workers);
+
+    final ServerSocket server = new ServerSocket(0, workers, InetAddress.getLoopbackAddress());
+    try {
+      server.setSoTimeout(TIMEOUT);
+
+      for ( int i=0; i<workers; i++ ) {
+        processes.add(new ProcessBuilder(javaExecutable(), "-cp", workerClasspath(),
+                                         StripWorker.class.getName(), "" + server.getLocalPort())
+                        .inheritIO().start());
+      }
+
+      // Workers are numbered in the order they report in
+      final int[] ports = new int[workers];
+      final List<DataInputStream> ins = new ArrayList<DataInputStream>(workers);
+      final List<DataOutputStream> outs = new ArrayList<DataOutputStream>(workers);
+      for ( int i=0; i<workers; i++ ) {
+        final Socket s = server.accept();
+        s.setSoTimeout(0);
+        sockets.add(s);
+        ins.add(new DataInputStream(new BufferedInputStream(s.getInputStream())));
+        outs.add(new DataOutputStream(new BufferedOutputStream(s.getOutputStream())));
+        ports[i] = ins.get(i).readInt();
+      }
+
+      for ( int i=0; i<workers; i++ ) {
+        final int from = (int)((long)i * n / workers);
+        final int to = (int)((long)(i + 1) * n / workers);
+        final DataOutputStream out = outs.get(i);
+
+        out.writeInt(i);
+        out.writeInt(k);
+        out.writeInt(i < workers - 1 ? ports[i+1] : -1);
+        out.writeInt(from);
+        StripWorker.writeString(out, a);
+        StripWorker.writeString(out, b.substring(from, to));
+        out.flush();
+      }
+
+      int res = -1;
+      for ( int i=0; i<workers; i++ ) {
+        res = ins.get(i).readInt();
+      }
+
+      for ( final Process p : processes ) {
+        p.waitFor();
+      }
+      return res;
+    }
+    catch ( InterruptedException e ) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for workers");
+    }
+    finally {
+      for ( final Socket s : sockets ) {
+        s.close();
+      }
+      server.close();
+      for ( final Process p : processes ) {
+        p.destroy();
+      }
+    }
+  }
+
+  /**
+   * @return Path of the java binary running this JVM.
+   */
+  private static String javaExecutable() {
+    return System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+  }
+
+  /**
+   * @return Classpath to start worker processes with, i.e. wherever {@link StripWorker}
+   *         has been loaded from.
+   */
+  private static String workerClasspath() {
+    try {
+      return new File(StripWorker.class.getProtectionDomain().getCodeSource().getLocation().toURI()).getPath();
+    }
+    catch ( Exception e ) {
+      return System.getProperty("java.class.path");
+    }
+  }
+
+  @Override
+  public String toString() {
+    return this.getClass().getSimpleName() + "[" + q + (blockSize > 0 ? "," + blockSize : "") + "]";
+  }
+
+  /**
+   * Solves a random instance on localhost.
+   * @param args Number of processes, string length and, optionally, block size
+   */
+  public static void main(final String[] args) throws IOException {
+    final int q = Integer.parseInt(args[0]);
+    final int n = Integer.parseInt(args[1]);
+    final ColumnProcesses solver = new ColumnProcesses(q, args.length > 2 ? Integer.parseInt(args[2]) : -1);
+
+    final long start = System.currentTimeMillis();
+    final int res = solver.solve(Util.randomString(n), Util.randomString(n));
+    System.out.println(solver + " : " + res + " in " + (System.currentTimeMillis() - start) + "ms");
+  }
+}
@@ -0,0 +1,194 @@
+/*
+ * This file is part of Parallel Dynamic Programming Implementation Prototype (PDPIP).
+ *
+ * PDPIP is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDPIP is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDPIP.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unikl.reitzig.paralleldynprog.prototypes.distributed;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Worker process of {@link ColumnProcesses}. Fills one column strip of an edit distance table
+ * row by row, keeping only the current and the previous row of its strip. The left boundary
+ * column is received from the upstream worker and the right boundary column is sent to the
+ * downstream worker, both in blocks of {@code k} rows.
+ * <p/>
+ * Protocol, all numbers {@code int}s on the coordinator connection: the worker sends the port
+ * it accepts its upstream neighbour on, receives index, block size, downstream port ({@code -1}
+ * if there is none), first column, {@code a} and its slice of {@code b}, and finally sends
+ * the strip's bottom right cell.
+ * <p/>
+ * Only depends on the JDK so that it can be started with a minimal classpath.
+ *
+ * @author agent, 10.2026
+ */
+public class StripWorker {
+  private final int index;
+  private final int blockSize;
+  private final int firstColumn;
+  private final String a;
+  private final String b;
+
+  /**
+   * Creates a new instance
+   * @param index Position of this worker's strip, counted from the left
+   * @param blockSize Number of rows per boundary message
+   * @param firstColumn Index of the strip's first column in the whole table
+   * @param a First string, i.e. indexing rows
+   * @param b The strip's slice of the second string, i.e. indexing its columns
+   */
+  StripWorker(final int index, final int blockSize, final int firstColumn, final String a, final String b) {
+    assert index >= 0 && blockSize > 0 && firstColumn >= 0 && a != null && b != null : "invalid parameters";
+    this.index = index;
+    this.blockSize = blockSize;
+    this.firstColumn = firstColumn;
+    this.a = a;
+    this.b = b;
+  }
+
+  /**
+   * Fills the strip.
+   * @param upstream Source of left boundary blocks; {@code null} for the leftmost strip
+   * @param downstream Sink for right boundary blocks; {@code null} for the rightmost strip
+   * @return The strip's bottom right cell.
+   * @throws IOException In case of problems talking to neighbours
+   */
+  int fill(final DataInputStream upstream, final DataOutputStream downstream) throws IOException {
+    final int m = a.length();
+    final int w = b.length();
+    int[] prev = new int[w];
+    int[] cur = new int[w];
+    final int[] left = new int[blockSize];
+    int prevLeft = 0;
+
+    for ( int roffset=0; roffset<m; roffset+=blockSize ) {
+      final int rows = Math.min(blockSize, m - roffset);
+
+      if ( upstream != null ) {
+        for ( int r=0; r<rows; r++ ) {
+          left[r] = upstream.readInt();
+        }
+      }
+
+      for ( int r=0; r<rows; r++ ) {
+        final int i = roffset + r;
+
+        // Same recurrence as EditDistance, on global indices
+        for ( int jj=0; jj<w; jj++ ) {
+          final int j = firstColumn + jj;
+
+          if ( i == 0 ) {
+            cur[jj] = j;
+          }
+          else if ( j == 0 ) {
+            cur[jj] = i;
+          }
+          else {
+            final int l = jj > 0 ? cur[jj-1] : left[r];
+            final int d = jj > 0 ? prev[jj-1] : prevLeft;
+            cur[jj] = Math.min(l + 1, Math.min(prev[jj] + 1, d + (a.charAt(i) == b.charAt(jj) ? 0 : 1)));
+          }
+        }
+
+        if ( downstream != null ) {
+          downstream.writeInt(cur[w-1]);
+        }
+        prevLeft = left[r];
+
+        final int[] tmp = prev;
+        prev = cur;
+        cur = tmp;
+      }
+
+      if ( downstream != null ) {
+        downstream.flush();
+      }
+    }
+
+    return prev[w-1];
+  }
+
+  @Override
+  public String toString() {
+    return this.getClass().getSimpleName() + "[" + index + "," + blockSize + "]";
+  }
+
+  static void writeString(final DataOutputStream out, final String s) throws IOException {
+    final byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  static String readString(final DataInputStream in) throws IOException {
+    final byte[] bytes = new byte[in.readInt()];
+    in.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Connects to the coordinator, fills the assigned strip and reports back.
+   * @param args Port the coordinator listens on (on the loopback interface)
+   */
+  public static void main(final String[] args) {
+    try {
+      final InetAddress host = InetAddress.getLoopbackAddress();
+      final ServerSocket upstreamServer = new ServerSocket(0, 1, host);
+      final Socket coordinator = new Socket(host, Integer.parseInt(args[0]));
+      final DataOutputStream toCoordinator = new DataOutputStream(new BufferedOutputStream(coordinator.getOutputStream()));
+      final DataInputStream fromCoordinator = new DataInputStream(new BufferedInputStream(coordinator.getInputStream()));
+
+      toCoordinator.writeInt(upstreamServer.getLocalPort());
+      toCoordinator.flush();
+
+      final int index = fromCoordinator.readInt();
+      final int k = fromCoordinator.readInt();
+      final int downstreamPort = fromCoordinator.readInt();
+      final int firstColumn = fromCoordinator.readInt();
+      final String a = readString(fromCoordinator);
+      final String b = readString(fromCoordinator);
+
+      DataOutputStream downstream = null;
+      if ( downstreamPort >= 0 ) {
+        final Socket s = new Socket(host, downstreamPort);
+        s.setTcpNoDelay(true);
+        downstream = new DataOutputStream(new BufferedOutputStream(s.getOutputStream()));
+      }
+
+      DataInputStream upstream = null;
+      if ( index > 0 ) {
+        upstream = new DataInputStream(new BufferedInputStream(upstreamServer.accept().getInputStream()));
+      }
+      upstreamServer.close();
+
+      final int res = new StripWorker(index, k, firstColumn, a, b).fill(upstream, downstream);
+
+      toCoordinator.writeInt(res);
+      toCoordinator.flush();
+
+      if ( downstream != null ) {
+        downstream.close();
+      }
+      coordinator.close();
+    }
+    catch ( Throwable t ) {
+      t.printStackTrace();
+      System.exit(1);
+    }
+  }
+}
@@ -0,0 +1,233 @@
+/*
+ * This file is part of Parallel Dynamic Programming Implementation Prototype (PDPIP).
+ *
+ * PDPIP is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDPIP is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDPIP.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unikl.reitzig.paralleldynprog.prototypes.problems;
+
+import de.unikl.reitzig.paralleldynprog.prototypes.DynProgProblem;
+import de.unikl.reitzig.paralleldynprog.prototypes.InputKey;
+
+import java.util.Arrays;
+
+/**
+ * Global alignment of two strings with affine gap costs after Gotoh, i.e. a gap of length
+ * {@code k} costs {@code open + k * extend} and aligning characters {@code x} and {@code y}
+ * costs {@code substitution[x][y]}. The solution is the minimum total cost.
+ * <p/>
+ * Every cell {@code (i,j)} holds three values, the minimum costs of aligning the prefixes of
+ * length {@code i} and {@code j} that end with a (mis)match, a gap in {@code b} or a gap in
+ * {@code a}, respectively. They are stored next to each other in one row array, so the
+ * three values of every dependency are read from the same cache line.
+ * <p/>
+ * Cells depend on cells above and to the left only, just like {@link EditDistance}.
+ *
+ * @author agent, 10.2026
+ */
+public class AffineGap implements DynProgProblem<Integer> {
+  /** Offsets of the three values in a cell */
+  private static final int M = 0, X = 1, Y = 2;
+  /** Number of values per cell */
+  private static final int WIDTH = 3;
+  /** Cost of impossible alignments; small enough to add costs without overflow. */
+  static final int INF = Integer.MAX_VALUE / 4;
+  /** Marks cells not yet computed */
+  private static final int NONE = Integer.MIN_VALUE;
+
+  private final String a;
+  private final String b;
+  private final String alphabet;
+  private final int[][] substitution;
+  private final int open;
+  private final int extend;
+  /** Alphabet indices of the characters of {@code a} and {@code b} */
+  private final int[] as, bs;
+  private final int[][] m;
+  private final int[] dim;
+
+  /**
+   * Creates a new instance
+   * @param a First string
+   * @param b Second string
+   * @param alphabet All characters that may occur in {@code a} and {@code b}
+   * @param substitution Cost of aligning the {@code x}-th with the {@code y}-th character of
+   *                     {@code alphabet} is {@code substitution[x][y]}.
+   * @param open Cost of opening a gap
+   * @param extend Cost per gap position
+   * @throws IllegalArgumentException if {@code a} or {@code b} contain characters not in
+   *                                  {@code alphabet}
+   */
+  public AffineGap(final String a, final String b, final String alphabet, final int[][] substitution,
+                   final int open, final int extend) {
+    assert a != null && b != null && alphabet != null && substitution != null : "null parameter";
+    assert substitution.length >= alphabet.length() : "substitution matrix too small";
+    this.a = a;
+    this.b = b;
+    this.alphabet = alphabet;
+    this.substitution = new int[substitution.length][];
+    for ( int x=0; x<substitution.length; x++ ) {
+      this.substitution[x] = substitution[x].clone();
+    }
+    this.open = open;
+    this.extend = extend;
+    this.as = indices(a);
+    this.bs = indices(b);
+
+    this.dim = new int[] { a.length() + 1, b.length() + 1 };
+    this.m = new int[dim[0]][WIDTH * dim[1]];
+    for ( int i=0; i<dim[0]; i++ ) {
+      Arrays.fill(m[i], NONE);
+    }
+  }
+
+  /**
+   * Creates a new instance that charges {@code 0} for matches and {@code mismatch} for
+   * mismatches.
+   * @param a First string
+   * @param b Second string
+   * @param mismatch Cost of aligning different characters
+   * @param open Cost of opening a gap
+   * @param extend Cost per gap position
+   */
+  public AffineGap(final String a, final String b, final int mismatch, final int open, final int extend) {
+    this(a, b, distinct(a + b), unitMatrix(distinct(a + b).length(), mismatch), open, extend);
+  }
+
+  private static String distinct(final String s) {
+    final StringBuilder res = new StringBuilder();
+    for ( int i=0; i<s.length(); i++ ) {
+      if ( res.indexOf(String.valueOf(s.charAt(i))) < 0 ) {
+        res.append(s.charAt(i));
+      }
+    }
+    return res.toString();
+  }
+
+  private static int[][] unitMatrix(final int n, final int mismatch) {
+    final int[][] res = new int[n][n];
+    for ( int x=0; x<n; x++ ) {
+      Arrays.fill(res[x], mismatch);
+      res[x][x] = 0;
+    }
+    return res;
+  }
+
+  private int[] indices(final String s) {
+    final int[] res = new int[s.length()];
+    for ( int i=0; i<res.length; i++ ) {
+      res[i] = alphabet.indexOf(s.charAt(i));
+      if ( res[i] < 0 ) {
+        throw new IllegalArgumentException("Character '" + s.charAt(i) + "' is not in alphabet " + alphabet);
+      }
+    }
+    return res;
+  }
+
+  @Override
+  public int[] getDimension() {
+    return dim.clone();
+  }
+
+  @Override
+  public boolean isComputed(final int[] i) {
+    assert i.length == 2 && i[0] >= 0 && i[1] >= 0 && i[0] < dim[0] && i[1] < dim[1] : "invalid indices";
+    return m[i[0]][WIDTH * i[1] + M] != NONE;
+  }
+
+  @Override
+  public boolean isComputable(final int[] i) {
+    assert i.length == 2 && i[0] >= 0 && i[1] >= 0 && i[0] < dim[0] && i[1] < dim[1] : "invalid indices";
+    return   (i[0] == 0 || isComputed(new int[] {i[0]-1,i[1]  }))
+          && (i[1] == 0 || isComputed(new int[] {i[0]  ,i[1]-1}));
+          // && isComputed(new int[] {i[0]-1,i[1]-1}) -- this is implied
+  }
+
+  @Override
+  public void compute(final int[] i) {
+    assert i.length == 2 : "invalid indices";
+    computeRange(i[0], i[1], i[1] + 1);
+  }
+
+  @Override
+  public void computeRange(final int row, final int from, final int to) {
+    assert row >= 0 && row < dim[0] && 0 <= from && from <= to && to <= dim[1] : "invalid indices";
+    assert from == to || isComputable(new int[] {row, from}) : "dependecies not computed";
+    final int[] cur = m[row];
+    int j = from;
+
+    if ( row == 0 ) {
+      for ( ; j<to; j++ ) {
+        cur[WIDTH*j + X] = INF;
+        cur[WIDTH*j + Y] = j == 0 ? INF : open + j * extend;
+        cur[WIDTH*j + M] = j == 0 ? 0 : INF;
+      }
+      return;
+    }
+
+    final int[] up = m[row-1];
+    if ( j == 0 && to > 0 ) {
+      cur[X] = open + row * extend;
+      cur[Y] = INF;
+      cur[M] = INF;
+      j++;
+    }
+
+    final int[] costs = substitution[as[row-1]];
+    final int gap = open + extend;
+    for ( ; j<to; j++ ) {
+      final int c = WIDTH * j;
+      final int l = c - WIDTH;
+      final int diag = Math.min(up[l + M], Math.min(up[l + X], up[l + Y]));
+      final int above = Math.min(up[c + M], Math.min(up[c + X], up[c + Y]));
+      final int left = Math.min(cur[l + M], Math.min(cur[l + X], cur[l + Y]));
+
+      cur[c + X] = Math.min(above + gap, up[c + X] + extend);
+      cur[c + Y] = Math.min(left + gap, cur[l + Y] + extend);
+      cur[c + M] = diag + costs[bs[j-1]];
+    }
+  }
+
+  @Override
+  public Integer getSolution() {
+    if ( isSolved() ) {
+      final int c = WIDTH * (dim[1] - 1);
+      final int[] last = m[dim[0] - 1];
+      return Math.min(last[c + M], Math.min(last[c + X], last[c + Y]));
+    }
+    else {
+      throw new Error("Requests result, but computation is not done.");
+    }
+  }
+
+  @Override
+  public boolean isSolved() {
+    return isComputed(new int[] {dim[0]-1, dim[1]-1});
+  }
+
+  @Override
+  public InputKey getInputKey() {
+    return new InputKey(AffineGap.class, a, b, alphabet, substitution, open, extend);
+  }
+
+  @Override
+  public String toString() {
+    return "Affine Gap Alignment for (" + a + ", " + b + ") -- " + (isSolved() ? "" : "un") + "solved";
+  }
+
+  @Override
+  public AffineGap clone() {
+    return new AffineGap(a, b, alphabet, substitution, open, extend);
+  }
+}
@@ -18,6 +18,7 @@
 package de.unikl.reitzig.paralleldynprog.prototypes.problems;
 
 import de.unikl.reitzig.paralleldynprog.prototypes.DynProgProblem;
+import de.unikl.reitzig.paralleldynprog.prototypes.InputKey;
 
 import java.util.Arrays;
 
@@ -31,12 +32,14 @@ import java.util.Arrays;
 public class EditDistance implements DynProgProblem<Integer> {
   private final String a;
   private final String b;
+  private final char[] bc;
   private final int[][] m;
   private final int[] dim;
 
   public EditDistance(final String a, final String b) {
     this.a = a;
     this.b = b;
+    this.bc = b.toCharArray();
     this.dim = new int[] { a.length(), b.length() };
     this.m = new int[dim[0]][dim[1]];
     for ( int i=0; i<dim[0]; i++ ) {
@@ -84,6 +87,39 @@ public class EditDistance implements DynProgProblem<Integer> {
     }
   }
 
+  @Override
+  public void computeRange(final int row, final int from, final int to) {
+    assert row >= 0 && row < dim[0] && 0 <= from && from <= to && to <= dim[1] : "invalid indices";
+    assert from == to || isComputable(new int[] {row, from}) : "dependecies not computed";
+    final int[] cur = m[row];
+    int j = from;
+
+    if ( row == 0 ) {
+      for ( ; j<to; j++ ) {
+        cur[j] = j;
+      }
+    }
+    else {
+      final int[] above = m[row-1];
+      final char ai = a.charAt(row);
+      if ( j == 0 && to > 0 ) {
+        cur[j++] = row;
+      }
+      for ( ; j<to; j++ ) {
+        cur[j] = Math.min(cur[j-1] + 1, Math.min(above[j] + 1, above[j-1] + (ai == bc[j] ? 0 : 1)));
+      }
+    }
+  }
+
+  /**
+   * @param i Row index
+   * @return Copy of row {@code i} of the table; entries not computed yet are {@code -1}.
+   */
+  public int[] getRow(final int i) {
+    assert i >= 0 && i < dim[0] : "invalid row";
+    return m[i].clone();
+  }
+
   @Override
   public Integer getSolution() {
     if ( isSolved() ) {
@@ -99,6 +135,59 @@ public class EditDistance implements DynProgProblem<Integer> {
     return isComputed(new int[] {dim[0]-1, dim[1]-1});
   }
 
+  @Override
+  public InputKey getInputKey() {
+    return new InputKey(EditDistance.class, a, b);
+  }
+
+  /**
+   * Computes row {@code i} of the table of {@code new EditDistance(a, b)} from row {@code i-1},
+   * so that it can be filled in linear space.
+   * @param i Index of the row to compute
+   * @param ai {@code a.charAt(i)}; ignored if {@code i == 0}
+   * @param b Second string
+   * @param above Row {@code i-1}; ignored if {@code i == 0}
+   * @param row Target for row {@code i}; needs room for {@code b.length} entries
+   */
+  public static void computeRow(final int i, final char ai, final char[] b, final int[] above, final int[] row) {
+    assert b.length > 0 && row.length >= b.length && (i == 0 || above.length >= b.length) : "invalid parameters";
+
+    if ( i == 0 ) {
+      for ( int j=0; j<b.length; j++ ) {
+        row[j] = j;
+      }
+    }
+    else {
+      row[0] = i;
+      for ( int j=1; j<b.length; j++ ) {
+        row[j] = Math.min(row[j-1] + 1, Math.min(above[j] + 1, above[j-1] + (ai == b[j] ? 0 : 1)));
+      }
+    }
+  }
+
+  /**
+   * Computes the solution of {@code new EditDistance(a, b)} in linear space.
+   * @param a First string; must not be empty
+   * @param b Second string; must not be empty
+   * @param above Scratch row; needs room for {@code b.length} entries
+   * @param row Scratch row; needs room for {@code b.length} entries
+   * @return The same as {@link #getSolution()} after solving.
+   */
+  public static int distance(final char[] a, final char[] b, final int[] above, final int[] row) {
+    assert a.length > 0 && b.length > 0 : "empty string";
+    int[] prev = above;
+    int[] cur = row;
+
+    for ( int i=0; i<a.length; i++ ) {
+      computeRow(i, a[i], b, prev, cur);
+      final int[] tmp = prev;
+      prev = cur;
+      cur = tmp;
+    }
+
+    return prev[b.length - 1];
+  }
+
   @Override
   public String toString() {
     return "Edit Distance for (" + a + ", " + b + ") -- " + (isSolved() ? "" : "un") + "solved";
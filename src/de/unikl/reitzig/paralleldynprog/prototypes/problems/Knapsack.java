@@ -0,0 +1,182 @@
+/*
+ * This file is part of Parallel Dynamic Programming Implementation Prototype (PDPIP).
+ *
+ * PDPIP is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDPIP is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDPIP.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unikl.reitzig.paralleldynprog.prototypes.problems;
+
+import de.unikl.reitzig.paralleldynprog.prototypes.InputKey;
+import de.unikl.reitzig.paralleldynprog.prototypes.RowwiseProblem;
+
+/**
+ * The 0/1 knapsack problem: the maximum total value of items whose total weight does not exceed
+ * the capacity. Cell {@code (i,c)} is the best value using items {@code 0..i} with capacity
+ * {@code c}; it depends on cells {@code (i-1,c)} and {@code (i-1,c-w_i)} of the previous row.
+ * <p/>
+ * Only two rows are kept, used alternately, so capacities in the hundreds of millions fit into
+ * memory. Every entry holds twice the cell value plus a stamp bit that flips every other row,
+ * so that cells of the current rows can be told from leftovers of earlier ones without clearing
+ * buffers. Hence, the total value of all items has to be less than {@code 2^30}.
+ * <p/>
+ * Needs solvers that complete row {@code i-1} before row {@code i+1} overwrites it, e.g.
+ * {@link de.unikl.reitzig.paralleldynprog.prototypes.solvers.RowSplitReach}.
+ *
+ * @author agent, 10.2026
+ */
+public class Knapsack implements RowwiseProblem<Integer> {
+  private final int[] weights;
+  private final int[] values;
+  private final int[][] rows;
+  private final int[] dim;
+  /** Stamps can not tell the last row from much older ones, so remember when it is done. */
+  private volatile boolean solved = false;
+
+  /**
+   * Creates a new instance
+   * @param weights Item weights; non-negative
+   * @param values Item values; non-negative, with sum less than {@code 2^30}
+   * @param capacity Knapsack capacity; non-negative
+   */
+  public Knapsack(final int[] weights, final int[] values, final int capacity) {
+    assert weights != null && values != null : "null parameter";
+    assert weights.length > 0 && weights.length == values.length && capacity >= 0 : "invalid parameters";
+    assert total(values) < 1L << 30 : "values too large";
+    this.weights = weights;
+    this.values = values;
+    this.dim = new int[] { weights.length, capacity + 1 };
+    this.rows = new int[Math.min(2, dim[0])][dim[1]];
+  }
+
+  private static long total(final int[] values) {
+    long res = 0;
+    for ( final int v : values ) {
+      assert v >= 0 : "negative value";
+      res += v;
+    }
+    return res;
+  }
+
+  /**
+   * @return The stamp bit of row {@code i}; never {@code 0} for rows {@code 0} and {@code 1}, so
+   *         that fresh buffers read as not computed.
+   */
+  private static int stamp(final int i) {
+    return ((i >> 1) & 1) ^ 1;
+  }
+
+  @Override
+  public int[] getDimension() {
+    return dim.clone();
+  }
+
+  @Override
+  public boolean isComputed(final int[] i) {
+    assert i.length == 2 && i[0] >= 0 && i[1] >= 0 && i[0] < dim[0] && i[1] < dim[1] : "invalid indices";
+    return (rows[i[0] & 1][i[1]] & 1) == stamp(i[0]);
+  }
+
+  @Override
+  public boolean isComputable(final int[] i) {
+    assert i.length == 2 && i[0] >= 0 && i[1] >= 0 && i[0] < dim[0] && i[1] < dim[1] : "invalid indices";
+    return    i[0] == 0
+           || (   isComputed(new int[] { i[0] - 1, i[1] })
+               && (i[1] < weights[i[0]] || isComputed(new int[] { i[0] - 1, i[1] - weights[i[0]] })));
+  }
+
+  @Override
+  public void compute(final int[] i) {
+    assert i.length == 2 : "invalid indices";
+    computeRange(i[0], i[1], i[1] + 1);
+  }
+
+  @Override
+  public void computeRange(final int row, final int from, final int to) {
+    assert row >= 0 && row < dim[0] && 0 <= from && from <= to && to <= dim[1] : "invalid indices";
+    assert from == to || isComputable(new int[] {row, from}) : "dependecies not computed";
+    final int[] cur = rows[row & 1];
+    final int stamp = stamp(row);
+    final int w = weights[row];
+    final int v2 = 2 * values[row];
+    final int split = Math.max(from, Math.min(to, w));
+
+    if ( row == 0 ) {
+      for ( int c=from; c<split; c++ ) {
+        cur[c] = stamp;
+      }
+      for ( int c=split; c<to; c++ ) {
+        cur[c] = v2 | stamp;
+      }
+    }
+    else {
+      // Entries of the previous row share a stamp, so they compare like their values.
+      final int[] prev = rows[(row - 1) & 1];
+      for ( int c=from; c<split; c++ ) {
+        cur[c] = (prev[c] & ~1) | stamp;
+      }
+      for ( int c=split; c<to; c++ ) {
+        cur[c] = (Math.max(prev[c], prev[c - w] + v2) & ~1) | stamp;
+      }
+    }
+
+    if ( row == dim[0] - 1 && to == dim[1] && from < to ) {
+      solved = true;
+    }
+  }
+
+  @Override
+  public int reachLeft(final int i) {
+    return weights[i];
+  }
+
+  @Override
+  public int reachRight(final int i) {
+    return 0;
+  }
+
+  @Override
+  public int rowsKept() {
+    return rows.length;
+  }
+
+  @Override
+  public Integer getSolution() {
+    if ( isSolved() ) {
+      return rows[(dim[0] - 1) & 1][dim[1] - 1] >> 1;
+    }
+    else {
+      throw new Error("Requests result, but computation is not done.");
+    }
+  }
+
+  @Override
+  public boolean isSolved() {
+    return solved;
+  }
+
+  @Override
+  public InputKey getInputKey() {
+    return new InputKey(Knapsack.class, weights.clone(), values.clone(), dim[1] - 1);
+  }
+
+  @Override
+  public String toString() {
+    return "Knapsack with " + dim[0] + " items and capacity " + (dim[1] - 1) + " -- " + (isSolved() ? "" : "un") + "solved";
+  }
+
+  @Override
+  public Knapsack clone() {
+    return new Knapsack(weights, values, dim[1] - 1);
+  }
+}
@@ -0,0 +1,159 @@
+/*
+ * This file is part of Parallel Dynamic Programming Implementation Prototype (PDPIP).
+ *
+ * PDPIP is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDPIP is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDPIP.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unikl.reitzig.paralleldynprog.prototypes.problems;
+
+import de.unikl.reitzig.paralleldynprog.prototypes.InputKey;
+import de.unikl.reitzig.paralleldynprog.prototypes.IntervalProblem;
+
+import java.util.Arrays;
+
+/**
+ * Matrix chain ordering: the minimum number of scalar multiplications needed to multiply
+ * matrices {@code A_0, ..., A_{n-1}}, where {@code A_i} has {@code sizes[i]} rows and
+ * {@code sizes[i+1]} columns. Cell {@code (i,j)} is the cost of the best ordering for
+ * {@code A_i...A_j}.
+ * <p/>
+ * Computing cell {@code (i,j)} scans cells {@code (i,i..j-1)} of its row and cells
+ * {@code (i+1..j,j)} of its column. Hence, the upper triangle is stored twice, once by rows and
+ * once by columns, so that both scans run over consecutive memory.
+ *
+ * @author agent, 10.2026
+ */
+public class MatrixChain implements IntervalProblem<Long> {
+  private static final long NONE = -1;
+
+  private final int[] sizes;
+  /** {@code rows[i][j-i]} is cell {@code (i,j)} */
+  private final long[][] rows;
+  /** {@code columns[j][i]} is cell {@code (i,j)} */
+  private final long[][] columns;
+  private final int[] dim;
+
+  /**
+   * Creates a new instance
+   * @param sizes Matrix dimensions; at least two, all positive.
+   */
+  public MatrixChain(final int[] sizes) {
+    assert sizes != null : "null parameter";
+    assert sizes.length > 1 : "no matrices";
+    this.sizes = sizes;
+
+    final int n = sizes.length - 1;
+    this.dim = new int[] { n, n };
+    this.rows = new long[n][];
+    this.columns = new long[n][];
+    for ( int i=0; i<n; i++ ) {
+      rows[i] = new long[n - i];
+      columns[i] = new long[i + 1];
+      Arrays.fill(rows[i], NONE);
+      Arrays.fill(columns[i], NONE);
+    }
+  }
+
+  @Override
+  public int[] getDimension() {
+    return dim.clone();
+  }
+
+  @Override
+  public boolean isComputed(final int[] i) {
+    assert i.length == 2 && i[0] >= 0 && i[1] >= 0 && i[0] < dim[0] && i[1] < dim[1] : "invalid indices";
+    return i[0] > i[1] || rows[i[0]][i[1] - i[0]] != NONE;
+  }
+
+  @Override
+  public boolean isComputable(final int[] i) {
+    assert i.length == 2 && i[0] >= 0 && i[1] >= 0 && i[0] < dim[0] && i[1] < dim[1] : "invalid indices";
+    return   i[0] >= i[1] || (   isComputed(new int[] {i[0]  ,i[1]-1})
+                               && isComputed(new int[] {i[0]+1,i[1]  }) );
+                            // all smaller intervals -- this is implied
+  }
+
+  @Override
+  public void compute(final int[] i) {
+    assert i.length == 2 : "invalid indices";
+    if ( i[0] <= i[1] ) {
+      computeCell(i[0], i[1]);
+    }
+  }
+
+  @Override
+  public void computeRange(final int row, final int from, final int to) {
+    assert row >= 0 && row < dim[0] && 0 <= from && from <= to && to <= dim[1] : "invalid indices";
+    for ( int j=Math.max(from, row); j<to; j++ ) {
+      computeCell(row, j);
+    }
+  }
+
+  @Override
+  public void computeDiagonal(final int length, final int from, final int to) {
+    assert 1 <= length && length <= dim[0] && 0 <= from && from <= to && to <= dim[0] - length + 1 : "invalid indices";
+    for ( int i=from; i<to; i++ ) {
+      computeCell(i, i + length - 1);
+    }
+  }
+
+  private void computeCell(final int i, final int j) {
+    assert isComputable(new int[] {i, j}) : "dependecies not computed";
+
+    long best = 0;
+    if ( i < j ) {
+      final long[] row = rows[i];
+      final long[] column = columns[j];
+      final long outer = (long)sizes[i] * sizes[j + 1];
+
+      best = Long.MAX_VALUE;
+      for ( int k=i; k<j; k++ ) {
+        best = Math.min(best, row[k - i] + column[k + 1] + outer * sizes[k + 1]);
+      }
+    }
+
+    columns[j][i] = best;
+    rows[i][j - i] = best;
+  }
+
+  @Override
+  public Long getSolution() {
+    if ( isSolved() ) {
+      return rows[0][dim[1] - 1];
+    }
+    else {
+      throw new Error("Requests result, but computation is not done.");
+    }
+  }
+
+  @Override
+  public boolean isSolved() {
+    return isComputed(new int[] {0, dim[1]-1});
+  }
+
+  @Override
+  public InputKey getInputKey() {
+    return new InputKey(MatrixChain.class, sizes.clone());
+  }
+
+  @Override
+  public String toString() {
+    return "Matrix Chain of " + dim[0] + " matrices -- " + (isSolved() ? "" : "un") + "solved";
+  }
+
+  @Override
+  public MatrixChain clone() {
+    return new MatrixChain(sizes);
+  }
+}
@@ -17,7 +17,8 @@
 
 package de.unikl.reitzig.paralleldynprog.prototypes.problems;
 
-import de.unikl.reitzig.paralleldynprog.prototypes.DynProgProblem;
+import de.unikl.reitzig.paralleldynprog.prototypes.InputKey;
+import de.unikl.reitzig.paralleldynprog.prototypes.RowwiseProblem;
 
 import java.util.Arrays;
 
@@ -26,7 +27,7 @@ import java.util.Arrays;
  *
  * @author Raphael Reitzig, 02.2012
  */
-public class RsDummy implements DynProgProblem<Integer> {
+public class RsDummy implements RowwiseProblem<Integer> {
   private final int[] numbers;
   private final int[][] m;
   private final int[] dim;
@@ -90,6 +91,64 @@ public class RsDummy implements DynProgProblem<Integer> {
     assert m[i[0]][i[1]] > -1 : "computed invalid value";
   }
 
+  /**
+   * {@inheritDoc}
+   * <p/>
+   * The edge columns are handled separately, so that the loop over inner cells has no branches
+   * and can be vectorised by the JIT compiler.
+   */
+  @Override
+  public void computeRange(final int i, final int from, final int to) {
+    assert i >= 0 && i < dim[0] && 0 <= from && from <= to && to <= dim[1] : "invalid indices";
+    final int[] row = m[i];
+
+    if ( i == 0 ) {
+      for ( int j=from; j<to; j++ ) {
+        row[j] = Math.max(0, numbers[j]);
+      }
+      return;
+    }
+
+    final int[] prev = m[i-1];
+    final int last = dim[1] - 1;
+    if ( from == 0 && to > 0 ) {
+      row[0] = Math.max(0, (last > 0 ? Math.max(prev[0], prev[1]) : prev[0]) + numbers[0]);
+    }
+
+    final int hi = Math.min(to, last);
+    for ( int j=Math.max(from, 1); j<hi; j++ ) {
+      row[j] = Math.max(0, Math.max(prev[j-1], Math.max(prev[j], prev[j+1])) + numbers[j]);
+    }
+
+    if ( to == dim[1] && last > 0 && from <= last ) {
+      row[last] = Math.max(0, Math.max(prev[last-1], prev[last]) + numbers[last]);
+    }
+  }
+
+  @Override
+  public int reachLeft(final int i) {
+    return 1;
+  }
+
+  @Override
+  public int reachRight(final int i) {
+    return 1;
+  }
+
+  @Override
+  public int rowsKept() {
+    return dim[0];
+  }
+
+  /**
+   * @param i Row index
+   * @return Copy of row {@code i} of the table; entries not computed yet are {@code -1}.
+   */
+  public int[] getRow(final int i) {
+    assert i >= 0 && i < dim[0] : "invalid row";
+    return m[i].clone();
+  }
+
   @Override
   public Integer getSolution() {
     assert isSolved() : "trying to get solution of unsolved problem";
@@ -110,6 +169,11 @@ public class RsDummy implements DynProgProblem<Integer> {
     return res;
   }
 
+  @Override
+  public InputKey getInputKey() {
+    return new InputKey(RsDummy.class, dim[0], numbers.clone());
+  }
+
   @Override
   public RsDummy clone() {
     return new RsDummy(dim[0], numbers);
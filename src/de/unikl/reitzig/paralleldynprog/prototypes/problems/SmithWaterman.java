@@ -0,0 +1,289 @@
+/*
+ * This file is part of Parallel Dynamic Programming Implementation Prototype (PDPIP).
+ *
+ * PDPIP is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDPIP is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDPIP.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unikl.reitzig.paralleldynprog.prototypes.problems;
+
+import de.unikl.reitzig.paralleldynprog.prototypes.DynProgProblem;
+import de.unikl.reitzig.paralleldynprog.prototypes.InputKey;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Local alignment of two strings after Smith and Waterman with linear gap penalties. The
+ * solution is the best scoring cell anywhere in the table, see {@link Hit}.
+ * <p/>
+ * Every thread that computes cells keeps its own running maximum, which it updates once per
+ * {@link #computeRange(int, int, int)} call; {@link #getSolution()} merges them. Hence, no
+ * second pass over the table is needed, and the table need not be kept: an instance can
+ * keep only its most recent rows in a ring buffer, as long as the solver never needs older
+ * ones. With row-by-row solvers using {@code p} workers such as
+ * {@link de.unikl.reitzig.paralleldynprog.prototypes.solvers.BlockCheck}, {@code p + 1} rows
+ * suffice.
+ * <p/>
+ * Cells depend on cells above and to the left only, just like {@link EditDistance}.
+ *
+ * @author agent, 10.2026
+ */
+public class SmithWaterman implements DynProgProblem<SmithWaterman.Hit> {
+  /**
+   * The end of a best local alignment
+   */
+  public static final class Hit {
+    private final int score;
+    private final int i;
+    private final int j;
+
+    Hit(final int score, final int i, final int j) {
+      this.score = score;
+      this.i = i;
+      this.j = j;
+    }
+
+    /**
+     * @return The score of the best local alignment
+     */
+    public int getScore() {
+      return score;
+    }
+
+    /**
+     * @return Length of the prefix of {@code a} the alignment ends with
+     */
+    public int getEndA() {
+      return i;
+    }
+
+    /**
+     * @return Length of the prefix of {@code b} the alignment ends with
+     */
+    public int getEndB() {
+      return j;
+    }
+
+    /**
+     * Orders by score, then by earlier end. That way, the hit does not depend on the order
+     * cells are computed in.
+     */
+    static boolean better(final int score, final int i, final int j, final int thanScore, final int thanI, final int thanJ) {
+      return score > thanScore || (score == thanScore && (i < thanI || (i == thanI && j < thanJ)));
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if ( !(o instanceof Hit) ) {
+        return false;
+      }
+      final Hit other = (Hit)o;
+      return score == other.score && i == other.i && j == other.j;
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * (31 * score + i) + j;
+    }
+
+    @Override
+    public String toString() {
+      return score + "@(" + i + "," + j + ")";
+    }
+  }
+
+  /**
+   * Running maximum of one thread
+   */
+  private static final class Best {
+    int score = 0;
+    int i = 0;
+    int j = 0;
+  }
+
+  private final String a;
+  private final String b;
+  private final char[] bc;
+  private final int match;
+  private final int mismatch;
+  private final int gap;
+  /**
+   * Ring of rows; entries hold the score in the upper and the row index plus one in the
+   * lower half, so that stale entries from earlier rows read as not computed.
+   */
+  private final long[][] m;
+  private final int[] dim;
+  private final Queue<Best> bests = new ConcurrentLinkedQueue<Best>();
+  private final ThreadLocal<Best> best = new ThreadLocal<Best>() {
+    @Override
+    protected Best initialValue() {
+      final Best res = new Best();
+      bests.add(res);
+      return res;
+    }
+  };
+
+  /**
+   * Creates a new instance
+   * @param a First string
+   * @param b Second string
+   * @param match Score of aligning equal characters; positive
+   * @param mismatch Penalty for aligning different characters; non-negative
+   * @param gap Penalty per gap position; non-negative
+   * @param rows Number of rows to keep; at least {@code 2}. Larger values than
+   *             {@code a.length() + 1} are reduced to that.
+   */
+  public SmithWaterman(final String a, final String b, final int match, final int mismatch, final int gap, final int rows) {
+    assert a != null && b != null : "null parameter";
+    assert match > 0 && mismatch >= 0 && gap >= 0 && rows >= 2 : "invalid parameters";
+    this.a = a;
+    this.b = b;
+    this.bc = b.toCharArray();
+    this.match = match;
+    this.mismatch = mismatch;
+    this.gap = gap;
+    this.dim = new int[] { a.length() + 1, b.length() + 1 };
+    this.m = new long[Math.min(rows, dim[0])][dim[1]];
+  }
+
+  /**
+   * Creates a new instance that keeps the whole table.
+   * @param a First string
+   * @param b Second string
+   * @param match Score of aligning equal characters; positive
+   * @param mismatch Penalty for aligning different characters; non-negative
+   * @param gap Penalty per gap position; non-negative
+   */
+  public SmithWaterman(final String a, final String b, final int match, final int mismatch, final int gap) {
+    this(a, b, match, mismatch, gap, a.length() + 1);
+  }
+
+  @Override
+  public int[] getDimension() {
+    return dim.clone();
+  }
+
+  @Override
+  public boolean isComputed(final int[] i) {
+    assert i.length == 2 && i[0] >= 0 && i[1] >= 0 && i[0] < dim[0] && i[1] < dim[1] : "invalid indices";
+    // Rows are filled in order, so a later row in the slot implies this one was computed.
+    return (int)m[i[0] % m.length][i[1]] > i[0];
+  }
+
+  @Override
+  public boolean isComputable(final int[] i) {
+    assert i.length == 2 && i[0] >= 0 && i[1] >= 0 && i[0] < dim[0] && i[1] < dim[1] : "invalid indices";
+    return   i[0] == 0 || i[1] == 0 || (   isComputed(new int[] {i[0]-1,i[1]  })
+                                        && isComputed(new int[] {i[0]  ,i[1]-1}) );
+                                     // && isComputed(new int[] {i[0]-1,i[1]-1}) -- this is implied
+  }
+
+  @Override
+  public void compute(final int[] i) {
+    assert i.length == 2 : "invalid indices";
+    computeRange(i[0], i[1], i[1] + 1);
+  }
+
+  @Override
+  public void computeRange(final int row, final int from, final int to) {
+    assert row >= 0 && row < dim[0] && 0 <= from && from <= to && to <= dim[1] : "invalid indices";
+    assert from == to || isComputable(new int[] {row, from}) : "dependecies not computed";
+    final long[] cur = m[row % m.length];
+    final long stamp = row + 1;
+
+    if ( row == 0 ) {
+      for ( int j=from; j<to; j++ ) {
+        cur[j] = stamp;
+      }
+      return;
+    }
+
+    final long[] up = m[(row - 1) % m.length];
+    final char ai = a.charAt(row - 1);
+    int j = from;
+    if ( j == 0 && to > 0 ) {
+      cur[j++] = stamp;
+    }
+    if ( j >= to ) {
+      return;
+    }
+
+    int max = 0;
+    int maxJ = 0;
+    int left = (int)(cur[j - 1] >> 32);
+    for ( ; j<to; j++ ) {
+      final int score = Math.max(0, Math.max((int)(up[j - 1] >> 32) + (ai == bc[j - 1] ? match : -mismatch),
+                                             Math.max((int)(up[j] >> 32), left) - gap));
+      cur[j] = (long)score << 32 | stamp;
+      left = score;
+      if ( score > max ) {
+        max = score;
+        maxJ = j;
+      }
+    }
+
+    final Best own = best.get();
+    if ( max > 0 && Hit.better(max, row, maxJ, own.score, own.i, own.j) ) {
+      own.score = max;
+      own.i = row;
+      own.j = maxJ;
+    }
+  }
+
+  /**
+   * Computing row {@code i} overwrites row {@code i - rowsKept()}.
+   * @return Number of rows kept in memory
+   */
+  public int rowsKept() {
+    return m.length;
+  }
+
+  @Override
+  public Hit getSolution() {
+    if ( isSolved() ) {
+      final Best res = new Best();
+      for ( final Best candidate : bests ) {
+        if ( Hit.better(candidate.score, candidate.i, candidate.j, res.score, res.i, res.j) ) {
+          res.score = candidate.score;
+          res.i = candidate.i;
+          res.j = candidate.j;
+        }
+      }
+      return new Hit(res.score, res.i, res.j);
+    }
+    else {
+      throw new Error("Requests result, but computation is not done.");
+    }
+  }
+
+  @Override
+  public boolean isSolved() {
+    return isComputed(new int[] {dim[0]-1, dim[1]-1});
+  }
+
+  @Override
+  public InputKey getInputKey() {
+    return new InputKey(SmithWaterman.class, a, b, match, mismatch, gap);
+  }
+
+  @Override
+  public String toString() {
+    return "Smith-Waterman for (" + a + ", " + b + ") -- " + (isSolved() ? "" : "un") + "solved";
+  }
+
+  @Override
+  public SmithWaterman clone() {
+    return new SmithWaterman(a, b, match, mismatch, gap, m.length);
+  }
+}
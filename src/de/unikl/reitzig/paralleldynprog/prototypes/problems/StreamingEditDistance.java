@@ -0,0 +1,147 @@
+/*
+ * This file is part of Parallel Dynamic Programming Implementation Prototype (PDPIP).
+ *
+ * PDPIP is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDPIP is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDPIP.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unikl.reitzig.paralleldynprog.prototypes.problems;
+
+/**
+ * Edit distance between a fixed pattern and a text that arrives symbol by symbol. Only the
+ * last column of the table, i.e. one entry per pattern prefix, is kept, so memory does not
+ * depend on the length of the text.
+ * <p/>
+ * In global mode, {@link #getDistance()} is the edit distance between the pattern and the
+ * text read so far. In local mode (Sellers' algorithm), it is the smallest edit distance
+ * between the pattern and any suffix of the text read so far, i.e. a value of at most
+ * {@code d} marks an approximate match ending at the current position.
+ * <p/>
+ * Unlike {@link EditDistance}, the first row and column of the table stand for empty
+ * prefixes.
+ *
+ * @author agent, 10.2026
+ */
+public class StreamingEditDistance {
+  /**
+   * Receives the distance after every symbol of a stream.
+   */
+  public interface Listener {
+    /**
+     * @param position Number of symbols read so far
+     * @param distance Value of {@link #getDistance()} after reading symbol {@code position}
+     */
+    void update(long position, int distance);
+  }
+
+  private final char[] pattern;
+  private final boolean local;
+  private final int[] column;
+  private long position;
+
+  /**
+   * Creates a new instance
+   * @param pattern The fixed side; must not be empty
+   * @param local {@code true} for approximate matching, {@code false} for global distance
+   */
+  public StreamingEditDistance(final String pattern, final boolean local) {
+    assert pattern != null && pattern.length() > 0 : "invalid pattern";
+    this.pattern = pattern.toCharArray();
+    this.local = local;
+    this.column = new int[this.pattern.length + 1];
+    for ( int i=0; i<column.length; i++ ) {
+      column[i] = i;
+    }
+    this.position = 0;
+  }
+
+  /**
+   * @return Length of the pattern, i.e. index of the last column entry.
+   */
+  public int getPatternLength() {
+    return pattern.length;
+  }
+
+  /**
+   * @return Number of symbols read so far
+   */
+  public long getPosition() {
+    return position;
+  }
+
+  /**
+   * @return The distance for the text read so far; see class description.
+   */
+  public int getDistance() {
+    return column[pattern.length];
+  }
+
+  public boolean isLocal() {
+    return local;
+  }
+
+  /**
+   * Reads the next symbol of the text.
+   * @param c The next symbol
+   * @return The new value of {@link #getDistance()}
+   */
+  public int append(final char c) {
+    update(0, column.length, c, 0, 0);
+    return getDistance();
+  }
+
+  /**
+   * Updates column entries {@code [from, to)} for the next symbol. Updating consecutive
+   * ranges in order for every symbol is equivalent to {@link #append(char)}; different ranges
+   * may be updated by different threads as long as the updates of every range happen in the
+   * order of the symbols.
+   *
+   * @param from First entry to update
+   * @param to Entry after the last one to update
+   * @param c The next symbol
+   * @param above New value of entry {@code from-1}; ignored if {@code from == 0}
+   * @param diag Old value of entry {@code from-1}, i.e. its value before reading {@code c};
+   *             ignored if {@code from == 0}
+   * @return New value of entry {@code to-1}, or {@code above} if the range is empty.
+   */
+  public int update(final int from, final int to, final char c, final int above, final int diag) {
+    assert 0 <= from && from <= to && to <= column.length : "invalid range";
+
+    int up = above;
+    int dg = diag;
+    int i = from;
+    if ( i == 0 && to > 0 ) {
+      dg = column[0];
+      up = local ? 0 : column[0] + 1;
+      column[0] = up;
+      i = 1;
+    }
+
+    for ( ; i<to; i++ ) {
+      final int old = column[i];
+      up = Math.min(Math.min(old, up) + 1, dg + (pattern[i-1] == c ? 0 : 1));
+      dg = old;
+      column[i] = up;
+    }
+
+    if ( to == column.length ) {
+      position++;
+    }
+    return up;
+  }
+
+  @Override
+  public String toString() {
+    return (local ? "Local" : "Global") + " streaming edit distance for " + new String(pattern) + " -- at " + position;
+  }
+}
@@ -0,0 +1,304 @@
+/*
+ * This file is part of Parallel Dynamic Programming Implementation Prototype (PDPIP).
+ *
+ * PDPIP is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDPIP is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDPIP.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unikl.reitzig.paralleldynprog.prototypes.problems;
+
+import de.unikl.reitzig.paralleldynprog.prototypes.InputKey;
+import de.unikl.reitzig.paralleldynprog.prototypes.RowwiseProblem;
+
+/**
+ * Decodes the most likely state sequence of a hidden Markov model for a sequence of
+ * observations after Viterbi. Cell {@code (t,s)} is the log-probability of the best state
+ * sequence for the first {@code t+1} observations that ends in state {@code s}; it depends on
+ * all cells of the previous row, so every row is a max-plus matrix-vector product.
+ * <p/>
+ * Rows are computed in blocks of previous-row states that fit into the L1 cache, with
+ * independent accumulators so that the maximum does not form one long dependency chain.
+ * Only two rows are kept, plus every {@code k}-th row as checkpoint. {@link #getSolution()}
+ * recomputes the rows between two checkpoints at a time, from the last segment to the first,
+ * and reads the backpointers of the best path off them. That costs one more forward pass, but
+ * memory stays in {@code O(S (T/k + k))} for {@code T} observations and {@code S} states.
+ * <p/>
+ * Solve with {@link de.unikl.reitzig.paralleldynprog.prototypes.solvers.RowSplitReach}, whose
+ * workers each compute a slice of states.
+ *
+ * @author agent, 10.2026
+ */
+public class Viterbi implements RowwiseProblem<int[]> {
+  /** Number of previous-row states per block; 512 doubles fill a quarter of a 16KB L1 cache. */
+  private static final int BLOCK = 512;
+
+  private final double[] initial;
+  private final double[][] transition;
+  private final double[][] emission;
+  private final int[] observations;
+  /** Log-probabilities; {@code transposed[s][r]} is the transition from {@code r} to {@code s} */
+  private final double[] logInitial;
+  private final double[][] transposed;
+  /** Log-probabilities; {@code logEmission[o][s]} is the one of observing {@code o} in state {@code s} */
+  private final double[][] logEmission;
+
+  private final double[][] rows;
+  /** Row index plus one of the cells in {@code rows}; later rows imply earlier ones computed. */
+  private final int[][] stamps;
+  private final int interval;
+  private final double[][] checkpoints;
+  private final int[] dim;
+
+  /**
+   * Creates a new instance
+   * @param initial Probability of starting in each state
+   * @param transition {@code transition[r][s]} is the probability of moving from state
+   *                   {@code r} to state {@code s}.
+   * @param emission {@code emission[s][o]} is the probability of observing {@code o} in state
+   *                 {@code s}.
+   * @param observations Observed symbols; not empty
+   * @param k Distance between checkpoint rows; positive.
+   */
+  public Viterbi(final double[] initial, final double[][] transition, final double[][] emission,
+                 final int[] observations, final int k) {
+    assert initial != null && transition != null && emission != null && observations != null : "null parameter";
+    assert initial.length > 0 && transition.length == initial.length && emission.length == initial.length : "invalid model";
+    assert observations.length > 0 && k > 0 : "invalid parameters";
+    this.initial = initial;
+    this.transition = transition;
+    this.emission = emission;
+    this.observations = observations;
+    this.interval = k;
+
+    final int states = initial.length;
+    final int symbols = emission[0].length;
+    this.dim = new int[] { observations.length, states };
+    this.logInitial = new double[states];
+    this.transposed = new double[states][states];
+    this.logEmission = new double[symbols][states];
+    for ( int s=0; s<states; s++ ) {
+      logInitial[s] = Math.log(initial[s]);
+      for ( int r=0; r<states; r++ ) {
+        transposed[s][r] = Math.log(transition[r][s]);
+      }
+      for ( int o=0; o<symbols; o++ ) {
+        logEmission[o][s] = Math.log(emission[s][o]);
+      }
+    }
+
+    this.rows = new double[2][states];
+    this.stamps = new int[2][states];
+    this.checkpoints = new double[(dim[0] - 1) / k + 1][states];
+  }
+
+  /**
+   * Creates a new instance with checkpoints every {@code sqrt(T)} rows, which minimises memory.
+   * @param initial Probability of starting in each state
+   * @param transition {@code transition[r][s]} is the probability of moving from state
+   *                   {@code r} to state {@code s}.
+   * @param emission {@code emission[s][o]} is the probability of observing {@code o} in state
+   *                 {@code s}.
+   * @param observations Observed symbols; not empty
+   */
+  public Viterbi(final double[] initial, final double[][] transition, final double[][] emission, final int[] observations) {
+    this(initial, transition, emission, observations, Math.max(1, (int)Math.ceil(Math.sqrt(observations.length))));
+  }
+
+  @Override
+  public int[] getDimension() {
+    return dim.clone();
+  }
+
+  @Override
+  public boolean isComputed(final int[] i) {
+    assert i.length == 2 && i[0] >= 0 && i[1] >= 0 && i[0] < dim[0] && i[1] < dim[1] : "invalid indices";
+    return stamps[i[0] & 1][i[1]] > i[0];
+  }
+
+  @Override
+  public boolean isComputable(final int[] i) {
+    assert i.length == 2 && i[0] >= 0 && i[1] >= 0 && i[0] < dim[0] && i[1] < dim[1] : "invalid indices";
+    if ( i[0] > 0 ) {
+      for ( int r=0; r<dim[1]; r++ ) {
+        if ( !isComputed(new int[] { i[0] - 1, r }) ) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public void compute(final int[] i) {
+    assert i.length == 2 : "invalid indices";
+    computeRange(i[0], i[1], i[1] + 1);
+  }
+
+  @Override
+  public void computeRange(final int row, final int from, final int to) {
+    assert row >= 0 && row < dim[0] && 0 <= from && from <= to && to <= dim[1] : "invalid indices";
+    assert from == to || isComputable(new int[] {row, from}) : "dependecies not computed";
+    final double[] cur = rows[row & 1];
+
+    step(row, row > 0 ? rows[(row - 1) & 1] : null, cur, from, to);
+
+    if ( row % interval == 0 ) {
+      System.arraycopy(cur, from, checkpoints[row / interval], from, to - from);
+    }
+
+    final int[] stamp = stamps[row & 1];
+    for ( int s=from; s<to; s++ ) {
+      stamp[s] = row + 1;
+    }
+  }
+
+  /**
+   * Computes entries {@code [from, to)} of row {@code t} from row {@code t-1}.
+   * @param prev Row {@code t-1}; ignored if {@code t == 0}
+   * @param cur Target for row {@code t}
+   */
+  private void step(final int t, final double[] prev, final double[] cur, final int from, final int to) {
+    final double[] emit = logEmission[observations[t]];
+
+    if ( t == 0 ) {
+      for ( int s=from; s<to; s++ ) {
+        cur[s] = logInitial[s] + emit[s];
+      }
+      return;
+    }
+
+    final int states = dim[1];
+    for ( int s=from; s<to; s++ ) {
+      cur[s] = Double.NEGATIVE_INFINITY;
+    }
+
+    for ( int r0=0; r0<states; r0+=BLOCK ) {
+      final int r1 = Math.min(states, r0 + BLOCK);
+      for ( int s=from; s<to; s++ ) {
+        final double[] in = transposed[s];
+        double m0 = cur[s], m1 = m0, m2 = m0, m3 = m0;
+        int r = r0;
+        for ( ; r+3<r1; r+=4 ) {
+          m0 = Math.max(m0, prev[r]     + in[r]);
+          m1 = Math.max(m1, prev[r + 1] + in[r + 1]);
+          m2 = Math.max(m2, prev[r + 2] + in[r + 2]);
+          m3 = Math.max(m3, prev[r + 3] + in[r + 3]);
+        }
+        for ( ; r<r1; r++ ) {
+          m0 = Math.max(m0, prev[r] + in[r]);
+        }
+        cur[s] = Math.max(Math.max(m0, m1), Math.max(m2, m3));
+      }
+    }
+
+    for ( int s=from; s<to; s++ ) {
+      cur[s] += emit[s];
+    }
+  }
+
+  /**
+   * @return The smallest {@code i} that maximises {@code a[i] + b[i]}
+   */
+  private static int argmax(final double[] a, final double[] b) {
+    int res = 0;
+    for ( int i=1; i<a.length; i++ ) {
+      if ( a[i] + b[i] > a[res] + b[res] ) {
+        res = i;
+      }
+    }
+    return res;
+  }
+
+  /**
+   * Traces back the best path; recomputes one segment between checkpoints at a time.
+   * @return The most likely state sequence, one state per observation. Ties are broken
+   *         towards smaller states.
+   */
+  @Override
+  public int[] getSolution() {
+    if ( !isSolved() ) {
+      throw new Error("Requests result, but computation is not done.");
+    }
+
+    final int length = dim[0];
+    final int[] path = new int[length];
+    path[length - 1] = argmax(rows[(length - 1) & 1], new double[dim[1]]);
+
+    final double[][] segment = new double[Math.min(interval, length)][];
+    for ( int c=(Math.max(0, length - 2) / interval) * interval; c>=0 && length > 1; c-=interval ) {
+      final int end = Math.min(c + interval, length - 1);
+
+      segment[0] = checkpoints[c / interval];
+      for ( int t=c+1; t<end; t++ ) {
+        if ( segment[t - c] == null ) {
+          segment[t - c] = new double[dim[1]];
+        }
+        step(t, segment[t - c - 1], segment[t - c], 0, dim[1]);
+      }
+
+      for ( int t=end; t>c; t-- ) {
+        path[t - 1] = argmax(segment[t - 1 - c], transposed[path[t]]);
+      }
+    }
+
+    return path;
+  }
+
+  @Override
+  public boolean isSolved() {
+    for ( int s=0; s<dim[1]; s++ ) {
+      if ( !isComputed(new int[] { dim[0] - 1, s }) ) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public int reachLeft(final int i) {
+    return dim[1];
+  }
+
+  @Override
+  public int reachRight(final int i) {
+    return dim[1];
+  }
+
+  @Override
+  public int rowsKept() {
+    return rows.length;
+  }
+
+  @Override
+  public InputKey getInputKey() {
+    return new InputKey(Viterbi.class, initial.clone(), copy(transition), copy(emission), observations.clone());
+  }
+
+  private static double[][] copy(final double[][] a) {
+    final double[][] res = new double[a.length][];
+    for ( int i=0; i<a.length; i++ ) {
+      res[i] = a[i].clone();
+    }
+    return res;
+  }
+
+  @Override
+  public String toString() {
+    return "Viterbi for " + dim[0] + " observations of " + dim[1] + " states -- " + (isSolved() ? "" : "un") + "solved";
+  }
+
+  @Override
+  public Viterbi clone() {
+    return new Viterbi(initial, transition, emission, observations, interval);
+  }
+}
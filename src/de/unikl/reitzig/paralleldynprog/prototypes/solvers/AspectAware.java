@@ -0,0 +1,101 @@
+/*
+ * This file is part of Parallel Dynamic Programming Implementation Prototype (PDPIP).
+ *
+ * PDPIP is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDPIP is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDPIP.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unikl.reitzig.paralleldynprog.prototypes.solvers;
+
+import de.unikl.reitzig.paralleldynprog.prototypes.DynProgProblem;
+import de.unikl.reitzig.paralleldynprog.prototypes.DynProgSolver;
+
+/**
+ * Implements the Diagonal Frontier scheme with a decomposition chosen by the table's aspect ratio.
+ * Tables with many rows are filled row-cyclically as by {@link BlockCheckWait}. Short and wide
+ * tables are cut into column strips that are dealt out cyclically as by {@link ColumnBlock}, i.e.
+ * the iteration space is transposed.
+ * <p/>
+ * Row-cyclic filling of an {@code m x n} table loses about one row length {@code n} to pipeline
+ * fill per worker, i.e. a fraction of {@code p/m} of its work. With {@code p} strips per worker
+ * and {@code p+1} blocks per strip, the transposed decomposition loses a fraction of about
+ * {@code 1/p}. Therefore, strips are used iff {@code m < p^2}.
+ *
+ * @author agent, 10.2026
+ */
+public class AspectAware implements DynProgSolver {
+  private final int p;
+  private final int blockSize;
+
+  /**
+   * Creates a new instance
+   *
+   * @param p The number of workers this solver will use. Has to be positive.
+   * @param k Length of the blocks this solver will fill at a time, along whichever dimension
+   *          is cut into blocks. Passing a value less or equal to {@code 0} will result in
+   *          {@code n/(p + 1) + 1} being used, {@code n} the length of that dimension.
+   */
+  public AspectAware(final int p, final int k) {
+    assert p > 0 : "Invalid worker count";
+    this.p = p;
+    this.blockSize = k;
+  }
+
+  /**
+   * Creates a new instance that uses {@code p+1} blocks per row or strip.
+   *
+   * @param p The number of workers this solver will use. Has to be positive.
+   */
+  public AspectAware(final int p) {
+    this(p, -1);
+  }
+
+ /**
+   * Creates a new instance that uses all processors and {@code p+1} blocks per row or strip.
+   */
+  public AspectAware() {
+    this(Runtime.getRuntime().availableProcessors(), -1);
+  }
+
+  @Override
+  public void solve(final DynProgProblem<?> problem) {
+    assert problem != null : "null parameter";
+
+    if ( !problem.isSolved() && problem.getDimension().length == 2 ) {
+      decompose(problem.getDimension()).solve(problem);
+    }
+  }
+
+  /**
+   * Chooses the decomposition for a table of the specified size.
+   * @param dim Dimensions of a two-dimensional table
+   * @return A solver that keeps all {@code p} workers busy on such a table.
+   */
+  DynProgSolver decompose(final int[] dim) {
+    assert dim != null && dim.length == 2 : "invalid dimension";
+
+    if ( (long)dim[0] >= (long)p * p ) {
+      return new BlockCheckWait(p, blockSize);
+    }
+    else {
+      final int columnWidth = dim[1]/(p * p) + 1;
+      final int k = blockSize > 0 ? blockSize : dim[0]/(p + 1) + 1;
+      return new ColumnBlock(p, columnWidth, k);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return this.getClass().getSimpleName() + "[" + p + (blockSize > 0 ? "," + blockSize : "") + "]";
+  }
+}
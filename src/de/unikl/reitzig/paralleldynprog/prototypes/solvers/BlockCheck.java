@@ -63,17 +63,24 @@ public class BlockCheck extends DiagonalFrontier {
 
     for ( param[0]=w; param[0]<dim[0]; param[0]+=p ) {
       checker[0] = Math.max(0, param[0] - 1); // Sufficient because of assumptions; all intermediate can be computed if checker is done
-      param[1] = 0;
 
       for ( int offset=0; offset<dim[1]; offset+=k ) {
         // Wait until current block is computable
         checker[1] = Math.min(dim[1] - 1, offset + k - 1);
-        while ( param[0] != 0 && !problem.isComputed(checker) ) { Thread.yield(); }
-
-        for ( ; param[1]<Math.min(dim[1], offset + k); param[1]+=1 ) {
-          problem.compute(param);
+        if ( param[0] != 0 && !problem.isComputed(checker) ) {
+          final long token = n.metrics.beginWait(w);
+          while ( !problem.isComputed(checker) && !cancelled() ) { Thread.yield(); }
+          n.metrics.endWait(w, token);
+        }
+        if ( cancelled() ) {
+          return;
         }
+
+        problem.computeRange(param[0], offset, Math.min(dim[1], offset + k));
       }
+
+      n.metrics.progress(w, param[0], dim[1]);
+      n.metrics.rowsCompleted(param[0]);
     }
   }
 
@@ -63,26 +63,35 @@ public class BlockCheckSleep extends DiagonalFrontier {
 
     for ( param[0]=w; param[0]<dim[0]; param[0]+=p ) {
       checker[0] = Math.max(0, param[0] - 1);
-      param[1] = 0;
 
       for ( int offset=0; offset<dim[1]; offset+=k ) {
         // Wait until current block is computable
         //int s = 1;
         checker[1] = Math.min(dim[1] - 1, offset + k - 1);
-        while ( param[0] != 0 && !problem.isComputed(checker) ) { // Sufficient because of assumptions; all intermediate can be computed if this one is
+        if ( param[0] != 0 && !problem.isComputed(checker) ) {
+          final long token = n.metrics.beginWait(w);
           try {
-            Thread.sleep(1);
+            while ( !problem.isComputed(checker) ) { // Sufficient because of assumptions; all intermediate can be computed if this one is
+              Thread.sleep(1);
+              //s += 1;
+            }
           }
           catch (InterruptedException e) {
-            e.printStackTrace();
+            return;
+          }
+          finally {
+            n.metrics.endWait(w, token);
           }
-          //s += 1;
         }
-
-        for ( ; param[1]<Math.min(dim[1], offset + k); param[1]+=1 ) {
-          problem.compute(param);
+        if ( cancelled() ) {
+          return;
         }
+
+        problem.computeRange(param[0], offset, Math.min(dim[1], offset + k));
       }
+
+      n.metrics.progress(w, param[0], dim[1]);
+      n.metrics.rowsCompleted(param[0]);
     }
   }
 
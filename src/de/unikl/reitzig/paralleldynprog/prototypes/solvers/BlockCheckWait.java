@@ -68,7 +68,6 @@ public class BlockCheckWait extends DiagonalFrontier {
 
     for ( param[0]=w; param[0]<dim[0]; param[0]+=p ) {
       checker[0] = Math.max(0, param[0] - 1);
-      param[1] = 0;
 
       for ( int offset=0; offset<dim[1]; offset+=k ) {
         // Wait until current block is computable
@@ -76,13 +75,17 @@ public class BlockCheckWait extends DiagonalFrontier {
         if ( param[0] != 0 ) {
           note.waitWhileNotComputed(leftNeighbour, problem, checker);
         }
-
-        for ( ; param[1]<Math.min(dim[1], offset + k); param[1]+=1 ) {
-          problem.compute(param);
+        if ( cancelled() ) {
+          return;
         }
 
+        problem.computeRange(param[0], offset, Math.min(dim[1], offset + k));
+
         note.notify(w);
       }
+
+      note.metrics.progress(w, param[0], dim[1]);
+      note.metrics.rowsCompleted(param[0]);
     }
   }
 
@@ -43,10 +43,20 @@ public class CellCheck extends DiagonalFrontier {
     for ( param[0]=w; param[0]<dim[0]; param[0]+=p ) {
       for ( param[1]=0; param[1]<dim[1]; param[1]+=1 ) {
         // Wait until current cell is computable
-        while ( !problem.isComputable(param) ) { Thread.yield(); }
+        if ( !problem.isComputable(param) ) {
+          final long token = n.metrics.beginWait(w);
+          while ( !problem.isComputable(param) && !cancelled() ) { Thread.yield(); }
+          n.metrics.endWait(w, token);
+        }
+        if ( cancelled() ) {
+          return;
+        }
 
         problem.compute(param);
       }
+
+      n.metrics.progress(w, param[0], dim[1]);
+      n.metrics.rowsCompleted(param[0]);
     }
   }
 
@@ -44,18 +44,30 @@ public class CellCheckSleep extends DiagonalFrontier {
       for ( param[1]=0; param[1]<dim[1]; param[1]+=1 ) {
         // Wait until current cell is computable
         //int s = 1;
-        while ( !problem.isComputable(param) ) {
+        if ( !problem.isComputable(param) ) {
+          final long token = n.metrics.beginWait(w);
           try {
-            Thread.sleep(1);
+            while ( !problem.isComputable(param) ) {
+              Thread.sleep(1);
+              //s += 1;
+            }
           }
           catch (InterruptedException e) {
-            e.printStackTrace();
+            return;
           }
-          //s += 1;
+          finally {
+            n.metrics.endWait(w, token);
+          }
+        }
+        if ( cancelled() ) {
+          return;
         }
 
         problem.compute(param);
       }
+
+      n.metrics.progress(w, param[0], dim[1]);
+      n.metrics.rowsCompleted(param[0]);
     }
   }
 
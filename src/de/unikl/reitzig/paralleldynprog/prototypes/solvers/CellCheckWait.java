@@ -43,9 +43,15 @@ public class CellCheckWait extends DiagonalFrontier {
     for ( param[0]=w; param[0]<dim[0]; param[0]+=p ) {
       for ( param[1]=0; param[1]<dim[1]; param[1]+=1 ) {
         note.waitWhileNotComputable(leftNeighbour, problem,  param);
+        if ( cancelled() ) {
+          return;
+        }
         problem.compute(param);
         note.notify(w);
       }
+
+      note.metrics.progress(w, param[0], dim[1]);
+      note.metrics.rowsCompleted(param[0]);
     }
   }
 
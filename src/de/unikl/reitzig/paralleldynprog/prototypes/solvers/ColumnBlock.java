@@ -86,13 +86,18 @@ public class ColumnBlock extends DiagonalFrontier {
         if ( coffset > 0 ) {
           note.waitWhileNotComputed(leftNeighbour, problem, checker);
         }
+        if ( cancelled() ) {
+          return;
+        }
 
         for ( param[0]=roffset; param[0]<Math.min(dim[0], roffset+k); param[0]++ ) {
-          for ( param[1]=coffset; param[1]<Math.min(dim[1], coffset+cw); param[1]++ ) {
-            problem.compute(param);
-          }
+          problem.computeRange(param[0], coffset, Math.min(dim[1], coffset+cw));
         }
 
+        note.metrics.progress(w, param[0] - 1, (long)(param[0] - roffset) * (Math.min(dim[1], coffset+cw) - coffset));
+        if ( coffset + cw >= dim[1] ) {
+          note.metrics.rowsCompleted(param[0] - 1);
+        }
         note.notify(w);
       }
     }
@@ -22,6 +22,8 @@ import de.unikl.reitzig.paralleldynprog.prototypes.DynProgSolver;
 import de.unikl.reitzig.paralleldynprog.prototypes.Util;
 import vanilla.java.affinity.AffinityThreadFactory;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 
 import static vanilla.java.affinity.AffinityStrategies.ANY;
@@ -34,6 +36,9 @@ import static vanilla.java.affinity.AffinityStrategies.DIFFERENT_CORE;
  * @author Raphael Reitzig, 02.2012
  */
 abstract class DiagonalFrontier implements DynProgSolver {
+  /** Index of the worker running in the current thread */
+  private static final ThreadLocal<Integer> WORKER = new ThreadLocal<Integer>();
+
   final int p;
 
   /**
@@ -52,31 +57,52 @@ abstract class DiagonalFrontier implements DynProgSolver {
       final CountDownLatch endGate = new CountDownLatch(p);
 
       final AffinityThreadFactory factory = new Util.AffinityFactory(this + ".Worker", Util.SAME_SOCKET_DIFFERENT_CORE, DIFFERENT_CORE, ANY);
-      final Notifier gates = new Notifier(p);
+      final SolverMetrics metrics = SolverMetrics.start(this, problem, p);
+      final Notifier gates = new Notifier(p, metrics);
+      final List<Thread> workers = new ArrayList<Thread>(p);
 
       for ( int i=0; i<p; i++ ) {
         final int fi = i;
 
-        factory.newThread(new Runnable() {
+        final Thread t = factory.newThread(new Runnable() {
           @Override
           public void run() {
-            fillTable(problem, fi, gates);
-            endGate.countDown();
+            WORKER.set(fi);
+            try {
+              fillTable(problem, fi, gates);
+            }
+            finally {
+              endGate.countDown();
+            }
           }
-        }).start();
+        });
+        workers.add(t);
+        t.start();
       }
 
-      try {
-        endGate.await();
-      }
-      catch (InterruptedException e) {
-        e.printStackTrace();
-      }
+      Util.awaitWorkers(endGate, workers);
+      metrics.finish();
     }
   }
 
   /**
-   * Fills the part of problem's table that is designated to worker {@code w}
+   * @return {@code true} iff the current worker has been asked to stop.
+   */
+  static boolean cancelled() {
+    return Thread.currentThread().isInterrupted();
+  }
+
+  /**
+   * @return Index of the worker running in the current thread
+   */
+  static int worker() {
+    final Integer w = WORKER.get();
+    return w != null ? w : 0;
+  }
+
+  /**
+   * Fills the part of problem's table that is designated to worker {@code w}.
+   * Implementations return early, leaving the table partially filled, if {@link #cancelled()}.
    * @param problem The problem to be solved
    * @param w Worker number.
    * @param gates Facility to keep threads in sync.
@@ -84,16 +110,21 @@ abstract class DiagonalFrontier implements DynProgSolver {
   abstract void fillTable(DynProgProblem<?> problem, int w, Notifier gates);
 
   /**
-   * Allows for a number of threads to wait for and notify each other.
+   * Allows for a number of threads to wait for and notify each other. Time spent waiting is
+   * recorded in {@link #metrics}, where workers also report their progress.
    */
   protected static class Notifier {
     private final Object[] gates;
+    final SolverMetrics metrics;
 
     /**
      * Creates a new instance
      * @param p The number of threads that need to be kept in sync.
+     * @param metrics Statistics of the current solve
      */
-    Notifier(final int p) {
+    Notifier(final int p, final SolverMetrics metrics) {
+      assert metrics != null : "null parameter";
+      this.metrics = metrics;
       gates = new Object[p];
       for ( int i=0; i<p; i++ ) {
         gates[i] = new Object();
@@ -101,17 +132,23 @@ abstract class DiagonalFrontier implements DynProgSolver {
     }
 
     /**
-     * Waits for the thread with index {@code w}.
+     * Waits for the thread with index {@code w}. Returns early with the interrupt status set
+     * if the current thread is interrupted.
      * @param w Index to wait for; requires {@code 0 <= w < p}.
      */
     void waitFor(final int w) {
       assert w >= 0 && w < gates.length : "invalid gate index";
+      final int self = worker();
       synchronized ( gates[w] ) {
+        final long token = metrics.beginWait(self);
         try {
           gates[w].wait();
         }
         catch (InterruptedException e) {
-          e.printStackTrace();
+          Thread.currentThread().interrupt();
+        }
+        finally {
+          metrics.endWait(self, token);
         }
       }
     }
@@ -147,7 +184,8 @@ abstract class DiagonalFrontier implements DynProgSolver {
     }
 
     /**
-     * Waits for the specified thread until the specified cell is computable.
+     * Waits for the specified thread until the specified cell is computable, or the current
+     * thread is interrupted.
      * @param w Index to wait for; requires {@code 0 <= w < p}.
      * @param prob Computed problem
      * @param param Valid parameter of {@code prob}
@@ -155,14 +193,15 @@ abstract class DiagonalFrontier implements DynProgSolver {
     void waitWhileNotComputable(final int w, final DynProgProblem<?> prob, final int[] param) {
       assert w >= 0 && w < gates.length : "invalid gate index";
       synchronized ( gates[w] ) {
-        while ( !prob.isComputable(param) ) {
+        while ( !prob.isComputable(param) && !cancelled() ) {
           waitFor(w);
         }
       }
     }
 
     /**
-     * Waits for the specified thread until the specified cell is computed.
+     * Waits for the specified thread until the specified cell is computed, or the current
+     * thread is interrupted.
      * @param w Index to wait for; requires {@code 0 <= w < p}.
      * @param prob Computed problem
      * @param param Valid parameter of {@code prob}
@@ -170,7 +209,7 @@ abstract class DiagonalFrontier implements DynProgSolver {
     void waitWhileNotComputed(final int w, final DynProgProblem<?> prob, final int[] param) {
       assert w >= 0 && w < gates.length : "invalid gate index";
       synchronized ( gates[w] ) {
-        while ( !prob.isComputed(param) ) {
+        while ( !prob.isComputed(param) && !cancelled() ) {
           waitFor(w);
         }
       }
@@ -0,0 +1,183 @@
+/*
+ * This file is part of Parallel Dynamic Programming Implementation Prototype (PDPIP).
+ *
+ * PDPIP is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDPIP is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDPIP.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unikl.reitzig.paralleldynprog.prototypes.solvers;
+
+import de.unikl.reitzig.paralleldynprog.prototypes.DynProgProblem;
+import de.unikl.reitzig.paralleldynprog.prototypes.DynProgSolver;
+import de.unikl.reitzig.paralleldynprog.prototypes.IntervalProblem;
+import de.unikl.reitzig.paralleldynprog.prototypes.Util;
+import vanilla.java.affinity.AffinityThreadFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static vanilla.java.affinity.AffinityStrategies.ANY;
+import static vanilla.java.affinity.AffinityStrategies.DIFFERENT_CORE;
+
+/**
+ * Solves {@link IntervalProblem}s diagonal by diagonal, i.e. by increasing interval length;
+ * other problems are ignored. All workers share every diagonal, with a barrier between
+ * diagonals.
+ * <p/>
+ * Cells of long intervals are expensive and their diagonals short, so a fixed split would
+ * leave workers idle. Instead, workers claim chunks of intervals with guided scheduling:
+ * every chunk is a {@code 1/(2p)} share of what is left of the diagonal, but covers at least
+ * {@code grain} units of work, a cell of length {@code l} counting {@code l} units.
+ *
+ * @author agent, 10.2026
+ */
+public class DiagonalSweep implements DynProgSolver {
+  private static final int GRAIN = 4096;
+
+  private final int p;
+  private final int grain;
+
+  /**
+   * Creates a new instance
+   *
+   * @param p The number of workers this solver will use. Has to be positive.
+   * @param grain Minimum work per chunk, in cells times interval length. Has to be positive.
+   */
+  public DiagonalSweep(final int p, final int grain) {
+    assert p > 0 && grain > 0 : "invalid parameters";
+    this.p = p;
+    this.grain = grain;
+  }
+
+  /**
+   * Creates a new instance
+   *
+   * @param p The number of workers this solver will use. Has to be positive.
+   */
+  public DiagonalSweep(final int p) {
+    this(p, GRAIN);
+  }
+
+  /**
+   * Creates a new instance that uses all processors.
+   */
+  public DiagonalSweep() {
+    this(Runtime.getRuntime().availableProcessors());
+  }
+
+  @Override
+  public void solve(final DynProgProblem<?> problem) {
+    assert problem != null : "null parameter";
+
+    if ( !problem.isSolved() && problem.getDimension().length == 2 && problem instanceof IntervalProblem ) {
+      final int n = problem.getDimension()[0];
+      // One claim counter per diagonal, so that no counter has to be reset between diagonals
+      final AtomicIntegerArray next = new AtomicIntegerArray(n + 1);
+      final CyclicBarrier diagonalGate = new CyclicBarrier(p);
+      final CountDownLatch endGate = new CountDownLatch(p);
+      final SolverMetrics metrics = SolverMetrics.start(this, problem, p);
+
+      final AffinityThreadFactory factory = new Util.AffinityFactory(this + ".Worker", Util.SAME_SOCKET_DIFFERENT_CORE, DIFFERENT_CORE, ANY);
+      final List<Thread> workers = new ArrayList<Thread>(p);
+
+      for ( int i=0; i<p; i++ ) {
+        final int fi = i;
+
+        final Thread t = factory.newThread(new Runnable() {
+          @Override
+          public void run() {
+            final Worker w = new Worker(fi, (IntervalProblem<?>)problem, next, metrics);
+            w.run(diagonalGate, endGate);
+          }
+        });
+        workers.add(t);
+        t.start();
+      }
+
+      Util.awaitWorkers(endGate, workers);
+      metrics.finish();
+    }
+  }
+
+  private class Worker {
+    private final int nr;
+    private final IntervalProblem<?> prob;
+    private final AtomicIntegerArray next;
+    private final SolverMetrics metrics;
+    final int n;
+
+    Worker(final int nr, final IntervalProblem<?> prob, final AtomicIntegerArray next, final SolverMetrics metrics) {
+      assert prob != null && next != null && metrics != null : "null parameter";
+      this.nr = nr;
+      this.prob = prob;
+      this.next = next;
+      this.metrics = metrics;
+      this.n = prob.getDimension()[0];
+    }
+
+    /**
+     * Claims and fills chunks of every diagonal. Stops early if the thread is interrupted or
+     * another worker stopped early.
+     */
+    public void run(final CyclicBarrier diagonalGate, final CountDownLatch endGate) {
+      assert diagonalGate != null && endGate != null : "null parameter";
+
+      try {
+        for ( int length=1; length<=n; length++ ) {
+          final int cells = n - length + 1;
+          final int least = (grain + length - 1) / length;
+
+          int from;
+          while ( (from = next.get(length)) < cells ) {
+            if ( Thread.currentThread().isInterrupted() ) {
+              return;
+            }
+
+            final int to = Math.min(cells, from + Math.max(least, (cells - from) / (2 * p)));
+            if ( next.compareAndSet(length, from, to) ) {
+              prob.computeDiagonal(length, from, to);
+              metrics.progress(nr, length - 1, to - from);
+            }
+          }
+
+          final long token = metrics.beginWait(nr);
+          try {
+            diagonalGate.await();
+          }
+          catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+          }
+          catch (BrokenBarrierException e) {
+            return;
+          }
+          finally {
+            metrics.endWait(nr, token);
+          }
+        }
+      }
+      finally {
+        endGate.countDown();
+      }
+    }
+  }
+
+  @Override
+  public String toString() {
+    return this.getClass().getSimpleName() + "[" + p + (grain != GRAIN ? "," + grain : "") + "]";
+  }
+}
@@ -0,0 +1,328 @@
+/*
+ * This file is part of Parallel Dynamic Programming Implementation Prototype (PDPIP).
+ *
+ * PDPIP is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDPIP is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDPIP.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unikl.reitzig.paralleldynprog.prototypes.solvers;
+
+import de.unikl.reitzig.paralleldynprog.prototypes.Util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Computes optimal edit scripts (unit costs) in linear space after Hirschberg.
+ * <p/>
+ * The first string is halved; a forward pass over the upper half and a backward pass over
+ * the lower half yield the last rows of the respective distance tables, from which the
+ * column an optimal alignment crosses the middle in can be read. Both halves are then aligned
+ * recursively. Passes and halves run in parallel, and large passes are split into tiles
+ * themselves which are filled in a wavefront, strip of columns by strip of columns. Pieces
+ * with few cells are aligned with a full table, and small pieces do not fork any more.
+ * <p/>
+ * Scripts transform the first string into the second one; they consist of {@code M} (match),
+ * {@code S} (substitute), {@code D} (delete a character of the first string) and {@code I}
+ * (insert a character of the second string). Unlike
+ * {@link de.unikl.reitzig.paralleldynprog.prototypes.problems.EditDistance}, the first
+ * characters are aligned, too.
+ *
+ * @author agent, 10.2026
+ */
+public class Hirschberg {
+  /** Pieces with at most this many cells are aligned with a full table. */
+  private static final int LEAF = 1 << 12;
+  /** Pieces with fewer cells are processed without forking. */
+  private static final long FORK = 1L << 16;
+  /** Minimum width of column strips in parallel passes */
+  private static final int STRIP = 64;
+
+  private final int p;
+
+  /**
+   * Creates a new instance
+   *
+   * @param p The number of workers this engine will use. Has to be positive.
+   */
+  public Hirschberg(final int p) {
+    assert p > 0 : "Invalid worker count";
+    this.p = p;
+  }
+
+  /**
+   * Creates a new instance that uses all processors.
+   */
+  public Hirschberg() {
+    this(Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Computes an optimal edit script.
+   * @param a First string
+   * @param b Second string
+   * @return An edit script of minimum {@link #cost(String)} that transforms {@code a} into {@code b}
+   * @throws CancellationException If the calling thread is interrupted; the interrupt flag
+   *                               stays set.
+   */
+  public String align(final String a, final String b) {
+    assert a != null && b != null : "null parameter";
+
+    final AtomicBoolean cancelled = new AtomicBoolean(false);
+    final ForkJoinPool pool = new ForkJoinPool(p, new Util.AffinityForkJoinFactory(), null, false);
+    try {
+      final String res = pool.submit(new Align(a.toCharArray(), b.toCharArray(), cancelled, 0, a.length(), 0, b.length())).get();
+      pool.shutdown();
+      return res;
+    }
+    catch ( InterruptedException e ) {
+      cancelled.set(true);
+      Thread.currentThread().interrupt();
+      Util.shutdownAndAwait(pool);
+      throw new CancellationException("Interrupted while aligning");
+    }
+    catch ( ExecutionException e ) {
+      pool.shutdown();
+      throw new RuntimeException("Alignment failed in " + this, e.getCause());
+    }
+  }
+
+  /**
+   * @return The number of edit operations in {@code script}, i.e. its characters other than {@code M}
+   */
+  public static int cost(final String script) {
+    int res = 0;
+    for ( int i=0; i<script.length(); i++ ) {
+      res += script.charAt(i) == 'M' ? 0 : 1;
+    }
+    return res;
+  }
+
+  /**
+   * Aligns {@code a[a0,a1)} with {@code b[b0,b1)}.
+   */
+  @SuppressWarnings("serial") // Tasks are never serialised
+  private static class Align extends RecursiveTask<String> {
+    private final char[] a, b;
+    private final AtomicBoolean cancelled;
+    private final int a0, a1, b0, b1;
+
+    Align(final char[] a, final char[] b, final AtomicBoolean cancelled, final int a0, final int a1, final int b0, final int b1) {
+      this.a = a;
+      this.b = b;
+      this.cancelled = cancelled;
+      this.a0 = a0;
+      this.a1 = a1;
+      this.b0 = b0;
+      this.b1 = b1;
+    }
+
+    @Override
+    protected String compute() {
+      final int n = a1 - a0;
+      final int m = b1 - b0;
+
+      if ( cancelled.get() ) {
+        return "";
+      }
+      else if ( n <= 1 || m <= 1 || (long)(n + 1) * (m + 1) <= LEAF ) {
+        return leaf();
+      }
+
+      final boolean fork = (long)n * m >= FORK;
+      final int mid = a0 + n/2;
+      final Pass forward = new Pass(a, b, cancelled, a0, mid, b0, b1, false);
+      final Pass backward = new Pass(a, b, cancelled, mid, a1, b0, b1, true);
+      run(fork, forward, backward);
+
+      final int[] f = forward.join();
+      final int[] g = backward.join();
+      int k = 0;
+      for ( int j=1; j<=m; j++ ) {
+        if ( f[j] + g[m - j] < f[k] + g[m - k] ) {
+          k = j;
+        }
+      }
+
+      final Align upper = new Align(a, b, cancelled, a0, mid, b0, b0 + k);
+      final Align lower = new Align(a, b, cancelled, mid, a1, b0 + k, b1);
+      run(fork, upper, lower);
+      return upper.join() + lower.join();
+    }
+
+    private static void run(final boolean fork, final ForkJoinTask<?> t1, final ForkJoinTask<?> t2) {
+      if ( fork ) {
+        ForkJoinTask.invokeAll(t1, t2);
+      }
+      else {
+        t1.invoke();
+        t2.invoke();
+      }
+    }
+
+    /**
+     * Aligns with a full table and traceback.
+     */
+    private String leaf() {
+      final int n = a1 - a0;
+      final int m = b1 - b0;
+      final int[][] d = new int[n + 1][m + 1];
+      for ( int j=0; j<=m; j++ ) {
+        d[0][j] = j;
+      }
+      for ( int i=1; i<=n; i++ ) {
+        d[i][0] = i;
+        for ( int j=1; j<=m; j++ ) {
+          d[i][j] = Math.min(Math.min(d[i-1][j], d[i][j-1]) + 1, d[i-1][j-1] + (a[a0 + i - 1] == b[b0 + j - 1] ? 0 : 1));
+        }
+      }
+
+      final StringBuilder res = new StringBuilder(n + m);
+      int i = n;
+      int j = m;
+      while ( i > 0 || j > 0 ) {
+        if ( i > 0 && j > 0 && d[i][j] == d[i-1][j-1] + (a[a0 + i - 1] == b[b0 + j - 1] ? 0 : 1) ) {
+          res.append(a[a0 + i - 1] == b[b0 + j - 1] ? 'M' : 'S');
+          i--;
+          j--;
+        }
+        else if ( i > 0 && d[i][j] == d[i-1][j] + 1 ) {
+          res.append('D');
+          i--;
+        }
+        else {
+          res.append('I');
+          j--;
+        }
+      }
+      return res.reverse().toString();
+    }
+  }
+
+  /**
+   * Computes the last row of the distance table of {@code a[a0,a1)} and {@code b[b0,b1)} in
+   * linear space; if {@code reverse}, that of the reversed strings, so that entry {@code j} is
+   * the distance to the suffix of length {@code j}.
+   * <p/>
+   * Large passes split the columns into strips and the rows into bands. Tile {@code (r,s)}
+   * needs the row above from tile {@code (r-1,s)} and the column left of it from tile
+   * {@code (r,s-1)}, so the tiles on one anti-diagonal are filled in parallel. Strips share
+   * one row; each strip also keeps its last column for its right neighbour.
+   */
+  @SuppressWarnings("serial") // Tasks are never serialised
+  private static class Pass extends RecursiveTask<int[]> {
+    private final char[] a, b;
+    private final AtomicBoolean cancelled;
+    private final int a0, a1, b0, b1;
+    private final boolean reverse;
+    private int[] row;
+    private int[][] edges;
+
+    Pass(final char[] a, final char[] b, final AtomicBoolean cancelled, final int a0, final int a1,
+         final int b0, final int b1, final boolean reverse) {
+      this.a = a;
+      this.b = b;
+      this.cancelled = cancelled;
+      this.a0 = a0;
+      this.a1 = a1;
+      this.b0 = b0;
+      this.b1 = b1;
+      this.reverse = reverse;
+    }
+
+    @Override
+    protected int[] compute() {
+      final int n = a1 - a0;
+      final int m = b1 - b0;
+      row = new int[m + 1];
+      for ( int j=0; j<=m; j++ ) {
+        row[j] = j;
+      }
+
+      final int workers = getPool().getParallelism();
+      final int strips = workers > 1 && (long)n * m >= FORK ? Math.max(1, Math.min(2 * workers, m / STRIP)) : 1;
+      final int bands = strips > 1 ? Math.min(n, 4 * strips) : 1;
+
+      edges = new int[strips - 1][n + 1];
+      for ( int s=0; s<strips-1; s++ ) {
+        edges[s][0] = (int)((long)(s + 1) * m / strips);
+      }
+
+      for ( int d=0; d<bands+strips-1; d++ ) {
+        final List<ForkJoinTask<?>> tiles = new ArrayList<ForkJoinTask<?>>();
+        for ( int s=Math.max(0, d - bands + 1); s<=Math.min(d, strips - 1); s++ ) {
+          final int i0 = (int)((long)(d - s) * n / bands) + 1;
+          final int i1 = (int)((long)(d - s + 1) * n / bands) + 1;
+          final int fs = s;
+          final int c0 = (int)((long)s * m / strips);
+          final int c1 = (int)((long)(s + 1) * m / strips);
+
+          tiles.add(ForkJoinTask.adapt(new Runnable() {
+            @Override
+            public void run() {
+              fill(i0, i1, fs, c0, c1);
+            }
+          }));
+        }
+
+        if ( tiles.size() == 1 ) {
+          tiles.get(0).invoke();
+        }
+        else {
+          ForkJoinTask.invokeAll(tiles);
+        }
+        if ( cancelled.get() ) {
+          break;
+        }
+      }
+
+      row[0] = n;
+      return row;
+    }
+
+    /**
+     * Fills rows {@code [i0,i1)} of columns {@code (c0,c1]} of the table, strip {@code s}.
+     */
+    private void fill(final int i0, final int i1, final int s, final int c0, final int c1) {
+      final int[] left = s > 0 ? edges[s - 1] : null;
+      final int[] right = s < edges.length ? edges[s] : null;
+
+      for ( int i=i0; i<i1 && !cancelled.get(); i++ ) {
+        final char ai = reverse ? a[a1 - i] : a[a0 + i - 1];
+        int diag = left != null ? left[i - 1] : i - 1;
+        int cur = left != null ? left[i] : i;
+        for ( int j=c0+1; j<=c1; j++ ) {
+          final int above = row[j];
+          final char bj = reverse ? b[b1 - j] : b[b0 + j - 1];
+          cur = Math.min(Math.min(above, cur) + 1, diag + (ai == bj ? 0 : 1));
+          row[j] = cur;
+          diag = above;
+        }
+        if ( right != null ) {
+          right[i] = cur;
+        }
+      }
+    }
+  }
+
+  @Override
+  public String toString() {
+    return this.getClass().getSimpleName() + "[" + p + "]";
+  }
+}
@@ -0,0 +1,174 @@
+/*
+ * This file is part of Parallel Dynamic Programming Implementation Prototype (PDPIP).
+ *
+ * PDPIP is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDPIP is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDPIP.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unikl.reitzig.paralleldynprog.prototypes.solvers;
+
+import de.unikl.reitzig.paralleldynprog.prototypes.DynProgProblem;
+import de.unikl.reitzig.paralleldynprog.prototypes.DynProgSolver;
+import de.unikl.reitzig.paralleldynprog.prototypes.Util;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Cache-oblivious variant of the Diagonal Frontier scheme. The table is split into quadrants
+ * recursively; the upper left one is filled first, then the upper right and lower left ones
+ * in parallel, then the lower right one. Very skewed pieces are halved along their longer side
+ * only. Since pieces shrink until they fit into every cache level, there is no block size
+ * to tune.
+ * <p/>
+ * Suitable for problems whose cells depend on cells above and to the left only, e.g.
+ * {@link de.unikl.reitzig.paralleldynprog.prototypes.problems.EditDistance}.
+ *
+ * @author agent, 10.2026
+ */
+public class QuadrantSplit implements DynProgSolver {
+  /** Pieces with at most this many cells are filled directly; only amortises recursion overhead. */
+  private static final int LEAF = 1024;
+
+  private final int p;
+  private final int leaf;
+
+  /**
+   * Creates a new instance
+   *
+   * @param p The number of workers this solver will use. Has to be positive.
+   * @param leaf Maximum number of cells filled without further splitting.
+   */
+  QuadrantSplit(final int p, final int leaf) {
+    assert p > 0 && leaf > 0 : "invalid parameters";
+    this.p = p;
+    this.leaf = leaf;
+  }
+
+  /**
+   * Creates a new instance
+   *
+   * @param p The number of workers this solver will use. Has to be positive.
+   */
+  public QuadrantSplit(final int p) {
+    this(p, LEAF);
+  }
+
+  /**
+   * Creates a new instance that uses all processors.
+   */
+  public QuadrantSplit() {
+    this(Runtime.getRuntime().availableProcessors());
+  }
+
+  @Override
+  public void solve(final DynProgProblem<?> problem) {
+    assert problem != null : "null parameter";
+
+    if ( !problem.isSolved() && problem.getDimension().length == 2 ) {
+      final int[] dim = problem.getDimension();
+      final AtomicBoolean cancelled = new AtomicBoolean(false);
+      final ForkJoinPool pool = new ForkJoinPool(p, new Util.AffinityForkJoinFactory(), null, false);
+      final SolverMetrics metrics = SolverMetrics.start(this, problem, p);
+
+      try {
+        pool.submit(new Piece(problem, metrics, cancelled, 0, dim[0], 0, dim[1])).get();
+        pool.shutdown();
+      }
+      catch ( InterruptedException e ) {
+        cancelled.set(true);
+        Thread.currentThread().interrupt();
+        Util.shutdownAndAwait(pool);
+      }
+      catch ( ExecutionException e ) {
+        pool.shutdown();
+        throw new RuntimeException("Piece failed in " + this, e.getCause());
+      }
+      finally {
+        metrics.finish();
+      }
+    }
+  }
+
+  /**
+   * Fills the cells {@code [r0,r1) x [c0,c1)} of a table.
+   */
+  @SuppressWarnings("serial") // Tasks are never serialised
+  private class Piece extends RecursiveAction {
+    private final DynProgProblem<?> problem;
+    private final SolverMetrics metrics;
+    private final AtomicBoolean cancelled;
+    private final int r0, r1, c0, c1;
+
+    Piece(final DynProgProblem<?> problem, final SolverMetrics metrics, final AtomicBoolean cancelled,
+          final int r0, final int r1, final int c0, final int c1) {
+      this.problem = problem;
+      this.metrics = metrics;
+      this.cancelled = cancelled;
+      this.r0 = r0;
+      this.r1 = r1;
+      this.c0 = c0;
+      this.c1 = c1;
+    }
+
+    private Piece sub(final int r0, final int r1, final int c0, final int c1) {
+      return new Piece(problem, metrics, cancelled, r0, r1, c0, c1);
+    }
+
+    @Override
+    protected void compute() {
+      final int rows = r1 - r0;
+      final int cols = c1 - c0;
+
+      if ( rows <= 0 || cols <= 0 || cancelled.get() ) {
+        return;
+      }
+
+      if ( (long)rows * cols <= leaf ) {
+        for ( int i=r0; i<r1; i++ ) {
+          problem.computeRange(i, c0, c1);
+        }
+
+        metrics.progress((long)rows * cols);
+        if ( c1 == problem.getDimension()[1] ) {
+          metrics.rowsCompleted(r1 - 1);
+        }
+      }
+      else if ( rows > 2 * cols ) {
+        final int rm = r0 + rows/2;
+        sub(r0, rm, c0, c1).compute();
+        sub(rm, r1, c0, c1).compute();
+      }
+      else if ( cols > 2 * rows ) {
+        final int cm = c0 + cols/2;
+        sub(r0, r1, c0, cm).compute();
+        sub(r0, r1, cm, c1).compute();
+      }
+      else {
+        final int rm = r0 + rows/2;
+        final int cm = c0 + cols/2;
+        sub(r0, rm, c0, cm).compute();
+        ForkJoinTask.invokeAll(sub(r0, rm, cm, c1), sub(rm, r1, c0, cm));
+        sub(rm, r1, cm, c1).compute();
+      }
+    }
+  }
+
+  @Override
+  public String toString() {
+    return this.getClass().getSimpleName() + "[" + p + (leaf != LEAF ? "," + leaf : "") + "]";
+  }
+}
@@ -0,0 +1,186 @@
+/*
+ * This file is part of Parallel Dynamic Programming Implementation Prototype (PDPIP).
+ *
+ * PDPIP is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDPIP is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDPIP.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unikl.reitzig.paralleldynprog.prototypes.solvers;
+
+import de.unikl.reitzig.paralleldynprog.prototypes.DynProgProblem;
+import de.unikl.reitzig.paralleldynprog.prototypes.DynProgSolver;
+import de.unikl.reitzig.paralleldynprog.prototypes.RowwiseProblem;
+import de.unikl.reitzig.paralleldynprog.prototypes.problems.SmithWaterman;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Publishes completed rows of a problem while {@link #solve(DynProgSolver)} runs. Publishing
+ * row index {@code i} means that rows {@code 0} to {@code i} are computed and will not change,
+ * so subscribers may read them right away through the problem's row accessors, e.g.
+ * {@link de.unikl.reitzig.paralleldynprog.prototypes.problems.EditDistance#getRow(int)},
+ * {@link de.unikl.reitzig.paralleldynprog.prototypes.problems.RsDummy#getRow(int)} and
+ * {@link de.unikl.reitzig.paralleldynprog.prototypes.stencil.StencilProblem#getRow(int)}.
+ * <p/>
+ * Subscribe, then pass the solver to {@link #solve(DynProgSolver)}. The feed completes when
+ * that call returns, whichever way; normally iff the problem is solved, so all rows are
+ * complete then, and exceptionally with a {@link CancellationException} otherwise, e.g.
+ * because the solve was interrupted or the solver can not handle the problem. All solvers in
+ * this package feed rows while they run except {@link StreamSplit}, which does not solve
+ * {@link DynProgProblem}s; with other solvers, subscribers learn about the rows at the end.
+ * <p/>
+ * Problems that keep only their most recent rows, i.e. {@link RowwiseProblem}s and
+ * {@link SmithWaterman} instances with {@code rowsKept()} less than their number of rows,
+ * overwrite rows while they are solved and can not be fed.
+ * <p/>
+ * Workers never wait for subscribers. Published indices ascend strictly but may skip rows:
+ * rows completed while an index is being published are covered by the next one, and a
+ * subscriber whose buffer is full misses indices until it catches up.
+ *
+ * @author agent, 10.2026
+ */
+public class RowFeed extends SubmissionPublisher<Integer> {
+  /** Feed of the solve running on the current thread until the solver claims it */
+  private static final ThreadLocal<RowFeed> attached = new ThreadLocal<RowFeed>();
+
+  private final DynProgProblem<?> problem;
+  private final AtomicBoolean used = new AtomicBoolean(false);
+  /** Highest row reported complete */
+  private final AtomicInteger completed = new AtomicInteger(-1);
+  /** Held by the thread that publishes rows */
+  private final AtomicBoolean publishing = new AtomicBoolean(false);
+  /** Highest row published; only written while {@link #publishing} is held */
+  private volatile int published = -1;
+
+  /**
+   * Creates a new instance.
+   * @param problem The problem whose rows to publish
+   * @param executor Delivers rows to subscribers
+   * @param capacity Maximum number of rows buffered per subscriber
+   * @throws IllegalArgumentException if {@code problem} does not keep all rows
+   */
+  public RowFeed(final DynProgProblem<?> problem, final Executor executor, final int capacity) {
+    super(executor, capacity);
+    assert problem != null : "null parameter";
+    if ( !keepsAllRows(problem) ) {
+      throw new IllegalArgumentException(problem + " overwrites rows while it is solved");
+    }
+    this.problem = problem;
+  }
+
+  /**
+   * Creates a new instance that delivers rows with the common pool and buffers
+   * {@link Flow#defaultBufferSize()} rows per subscriber.
+   * @param problem The problem whose rows to publish
+   * @throws IllegalArgumentException if {@code problem} does not keep all rows
+   */
+  public RowFeed(final DynProgProblem<?> problem) {
+    this(problem, ForkJoinPool.commonPool(), Flow.defaultBufferSize());
+  }
+
+  /**
+   * @return {@code true} iff no row of {@code problem} is overwritten while it is solved
+   */
+  static boolean keepsAllRows(final DynProgProblem<?> problem) {
+    final int rows = problem.getDimension()[0];
+    if ( problem instanceof RowwiseProblem ) {
+      return ((RowwiseProblem<?>)problem).rowsKept() >= rows;
+    }
+    else if ( problem instanceof SmithWaterman ) {
+      return ((SmithWaterman)problem).rowsKept() >= rows;
+    }
+    return true;
+  }
+
+  /**
+   * Solves this feed's problem with {@code solver}, publishing rows as they are completed,
+   * and completes this feed. Can only be called once.
+   * @param solver The solver to use
+   * @throws IllegalStateException if this feed has been used before
+   */
+  public void solve(final DynProgSolver solver) {
+    assert solver != null : "null parameter";
+    if ( !used.compareAndSet(false, true) ) {
+      throw new IllegalStateException(this + " has been used before");
+    }
+
+    final RowFeed outer = attached.get();
+    attached.set(this);
+    try {
+      solver.solve(problem);
+    }
+    finally {
+      attached.set(outer);
+      if ( problem.isSolved() ) {
+        rowsCompleted(problem.getDimension()[0] - 1);
+        close();
+      }
+      else {
+        closeExceptionally(new CancellationException(solver + " did not solve " + problem));
+      }
+    }
+  }
+
+  /**
+   * Takes the feed attached to the current thread if it waits for a solve of {@code problem}.
+   * Solvers call this once per solve, before they start workers.
+   * @param problem The problem about to be solved
+   * @return The feed to report completed rows of {@code problem} to, or {@code null}
+   */
+  static RowFeed claim(final DynProgProblem<?> problem) {
+    final RowFeed feed = attached.get();
+    if ( feed != null && feed.problem == problem ) {
+      attached.set(null);
+      return feed;
+    }
+    return null;
+  }
+
+  /**
+   * Reports that all rows up to and including {@code row} are computed. May be called by any
+   * thread, in any order; never blocks.
+   * @param row Index of a completed row
+   */
+  void rowsCompleted(final int row) {
+    int known = completed.get();
+    while ( known < row && !completed.compareAndSet(known, row) ) {
+      known = completed.get();
+    }
+
+    // Whoever holds publishing publishes; everybody else leaves right away. Checking again
+    // after releasing catches rows reported while the holder was publishing.
+    while ( published < completed.get() && publishing.compareAndSet(false, true) ) {
+      try {
+        final int next = completed.get();
+        if ( next > published ) {
+          published = next;
+          offer(next, null);
+        }
+      }
+      finally {
+        publishing.set(false);
+      }
+    }
+  }
+
+  @Override
+  public String toString() {
+    return this.getClass().getSimpleName() + "[" + problem + "]";
+  }
+}
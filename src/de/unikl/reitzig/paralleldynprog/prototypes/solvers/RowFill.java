@@ -36,14 +36,19 @@ public class RowFill implements DynProgSolver {
       final int[] param = new int[2];
 
       AffinityLock afflock = AffinityLock.acquireCore(true);
+      final SolverMetrics metrics = SolverMetrics.start(this, problem, 1);
 
-      for ( param[0]=0; param[0]<dim[0]; param[0]++ ) {
-        for ( param[1]=0; param[1]<dim[1]; param[1]++ ) {
-          problem.compute(param);
+      try {
+        for ( param[0]=0; param[0]<dim[0] && !Thread.currentThread().isInterrupted(); param[0]++ ) {
+          problem.computeRange(param[0], 0, dim[1]);
+          metrics.progress(0, param[0], dim[1]);
+          metrics.rowsCompleted(param[0]);
         }
       }
-
-      afflock.release();
+      finally {
+        metrics.finish();
+        afflock.release();
+      }
     }
   }
 
@@ -22,6 +22,8 @@ import de.unikl.reitzig.paralleldynprog.prototypes.DynProgSolver;
 import de.unikl.reitzig.paralleldynprog.prototypes.Util;
 import vanilla.java.affinity.AffinityThreadFactory;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.BrokenBarrierException;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.CyclicBarrier;
@@ -74,66 +76,88 @@ public class RowSplit implements DynProgSolver {
     if ( !problem.isSolved() && problem.getDimension().length == 2 ) {
       final CyclicBarrier rowGate = new CyclicBarrier(p);
       final CountDownLatch endGate = new CountDownLatch(p);
+      final SolverMetrics metrics = SolverMetrics.start(this, problem, p);
 
       final AffinityThreadFactory factory = new Util.AffinityFactory(this + ".Worker", Util.SAME_SOCKET_DIFFERENT_CORE, DIFFERENT_CORE, ANY);
+      final List<Thread> workers = new ArrayList<Thread>(p);
 
       for ( int i=0; i<p; i++ ) {
         final int fi = i;
 
-        factory.newThread(new Runnable() {
+        final Thread t = factory.newThread(new Runnable() {
           @Override
           public void run() {
-            final Worker w = new Worker(fi, problem);
+            final Worker w = new Worker(fi, problem, metrics);
             w.run(rowGate, endGate);
           }
-        }).start();
+        });
+        workers.add(t);
+        t.start();
       }
 
-      try {
-        endGate.await();
-      }
-      catch (InterruptedException e) {
-        e.printStackTrace();
-      }
+      Util.awaitWorkers(endGate, workers);
+      metrics.finish();
     }
   }
 
   private class Worker {
     private final int nr;
     private final DynProgProblem<?> prob;
+    private final SolverMetrics metrics;
     final int[] dim;
     private int[] param = new int[] { 0, 0 };
 
-    Worker(final int nr, final DynProgProblem<?> prob) {
-      assert prob != null : "null parameter";
+    Worker(final int nr, final DynProgProblem<?> prob, final SolverMetrics metrics) {
+      assert prob != null && metrics != null : "null parameter";
       this.nr = nr;
       this.prob = prob;
+      this.metrics = metrics;
       this.dim =  prob.getDimension();
     }
 
+    /**
+     * Fills this worker's blocks row by row. Stops early if the thread is interrupted or
+     * another worker stopped early.
+     */
     public void run(final CyclicBarrier rowGate, final CountDownLatch endGate) {
       assert rowGate != null && endGate != null : "null parameter";
       final int k = blockSize > 0 ? blockSize : dim[1]/p + 1;
+      int cells = 0;
+      for (int o = nr * k; o < dim[1]; o += p * k) {
+        cells += Math.min(o + k, dim[1]) - o;
+      }
 
-      for (; param[0] < dim[0]; param[0]++) {
-        for (int o = nr * k; o < dim[1]; o += p * k) {
-          for (param[1] = o; param[1] < Math.min(o + k, dim[1]); param[1]++) {
-            prob.compute(param);
+      try {
+        for (; param[0] < dim[0]; param[0]++) {
+          for (int o = nr * k; o < dim[1]; o += p * k) {
+            prob.computeRange(param[0], o, Math.min(o + k, dim[1]));
           }
-        }
 
-        try {
-          rowGate.await();
-        }
-        catch (InterruptedException e) {
-          e.printStackTrace();
-        }
-        catch (BrokenBarrierException e) {
-          e.printStackTrace();
+          metrics.progress(nr, param[0], cells);
+
+          final long token = metrics.beginWait(nr);
+          try {
+            rowGate.await();
+          }
+          catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+          }
+          catch (BrokenBarrierException e) {
+            return;
+          }
+          finally {
+            metrics.endWait(nr, token);
+          }
+
+          if ( nr == 0 ) {
+            metrics.rowsCompleted(param[0]);
+          }
         }
       }
-
-      endGate.countDown();
+      finally {
+        endGate.countDown();
+      }
     }
   }
 
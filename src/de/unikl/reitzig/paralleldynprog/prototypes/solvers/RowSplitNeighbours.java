@@ -0,0 +1,211 @@
+/*
+ * This file is part of Parallel Dynamic Programming Implementation Prototype (PDPIP).
+ *
+ * PDPIP is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDPIP is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDPIP.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unikl.reitzig.paralleldynprog.prototypes.solvers;
+
+import de.unikl.reitzig.paralleldynprog.prototypes.DynProgProblem;
+import de.unikl.reitzig.paralleldynprog.prototypes.DynProgSolver;
+import de.unikl.reitzig.paralleldynprog.prototypes.Util;
+import vanilla.java.affinity.AffinityThreadFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static vanilla.java.affinity.AffinityStrategies.ANY;
+import static vanilla.java.affinity.AffinityStrategies.DIFFERENT_CORE;
+
+/**
+ * Variant of {@link RowSplit} without a global barrier, for type 2 DP whose cells depend on the
+ * previous row's cells in the same and the two adjacent columns only, e.g.
+ * {@link de.unikl.reitzig.paralleldynprog.prototypes.problems.RsDummy}.
+ * <p/>
+ * Since blocks are dealt out cyclically, the neighbours of worker {@code w}'s blocks all belong
+ * to workers {@code w-1} and {@code w+1} (modulo {@code p}). Every worker publishes the last row
+ * it has completed and only waits for these two to complete the previous row. Hence, workers
+ * may drift apart by several rows and absorb jitter.
+ *
+ * @author agent, 10.2026
+ */
+public class RowSplitNeighbours implements DynProgSolver {
+  /** Distance between progress counters; keeps them on separate cache lines. */
+  private static final int PAD = 16;
+
+  private final int p;
+  private final int blockSize;
+
+  /**
+   * Creates a new instance
+   *
+   * @param p The number of workers this solver will use. Has to be positive.
+   * @param k Length of the blocks this solver will fill at a time. Passing a value less or equal to
+   *          {@code 0} will result in {@code n/p + 1} being used, {@code n} the problem's
+   *          second dimension. (i.e. number of columns).
+   */
+  public RowSplitNeighbours(final int p, final int k) {
+    assert p > 0 : "Invalid worker count";
+    this.p = p;
+    this.blockSize = k;
+  }
+
+  /**
+   * Creates a new instance that uses {@code p} blocks per row.
+   *
+   * @param p The number of workers this solver will use. Has to be positive.
+   */
+  public RowSplitNeighbours(final int p) {
+    this(p, -1);
+  }
+
+ /**
+   * Creates a new instance that uses all processors and {@code p} blocks per row.
+   */
+  public RowSplitNeighbours() {
+    this(Runtime.getRuntime().availableProcessors(), -1);
+  }
+
+  @Override
+  public void solve(final DynProgProblem<?> problem) {
+    assert problem != null : "null parameter";
+
+    if ( !problem.isSolved() && problem.getDimension().length == 2 ) {
+      final AtomicIntegerArray progress = new AtomicIntegerArray(p * PAD);
+      final AtomicBoolean aborted = new AtomicBoolean(false);
+      final CountDownLatch endGate = new CountDownLatch(p);
+      final SolverMetrics metrics = SolverMetrics.start(this, problem, p);
+      for ( int i=0; i<p; i++ ) {
+        progress.set(i * PAD, -1);
+      }
+
+      final AffinityThreadFactory factory = new Util.AffinityFactory(this + ".Worker", Util.SAME_SOCKET_DIFFERENT_CORE, DIFFERENT_CORE, ANY);
+      final List<Thread> workers = new ArrayList<Thread>(p);
+
+      for ( int i=0; i<p; i++ ) {
+        final int fi = i;
+
+        final Thread t = factory.newThread(new Runnable() {
+          @Override
+          public void run() {
+            final Worker w = new Worker(fi, problem, progress, aborted, metrics);
+            w.run(endGate);
+          }
+        });
+        workers.add(t);
+        t.start();
+      }
+
+      Util.awaitWorkers(endGate, workers);
+      metrics.finish();
+    }
+  }
+
+  private class Worker {
+    private final int nr;
+    private final DynProgProblem<?> prob;
+    private final AtomicIntegerArray progress;
+    private final AtomicBoolean aborted;
+    private final SolverMetrics metrics;
+    final int[] dim;
+    private final int[] param = new int[] { 0, 0 };
+
+    Worker(final int nr, final DynProgProblem<?> prob, final AtomicIntegerArray progress, final AtomicBoolean aborted,
+           final SolverMetrics metrics) {
+      assert prob != null && progress != null && aborted != null && metrics != null : "null parameter";
+      this.nr = nr;
+      this.prob = prob;
+      this.progress = progress;
+      this.aborted = aborted;
+      this.metrics = metrics;
+      this.dim =  prob.getDimension();
+    }
+
+    /**
+     * Fills this worker's blocks row by row. Stops early if the thread is interrupted or
+     * another worker stopped early.
+     */
+    public void run(final CountDownLatch endGate) {
+      assert endGate != null : "null parameter";
+      final int k = blockSize > 0 ? blockSize : dim[1]/p + 1;
+      final int left = (nr + p - 1) % p;
+      final int right = (nr + 1) % p;
+      boolean done = false;
+      int cells = 0;
+      for (int o = nr * k; o < dim[1]; o += p * k) {
+        cells += Math.min(o + k, dim[1]) - o;
+      }
+
+      try {
+        for ( param[0]=0; param[0] < dim[0]; param[0]++ ) {
+          if ( param[0] > 0 && !(awaitRow(left, param[0] - 1) && awaitRow(right, param[0] - 1)) ) {
+            return;
+          }
+
+          for (int o = nr * k; o < dim[1]; o += p * k) {
+            prob.computeRange(param[0], o, Math.min(o + k, dim[1]));
+          }
+
+          progress.set(nr * PAD, param[0]);
+          metrics.progress(nr, param[0], cells);
+
+          int complete = param[0];
+          for ( int i=0; i<p; i++ ) {
+            complete = Math.min(complete, progress.get(i * PAD));
+          }
+          metrics.rowsCompleted(complete);
+        }
+        done = true;
+      }
+      finally {
+        if ( !done ) {
+          aborted.set(true);
+        }
+        endGate.countDown();
+      }
+    }
+
+    /**
+     * Waits until worker {@code w} has completed the specified row.
+     * @return {@code false} iff this worker should stop.
+     */
+    private boolean awaitRow(final int w, final int row) {
+      if ( progress.get(w * PAD) >= row ) {
+        return true;
+      }
+
+      final long token = metrics.beginWait(nr);
+      try {
+        while ( progress.get(w * PAD) < row ) {
+          if ( aborted.get() || Thread.currentThread().isInterrupted() ) {
+            return false;
+          }
+          Thread.yield();
+        }
+        return true;
+      }
+      finally {
+        metrics.endWait(nr, token);
+      }
+    }
+  }
+
+  @Override
+  public String toString() {
+    return this.getClass().getSimpleName() + "[" + p + (blockSize > 0 ? "," + blockSize : "") + "]";
+  }
+}
@@ -0,0 +1,219 @@
+/*
+ * This file is part of Parallel Dynamic Programming Implementation Prototype (PDPIP).
+ *
+ * PDPIP is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDPIP is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDPIP.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unikl.reitzig.paralleldynprog.prototypes.solvers;
+
+import de.unikl.reitzig.paralleldynprog.prototypes.DynProgProblem;
+import de.unikl.reitzig.paralleldynprog.prototypes.DynProgSolver;
+import de.unikl.reitzig.paralleldynprog.prototypes.RowwiseProblem;
+import de.unikl.reitzig.paralleldynprog.prototypes.Util;
+import vanilla.java.affinity.AffinityThreadFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static vanilla.java.affinity.AffinityStrategies.ANY;
+import static vanilla.java.affinity.AffinityStrategies.DIFFERENT_CORE;
+
+/**
+ * Variant of {@link RowSplitNeighbours} for {@link RowwiseProblem}s, whose cells may read the
+ * previous row at arbitrary, per-row offsets, e.g.
+ * {@link de.unikl.reitzig.paralleldynprog.prototypes.problems.Knapsack}. Other problems are
+ * ignored.
+ * <p/>
+ * Every worker owns one contiguous slice of columns. Before computing a row, it waits only
+ * for the workers whose slices of the previous row its cells can read. If the problem keeps
+ * only {@code k} rows, it also waits until all workers that read its slice of row {@code i-k}
+ * are done with that, before row {@code i} overwrites it.
+ *
+ * @author agent, 10.2026
+ */
+public class RowSplitReach implements DynProgSolver {
+  /** Distance between progress counters; keeps them on separate cache lines. */
+  private static final int PAD = 16;
+
+  private final int p;
+
+  /**
+   * Creates a new instance
+   *
+   * @param p The number of workers this solver will use. Has to be positive.
+   */
+  public RowSplitReach(final int p) {
+    assert p > 0 : "Invalid worker count";
+    this.p = p;
+  }
+
+  /**
+   * Creates a new instance that uses all processors.
+   */
+  public RowSplitReach() {
+    this(Runtime.getRuntime().availableProcessors());
+  }
+
+  @Override
+  public void solve(final DynProgProblem<?> problem) {
+    assert problem != null : "null parameter";
+
+    if ( !problem.isSolved() && problem.getDimension().length == 2 && problem instanceof RowwiseProblem ) {
+      final int n = problem.getDimension()[1];
+      final int[] start = new int[p + 1];
+      for ( int i=0; i<=p; i++ ) {
+        start[i] = (int)((long)i * n / p);
+      }
+
+      final AtomicIntegerArray progress = new AtomicIntegerArray(p * PAD);
+      final AtomicBoolean aborted = new AtomicBoolean(false);
+      final CountDownLatch endGate = new CountDownLatch(p);
+      final SolverMetrics metrics = SolverMetrics.start(this, problem, p);
+      for ( int i=0; i<p; i++ ) {
+        progress.set(i * PAD, -1);
+      }
+
+      final AffinityThreadFactory factory = new Util.AffinityFactory(this + ".Worker", Util.SAME_SOCKET_DIFFERENT_CORE, DIFFERENT_CORE, ANY);
+      final List<Thread> workers = new ArrayList<Thread>(p);
+
+      for ( int i=0; i<p; i++ ) {
+        final int fi = i;
+
+        final Thread t = factory.newThread(new Runnable() {
+          @Override
+          public void run() {
+            final Worker w = new Worker(fi, (RowwiseProblem<?>)problem, start, progress, aborted, metrics);
+            w.run(endGate);
+          }
+        });
+        workers.add(t);
+        t.start();
+      }
+
+      Util.awaitWorkers(endGate, workers);
+      metrics.finish();
+    }
+  }
+
+  private class Worker {
+    private final int nr;
+    private final RowwiseProblem<?> prob;
+    private final int[] start;
+    private final AtomicIntegerArray progress;
+    private final AtomicBoolean aborted;
+    private final SolverMetrics metrics;
+    final int[] dim;
+
+    Worker(final int nr, final RowwiseProblem<?> prob, final int[] start, final AtomicIntegerArray progress,
+           final AtomicBoolean aborted, final SolverMetrics metrics) {
+      assert prob != null && start != null && progress != null && aborted != null && metrics != null : "null parameter";
+      this.nr = nr;
+      this.prob = prob;
+      this.start = start;
+      this.progress = progress;
+      this.aborted = aborted;
+      this.metrics = metrics;
+      this.dim =  prob.getDimension();
+    }
+
+    /**
+     * Fills this worker's slice row by row. Stops early if the thread is interrupted or
+     * another worker stopped early.
+     */
+    public void run(final CountDownLatch endGate) {
+      assert endGate != null : "null parameter";
+      final int lo = start[nr];
+      final int hi = start[nr + 1];
+      final int kept = prob.rowsKept();
+      boolean done = false;
+
+      try {
+        for ( int row=0; row<dim[0]; row++ ) {
+          // Wait for the part of the previous row this slice reads
+          if ( row > 0 ) {
+            final long from = (long)lo - prob.reachLeft(row);
+            final long to = (long)hi - 1 + prob.reachRight(row);
+            for ( int w=0; w<p; w++ ) {
+              if ( start[w] <= to && start[w + 1] - 1 >= from && !awaitRow(w, row - 1) ) {
+                return;
+              }
+            }
+          }
+
+          // Wait for the readers of the row this one replaces
+          if ( row >= kept ) {
+            final int reader = row - kept + 1;
+            final int left = prob.reachLeft(reader);
+            final int right = prob.reachRight(reader);
+            for ( int w=0; w<p; w++ ) {
+              if (    (long)start[w] - left <= hi - 1 && (long)start[w + 1] - 1 + right >= lo
+                   && !awaitRow(w, reader) ) {
+                return;
+              }
+            }
+          }
+
+          prob.computeRange(row, lo, hi);
+          progress.set(nr * PAD, row);
+          metrics.progress(nr, row, hi - lo);
+
+          int complete = row;
+          for ( int i=0; i<p; i++ ) {
+            complete = Math.min(complete, progress.get(i * PAD));
+          }
+          metrics.rowsCompleted(complete);
+        }
+        done = true;
+      }
+      finally {
+        if ( !done ) {
+          aborted.set(true);
+        }
+        endGate.countDown();
+      }
+    }
+
+    /**
+     * Waits until worker {@code w} has completed the specified row.
+     * @return {@code false} iff this worker should stop.
+     */
+    private boolean awaitRow(final int w, final int row) {
+      if ( progress.get(w * PAD) >= row ) {
+        return true;
+      }
+
+      final long token = metrics.beginWait(nr);
+      try {
+        while ( progress.get(w * PAD) < row ) {
+          if ( aborted.get() || Thread.currentThread().isInterrupted() ) {
+            return false;
+          }
+          Thread.yield();
+        }
+        return true;
+      }
+      finally {
+        metrics.endWait(nr, token);
+      }
+    }
+  }
+
+  @Override
+  public String toString() {
+    return this.getClass().getSimpleName() + "[" + p + "]";
+  }
+}
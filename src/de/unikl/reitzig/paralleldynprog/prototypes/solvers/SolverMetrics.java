@@ -0,0 +1,352 @@
+/*
+ * This file is part of Parallel Dynamic Programming Implementation Prototype (PDPIP).
+ *
+ * PDPIP is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDPIP is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDPIP.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unikl.reitzig.paralleldynprog.prototypes.solvers;
+
+import de.unikl.reitzig.paralleldynprog.prototypes.DynProgProblem;
+import de.unikl.reitzig.paralleldynprog.prototypes.IntervalProblem;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Collects progress and synchronisation statistics of one solve and publishes them as MBean
+ * {@code de.unikl.reitzig.paralleldynprog:type=SolverMetrics,solver=<solver>,id=<n>} while the
+ * solve runs, e.g. for JConsole.
+ * <p/>
+ * Metrics are off by default; turn them on with system property {@value #ENABLED_PROPERTY}
+ * or {@link #setEnabled(boolean)}. While they are off, solvers report to an instance that
+ * ignores all reports, so they do not even read the clock when they wait.
+ * <p/>
+ * Every worker only updates its own counters, which lie on separate cache lines, so reporting
+ * progress once per row or block does not cost noticeable time.
+ * <p/>
+ * Solvers also report which rows are complete. These reports are handed on to the
+ * {@link RowFeed} the solve runs for, if any, whether metrics are on or not.
+ *
+ * @author agent, 10.2026
+ */
+public class SolverMetrics implements SolverMetricsMBean {
+  public static final String DOMAIN = "de.unikl.reitzig.paralleldynprog";
+  public static final String ENABLED_PROPERTY = DOMAIN + ".metrics";
+
+  /** Distance between counter groups; keeps them on separate cache lines. */
+  private static final int PAD = 8;
+  private static final int CELLS = 0;
+  private static final int FRONTIER = 1;
+  private static final int WAIT = 2;
+  private static final int BLOCKED = 3;
+
+  private static final AtomicLong sequence = new AtomicLong(0);
+  private static volatile boolean enabled = Boolean.getBoolean(ENABLED_PROPERTY);
+  private static final SolverMetrics DISABLED = new Disabled(null);
+
+  private final String solver;
+  private final RowFeed feed;
+  private final long total;
+  private final int workers;
+  private final AtomicLongArray counters;
+  private final AtomicLong sharedCells = new AtomicLong(0);
+  private final AtomicInteger rowsCompleted = new AtomicInteger(0);
+  private final long start;
+  private volatile long duration = -1;
+  private ObjectName name = null;
+
+  /**
+   * Creates a new instance that is not registered.
+   * @param solver Description of the solver
+   * @param problem The problem to be solved
+   * @param feed Feed to report completed rows to; may be {@code null}
+   * @param workers Number of workers
+   */
+  SolverMetrics(final String solver, final DynProgProblem<?> problem, final RowFeed feed, final int workers) {
+    assert solver != null && problem != null : "null parameter";
+    assert workers > 0 : "invalid worker count";
+    this.solver = solver;
+    this.feed = feed;
+
+    long total = 1;
+    for ( final int d : problem.getDimension() ) {
+      total *= d;
+    }
+    if ( problem instanceof IntervalProblem ) {
+      // Upper triangle only
+      final long n = problem.getDimension()[0];
+      total = n * (n + 1) / 2;
+    }
+    this.total = total;
+    this.workers = workers;
+    this.counters = new AtomicLongArray(workers * PAD);
+    for ( int w=0; w<workers; w++ ) {
+      counters.set(w * PAD + FRONTIER, -1);
+    }
+    this.start = System.nanoTime();
+  }
+
+  /**
+   * Instance that ignores all reports but completed rows.
+   * @param feed Feed to report completed rows to; may be {@code null}
+   */
+  private SolverMetrics(final RowFeed feed) {
+    this.solver = "none";
+    this.feed = feed;
+    this.total = 0;
+    this.workers = 0;
+    this.counters = new AtomicLongArray(0);
+    this.start = 0;
+  }
+
+  /**
+   * @param on Whether solves started from now on collect metrics
+   */
+  public static void setEnabled(final boolean on) {
+    enabled = on;
+  }
+
+  /**
+   * @return Whether solves collect metrics
+   */
+  public static boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Creates metrics for a solve that is about to start and registers them with the platform
+   * MBean server. If registration fails, the metrics are collected all the same.
+   * @param solver The solver
+   * @param problem The problem to be solved
+   * @param workers Number of workers {@code solver} will use
+   * @return The new metrics, or an instance that ignores all reports but completed rows if
+   *         metrics are off; call {@link #finish()} once the solve is over.
+   */
+  static SolverMetrics start(final Object solver, final DynProgProblem<?> problem, final int workers) {
+    assert solver != null && problem != null : "null parameter";
+
+    final RowFeed feed = RowFeed.claim(problem);
+    if ( !enabled ) {
+      return feed != null ? new Disabled(feed) : DISABLED;
+    }
+
+    final SolverMetrics res = new SolverMetrics(solver.toString(), problem, feed, workers);
+    try {
+      final ObjectName name = new ObjectName(DOMAIN + ":type=SolverMetrics,solver=" + ObjectName.quote(solver.toString())
+                                             + ",id=" + sequence.incrementAndGet());
+      ManagementFactory.getPlatformMBeanServer().registerMBean(res, name);
+      res.name = name;
+    }
+    catch ( JMException e ) {
+      // Metrics are a diagnostic aid; never fail a solve because of them.
+    }
+    return res;
+  }
+
+  /**
+   * Stops the clock and unregisters the MBean.
+   */
+  void finish() {
+    duration = System.nanoTime() - start;
+    if ( name != null ) {
+      try {
+        ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+      }
+      catch ( JMException e ) {
+        // Already gone
+      }
+      name = null;
+    }
+  }
+
+  /**
+   * @return Name this instance is registered under, or {@code null} if it is not registered.
+   */
+  ObjectName getName() {
+    return name;
+  }
+
+  /**
+   * Reports that worker {@code w} has computed some cells. Must only be called by worker
+   * {@code w}.
+   * @param w Worker index
+   * @param row Last row the worker has (partially) completed
+   * @param cells Number of cells computed since the last report
+   */
+  void progress(final int w, final int row, final long cells) {
+    counters.lazySet(w * PAD + CELLS, counters.get(w * PAD + CELLS) + cells);
+    counters.lazySet(w * PAD + FRONTIER, row);
+  }
+
+  /**
+   * Reports that some worker has computed some cells; for solvers without fixed workers.
+   * @param cells Number of cells computed since the last report
+   */
+  void progress(final long cells) {
+    sharedCells.addAndGet(cells);
+  }
+
+  /**
+   * Reports that all rows up to and including {@code row} are computed. May be called by any
+   * worker, in any order; never blocks.
+   * @param row Index of a completed row
+   */
+  void rowsCompleted(final int row) {
+    int known = rowsCompleted.get();
+    while ( known <= row && !rowsCompleted.compareAndSet(known, row + 1) ) {
+      known = rowsCompleted.get();
+    }
+    forward(row);
+  }
+
+  /**
+   * Hands a completed row on to the feed of this solve, if any.
+   * @param row Index of a completed row
+   */
+  private void forward(final int row) {
+    if ( feed != null ) {
+      feed.rowsCompleted(row);
+    }
+  }
+
+  /**
+   * Reports that worker {@code w} starts waiting for others. Must only be called by worker
+   * {@code w}.
+   * @param w Worker index
+   * @return Token to pass to {@link #endWait(int, long)}
+   */
+  long beginWait(final int w) {
+    counters.lazySet(w * PAD + BLOCKED, 1);
+    return System.nanoTime();
+  }
+
+  /**
+   * Reports that worker {@code w} stops waiting for others. Must only be called by worker
+   * {@code w}.
+   * @param w Worker index
+   * @param token Result of the corresponding call to {@link #beginWait(int)}
+   */
+  void endWait(final int w, final long token) {
+    counters.lazySet(w * PAD + WAIT, counters.get(w * PAD + WAIT) + System.nanoTime() - token);
+    counters.lazySet(w * PAD + BLOCKED, 0);
+  }
+
+  @Override
+  public String getSolver() {
+    return solver;
+  }
+
+  @Override
+  public long getCellsTotal() {
+    return total;
+  }
+
+  @Override
+  public long getCellsCompleted() {
+    long res = sharedCells.get();
+    for ( int w=0; w<workers; w++ ) {
+      res += counters.get(w * PAD + CELLS);
+    }
+    return res;
+  }
+
+  @Override
+  public double getCellsPerSecond() {
+    final long ms = getElapsedMillis();
+    return ms > 0 ? getCellsCompleted() * 1000.0 / ms : 0;
+  }
+
+  @Override
+  public double getPercentComplete() {
+    return total > 0 ? 100.0 * getCellsCompleted() / total : 100;
+  }
+
+  @Override
+  public long[] getFrontier() {
+    final long[] res = new long[workers];
+    for ( int w=0; w<workers; w++ ) {
+      res[w] = counters.get(w * PAD + FRONTIER);
+    }
+    return res;
+  }
+
+  @Override
+  public int getRowsCompleted() {
+    return rowsCompleted.get();
+  }
+
+  @Override
+  public int getBlockedWorkers() {
+    int res = 0;
+    for ( int w=0; w<workers; w++ ) {
+      res += counters.get(w * PAD + BLOCKED);
+    }
+    return res;
+  }
+
+  @Override
+  public long[] getWaitMillis() {
+    final long[] res = new long[workers];
+    for ( int w=0; w<workers; w++ ) {
+      res[w] = counters.get(w * PAD + WAIT) / 1000000;
+    }
+    return res;
+  }
+
+  @Override
+  public long getElapsedMillis() {
+    final long d = duration;
+    return (d >= 0 ? d : System.nanoTime() - start) / 1000000;
+  }
+
+  @Override
+  public String toString() {
+    return solver + " : " + getCellsCompleted() + "/" + total + " cells in " + getElapsedMillis() + "ms";
+  }
+
+  /**
+   * Ignores all reports but completed rows; used while metrics are off.
+   */
+  private static final class Disabled extends SolverMetrics {
+    Disabled(final RowFeed feed) {
+      super(feed);
+    }
+
+    @Override
+    void finish() {}
+
+    @Override
+    void progress(final int w, final int row, final long cells) {}
+
+    @Override
+    void progress(final long cells) {}
+
+    @Override
+    void rowsCompleted(final int row) {
+      super.forward(row);
+    }
+
+    @Override
+    long beginWait(final int w) {
+      return 0;
+    }
+
+    @Override
+    void endWait(final int w, final long token) {}
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * This file is part of Parallel Dynamic Programming Implementation Prototype (PDPIP).
+ *
+ * PDPIP is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDPIP is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDPIP.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unikl.reitzig.paralleldynprog.prototypes.solvers;
+
+/**
+ * Live view on a running solve; see {@link SolverMetrics}.
+ *
+ * @author agent, 10.2026
+ */
+public interface SolverMetricsMBean {
+  /**
+   * @return Description of the solver, i.e. its {@code toString()}
+   */
+  String getSolver();
+
+  /**
+   * @return Number of table cells
+   */
+  long getCellsTotal();
+
+  /**
+   * @return Number of cells computed by this solve so far
+   */
+  long getCellsCompleted();
+
+  /**
+   * @return Average number of cells computed per second since the solve started
+   */
+  double getCellsPerSecond();
+
+  /**
+   * @return {@code 100 * getCellsCompleted() / getCellsTotal()}
+   */
+  double getPercentComplete();
+
+  /**
+   * @return Per worker, the index of the last row it has completed (a piece of); {@code -1} if none
+   */
+  long[] getFrontier();
+
+  /**
+   * @return Number of leading rows known to be complete
+   */
+  int getRowsCompleted();
+
+  /**
+   * @return Number of workers currently waiting for others
+   */
+  int getBlockedWorkers();
+
+  /**
+   * @return Per worker, the time it has spent waiting for others in milliseconds
+   */
+  long[] getWaitMillis();
+
+  /**
+   * @return Time since the solve started in milliseconds
+   */
+  long getElapsedMillis();
+}
@@ -0,0 +1,238 @@
+/*
+ * This file is part of Parallel Dynamic Programming Implementation Prototype (PDPIP).
+ *
+ * PDPIP is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDPIP is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDPIP.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unikl.reitzig.paralleldynprog.prototypes.solvers;
+
+import de.unikl.reitzig.paralleldynprog.prototypes.Util;
+import de.unikl.reitzig.paralleldynprog.prototypes.problems.StreamingEditDistance;
+import vanilla.java.affinity.AffinityThreadFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static vanilla.java.affinity.AffinityStrategies.ANY;
+import static vanilla.java.affinity.AffinityStrategies.DIFFERENT_CORE;
+
+/**
+ * Feeds a {@link StreamingEditDistance} with several workers. The column is cut into {@code p}
+ * contiguous blocks, one per worker. For every symbol, a worker updates its block as soon as
+ * the worker above has passed down the new value of its last entry, just like blocks of
+ * neighbouring rows in {@link BlockCheck}; hence, up to {@code p} symbols are processed at
+ * the same time, each by a different worker.
+ * <p/>
+ * Workers hand symbols and boundary values down through bounded queues, so at most
+ * {@code p * k} symbols are in flight and {@link #append(char)} blocks if the pipeline is full.
+ * The last worker reports every new distance to a {@link StreamingEditDistance.Listener}.
+ *
+ * @author agent, 10.2026
+ */
+public class StreamSplit {
+  private static final long END = -1;
+
+  private final StreamingEditDistance problem;
+  private final StreamingEditDistance.Listener listener;
+  private final int p;
+  private final int capacity;
+
+  private final List<BlockingQueue<Long>> queues;
+  private final List<Thread> workers;
+  private final CountDownLatch endGate;
+  private final AtomicLong processed = new AtomicLong(0);
+  /** Monitor {@link #flush()} waits on */
+  private final Object progress = new Object();
+  /** Number of processed symbols a flushing thread waits for */
+  private volatile long awaited = Long.MAX_VALUE;
+  private final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+  private long appended = 0;
+  private boolean closed = false;
+
+  /**
+   * Creates a new instance and starts its workers.
+   *
+   * @param problem The problem to feed; must not be used otherwise until {@link #close()}.
+   * @param p The number of workers this solver will use. Has to be positive; at most one
+   *          worker per column entry is used.
+   * @param k Capacity of the queue in front of every worker. Passing a value less or equal to
+   *          {@code 0} will result in {@code 64} being used.
+   * @param listener Receives every new distance; called by a worker thread.
+   */
+  public StreamSplit(final StreamingEditDistance problem, final int p, final int k,
+                     final StreamingEditDistance.Listener listener) {
+    assert problem != null && listener != null : "null parameter";
+    assert p > 0 : "Invalid worker count";
+    this.problem = problem;
+    this.listener = listener;
+    this.p = Math.min(p, problem.getPatternLength() + 1);
+    this.capacity = k > 0 ? k : 64;
+
+    this.queues = new ArrayList<BlockingQueue<Long>>(this.p);
+    for ( int i=0; i<this.p; i++ ) {
+      queues.add(new ArrayBlockingQueue<Long>(capacity));
+    }
+
+    this.endGate = new CountDownLatch(this.p);
+    this.workers = new ArrayList<Thread>(this.p);
+    final AffinityThreadFactory factory = new Util.AffinityFactory(this + ".Worker", Util.SAME_SOCKET_DIFFERENT_CORE, DIFFERENT_CORE, ANY);
+    final int entries = problem.getPatternLength() + 1;
+
+    for ( int i=0; i<this.p; i++ ) {
+      final int from = (int)((long)i * entries / this.p);
+      final int to = (int)((long)(i + 1) * entries / this.p);
+      final BlockingQueue<Long> in = queues.get(i);
+      final BlockingQueue<Long> out = i < this.p - 1 ? queues.get(i + 1) : null;
+
+      final Thread t = factory.newThread(new Runnable() {
+        @Override
+        public void run() {
+          work(from, to, in, out);
+        }
+      });
+      workers.add(t);
+    }
+
+    for ( final Thread t : workers ) {
+      t.start();
+    }
+  }
+
+  /**
+   * Processes symbols until the end of the stream, failure or interruption.
+   */
+  private void work(final int from, final int to, final BlockingQueue<Long> in, final BlockingQueue<Long> out) {
+    // Old value of entry from-1 for the next symbol
+    int diag = from - 1;
+    long count = 0;
+
+    try {
+      long msg;
+      while ( (msg = in.take()) != END ) {
+        final char c = (char)(msg >>> 32);
+        final int above = (int)msg;
+        final int res = problem.update(from, to, c, above, diag);
+        diag = above;
+
+        if ( out != null ) {
+          out.put(((long)c << 32) | res);
+        }
+        else {
+          count++;
+          listener.update(count, res);
+          processed.set(count);
+          if ( count >= awaited ) {
+            wake();
+          }
+        }
+      }
+
+      if ( out != null ) {
+        out.put(END);
+      }
+    }
+    catch ( InterruptedException e ) {
+      // Cancelled; fall through
+    }
+    catch ( Throwable e ) {
+      failure.compareAndSet(null, e);
+      for ( final Thread t : workers ) {
+        t.interrupt();
+      }
+    }
+    finally {
+      endGate.countDown();
+      wake();
+    }
+  }
+
+  private void wake() {
+    synchronized ( progress ) {
+      progress.notifyAll();
+    }
+  }
+
+  /**
+   * Passes the next symbol to the workers. Blocks while the pipeline is full.
+   * @param c The next symbol
+   * @throws InterruptedException If interrupted while waiting for room in the pipeline
+   */
+  public void append(final char c) throws InterruptedException {
+    assert !closed : "stream closed";
+    final Long msg = (long)c << 32;
+
+    while ( !queues.get(0).offer(msg, 10, TimeUnit.MILLISECONDS) ) {
+      checkFailure();
+    }
+    appended++;
+  }
+
+  /**
+   * Waits until all symbols passed so far have been processed.
+   * @throws InterruptedException If interrupted while waiting
+   */
+  public void flush() throws InterruptedException {
+    synchronized ( progress ) {
+      awaited = appended;
+      try {
+        while ( processed.get() < appended ) {
+          checkFailure();
+          progress.wait();
+        }
+      }
+      finally {
+        awaited = Long.MAX_VALUE;
+      }
+    }
+  }
+
+  /**
+   * Processes all pending symbols and stops the workers. If the calling thread is interrupted
+   * meanwhile, pending symbols are dropped and the interrupt flag is set when this method
+   * returns.
+   */
+  public void close() {
+    if ( !closed ) {
+      closed = true;
+      try {
+        while ( !queues.get(0).offer(END, 10, TimeUnit.MILLISECONDS) && failure.get() == null ) {}
+      }
+      catch ( InterruptedException e ) {
+        for ( final Thread t : workers ) {
+          t.interrupt();
+        }
+        Thread.currentThread().interrupt();
+      }
+      Util.awaitWorkers(endGate, workers);
+    }
+    checkFailure();
+  }
+
+  private void checkFailure() {
+    if ( failure.get() != null ) {
+      throw new RuntimeException("Worker failed in " + this, failure.get());
+    }
+  }
+
+  @Override
+  public String toString() {
+    return this.getClass().getSimpleName() + "[" + p + "," + capacity + "]";
+  }
+}
@@ -0,0 +1,187 @@
+/*
+ * This file is part of Parallel Dynamic Programming Implementation Prototype (PDPIP).
+ *
+ * PDPIP is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDPIP is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDPIP.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unikl.reitzig.paralleldynprog.prototypes.solvers;
+
+import de.unikl.reitzig.paralleldynprog.prototypes.DynProgProblem;
+import de.unikl.reitzig.paralleldynprog.prototypes.DynProgSolver;
+import de.unikl.reitzig.paralleldynprog.prototypes.Util;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Implements the Diagonal Frontier scheme with one task per tile instead of one thread per worker.
+ * A tile is scheduled once its upper and left neighbours are done, so no task ever blocks and
+ * there can be many more tiles than carrier threads. Carriers are pinned like the workers of
+ * {@link DiagonalFrontier}.
+ * <p/>
+ * Suitable for problems whose cells depend on cells above and to the left only, e.g.
+ * {@link de.unikl.reitzig.paralleldynprog.prototypes.problems.EditDistance}.
+ *
+ * @author agent, 10.2026
+ */
+public class TileFlow implements DynProgSolver {
+  private final int p;
+  private final int tileSize;
+
+  /**
+   * Creates a new instance
+   *
+   * @param p The number of carrier threads this solver will use. Has to be positive.
+   * @param k Height and width of tiles. Passing a value less or equal to {@code 0} will result
+   *          in {@code n/(4p) + 1} being used per dimension, {@code n} its length.
+   */
+  public TileFlow(final int p, final int k) {
+    assert p > 0 : "Invalid carrier count";
+    this.p = p;
+    this.tileSize = k;
+  }
+
+  /**
+   * Creates a new instance that cuts both dimensions into {@code 4p} pieces.
+   *
+   * @param p The number of carrier threads this solver will use. Has to be positive.
+   */
+  public TileFlow(final int p) {
+    this(p, -1);
+  }
+
+  /**
+   * Creates a new instance that uses one carrier per physical core and cuts both dimensions
+   * into {@code 4p} pieces.
+   */
+  public TileFlow() {
+    this(Util.physicalCores(), -1);
+  }
+
+  @Override
+  public void solve(final DynProgProblem<?> problem) {
+    assert problem != null : "null parameter";
+
+    if ( !problem.isSolved() && problem.getDimension().length == 2 ) {
+      final int[] dim = problem.getDimension();
+      final int kr = tileSize > 0 ? tileSize : dim[0]/(4*p) + 1;
+      final int kc = tileSize > 0 ? tileSize : dim[1]/(4*p) + 1;
+      final int rows = (dim[0] + kr - 1) / kr;
+      final int cols = (dim[1] + kc - 1) / kc;
+
+      // Number of unfinished dependencies per tile
+      final AtomicIntegerArray pending = new AtomicIntegerArray(rows * cols);
+      for ( int r=0; r<rows; r++ ) {
+        for ( int c=0; c<cols; c++ ) {
+          pending.set(r*cols + c, (r > 0 ? 1 : 0) + (c > 0 ? 1 : 0));
+        }
+      }
+
+      final CountDownLatch endGate = new CountDownLatch(1);
+      final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+      final AtomicBoolean cancelled = new AtomicBoolean(false);
+      final ForkJoinPool carriers = new ForkJoinPool(p, new Util.AffinityForkJoinFactory(), null, false);
+      final SolverMetrics metrics = SolverMetrics.start(this, problem, p);
+
+      // Fills one tile and schedules those neighbours that become ready
+      @SuppressWarnings("serial") // Tasks are never serialised
+      class Tile extends RecursiveAction {
+        private final int r0;
+        private final int c0;
+
+        Tile(final int r, final int c) {
+          this.r0 = r;
+          this.c0 = c;
+        }
+
+        @Override
+        protected void compute() {
+          final int[] param = new int[2];
+          int r = r0;
+          int c = c0;
+
+          while ( !cancelled.get() ) {
+            try {
+              for ( param[0]=r*kr; param[0]<Math.min(dim[0], (r+1)*kr); param[0]++ ) {
+                for ( param[1]=c*kc; param[1]<Math.min(dim[1], (c+1)*kc); param[1]++ ) {
+                  problem.compute(param);
+                }
+              }
+            }
+            catch ( Throwable t ) {
+              failure.compareAndSet(null, t);
+              endGate.countDown();
+              return;
+            }
+
+            metrics.progress((long)(Math.min(dim[0], (r+1)*kr) - r*kr) * (Math.min(dim[1], (c+1)*kc) - c*kc));
+            if ( c == cols - 1 ) {
+              metrics.rowsCompleted(Math.min(dim[0], (r+1)*kr) - 1);
+            }
+
+            if ( r == rows - 1 && c == cols - 1 ) {
+              endGate.countDown();
+              return;
+            }
+
+            final boolean below = r < rows - 1 && pending.decrementAndGet((r+1)*cols + c) == 0;
+            final boolean right = c < cols - 1 && pending.decrementAndGet(r*cols + c + 1) == 0;
+
+            // Continue with one ready neighbour here and hand the other one off
+            if ( below && right ) {
+              new Tile(r, c + 1).fork();
+              r += 1;
+            }
+            else if ( below ) {
+              r += 1;
+            }
+            else if ( right ) {
+              c += 1;
+            }
+            else {
+              return;
+            }
+          }
+        }
+      }
+
+      carriers.execute(new Tile(0, 0));
+
+      try {
+        endGate.await();
+        carriers.shutdown();
+      }
+      catch (InterruptedException e) {
+        // Let remaining tiles drain and wait for carriers to release their locks
+        cancelled.set(true);
+        Thread.currentThread().interrupt();
+        Util.shutdownAndAwait(carriers);
+      }
+      metrics.finish();
+
+      if ( failure.get() != null ) {
+        throw new RuntimeException("Tile failed in " + this, failure.get());
+      }
+    }
+  }
+
+  @Override
+  public String toString() {
+    return this.getClass().getSimpleName() + "[" + p + (tileSize > 0 ? "," + tileSize : "") + "]";
+  }
+}
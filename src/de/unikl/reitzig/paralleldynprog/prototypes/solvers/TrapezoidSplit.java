@@ -0,0 +1,248 @@
+/*
+ * This file is part of Parallel Dynamic Programming Implementation Prototype (PDPIP).
+ *
+ * PDPIP is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDPIP is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDPIP.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unikl.reitzig.paralleldynprog.prototypes.solvers;
+
+import de.unikl.reitzig.paralleldynprog.prototypes.DynProgProblem;
+import de.unikl.reitzig.paralleldynprog.prototypes.DynProgSolver;
+import de.unikl.reitzig.paralleldynprog.prototypes.Util;
+import vanilla.java.affinity.AffinityThreadFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+
+import static vanilla.java.affinity.AffinityStrategies.ANY;
+import static vanilla.java.affinity.AffinityStrategies.DIFFERENT_CORE;
+
+/**
+ * Variant of {@link RowSplit} with temporal tiling for type 2 DP whose cells depend on the
+ * previous row's cells in the same and the two adjacent columns only, e.g.
+ * {@link de.unikl.reitzig.paralleldynprog.prototypes.problems.RsDummy}.
+ * <p/>
+ * Rows are processed in bands of {@code h} rows. In a band, every block is first filled as a
+ * trapezoid that shrinks by one cell per row on each inner side, so it only needs its own
+ * cells. After a barrier, the triangular gaps between neighbouring trapezoids are filled by
+ * the left block's worker. That makes two barriers per band instead of one per row, and
+ * every trapezoid's cells stay in cache while it is filled.
+ *
+ * @author agent, 10.2026
+ */
+public class TrapezoidSplit implements DynProgSolver {
+  private final int p;
+  private final int blockSize;
+  private final int bandHeight;
+
+  /**
+   * Creates a new instance
+   *
+   * @param p The number of workers this solver will use. Has to be positive.
+   * @param k Width of the blocks this solver will fill at a time; a row is split into
+   *          {@code ceil(n/k)} blocks, {@code n} the problem's second dimension (i.e. number
+   *          of columns), the last of which takes up the remaining columns. Passing a value
+   *          less or equal to {@code 0} splits every row into {@code min(p, n)} blocks whose
+   *          widths differ by at most one.
+   * @param h Number of rows per band. Values less or equal to {@code 0} and values larger than
+   *          half the narrowest block's width result in the latter being used (but at least
+   *          {@code 1}).
+   */
+  public TrapezoidSplit(final int p, final int k, final int h) {
+    assert p > 0 : "Invalid worker count";
+    this.p = p;
+    this.blockSize = k;
+    this.bandHeight = h;
+  }
+
+  /**
+   * Creates a new instance that uses bands of maximal height.
+   *
+   * @param p The number of workers this solver will use. Has to be positive.
+   * @param k Width of the blocks this solver will fill at a time; see
+   *          {@link #TrapezoidSplit(int, int, int)}.
+   */
+  public TrapezoidSplit(final int p, final int k) {
+    this(p, k, -1);
+  }
+
+ /**
+   * Creates a new instance that uses all processors, {@code p} blocks per row and bands
+   * of maximal height.
+   */
+  public TrapezoidSplit() {
+    this(Runtime.getRuntime().availableProcessors(), -1, -1);
+  }
+
+  @Override
+  public void solve(final DynProgProblem<?> problem) {
+    assert problem != null : "null parameter";
+
+    if ( !problem.isSolved() && problem.getDimension().length == 2 ) {
+      final CyclicBarrier bandGate = new CyclicBarrier(p);
+      final CountDownLatch endGate = new CountDownLatch(p);
+      final SolverMetrics metrics = SolverMetrics.start(this, problem, p);
+
+      final AffinityThreadFactory factory = new Util.AffinityFactory(this + ".Worker", Util.SAME_SOCKET_DIFFERENT_CORE, DIFFERENT_CORE, ANY);
+      final List<Thread> workers = new ArrayList<Thread>(p);
+
+      for ( int i=0; i<p; i++ ) {
+        final int fi = i;
+
+        final Thread t = factory.newThread(new Runnable() {
+          @Override
+          public void run() {
+            final Worker w = new Worker(fi, problem, metrics);
+            w.run(bandGate, endGate);
+          }
+        });
+        workers.add(t);
+        t.start();
+      }
+
+      Util.awaitWorkers(endGate, workers);
+      metrics.finish();
+    }
+  }
+
+  private class Worker {
+    private final int nr;
+    private final DynProgProblem<?> prob;
+    private final SolverMetrics metrics;
+    final int[] dim;
+    private final int[] param = new int[] { 0, 0 };
+
+    Worker(final int nr, final DynProgProblem<?> prob, final SolverMetrics metrics) {
+      assert prob != null && metrics != null : "null parameter";
+      this.nr = nr;
+      this.prob = prob;
+      this.metrics = metrics;
+      this.dim =  prob.getDimension();
+    }
+
+    /**
+     * Fills this worker's trapezoids and triangles band by band. Stops early if the thread is
+     * interrupted or another worker stopped early.
+     */
+    public void run(final CyclicBarrier bandGate, final CountDownLatch endGate) {
+      assert bandGate != null && endGate != null : "null parameter";
+      final int[] bounds = blockBounds(dim[1], p, blockSize);
+      final int blocks = bounds.length - 1;
+
+      int narrowest = dim[1];
+      for ( int b=0; b<blocks; b++ ) {
+        narrowest = Math.min(narrowest, bounds[b+1] - bounds[b]);
+      }
+      final int h = Math.max(1, bandHeight > 0 ? Math.min(bandHeight, narrowest/2) : narrowest/2);
+
+      try {
+        for ( int r0=0; r0<dim[0]; r0+=h ) {
+          final int steps = Math.min(h, dim[0] - r0);
+          long cells = 0;
+
+          // Trapezoids
+          for ( int b=nr; b<blocks; b+=p ) {
+            final int c0 = bounds[b];
+            final int c1 = bounds[b+1];
+
+            for ( int t=0; t<steps; t++ ) {
+              param[0] = r0 + t;
+              final int lo = c0 > 0 ? c0 + t : c0;
+              final int hi = c1 < dim[1] ? c1 - t : c1;
+              prob.computeRange(param[0], lo, hi);
+              cells += hi - lo;
+            }
+          }
+
+          if ( !await(bandGate) ) {
+            return;
+          }
+
+          // Triangles at the right border of own blocks
+          for ( int b=nr; b<blocks-1; b+=p ) {
+            final int c = bounds[b+1];
+
+            for ( int t=1; t<steps; t++ ) {
+              param[0] = r0 + t;
+              prob.computeRange(param[0], c-t, c+t);
+              cells += 2*t;
+            }
+          }
+
+          metrics.progress(nr, r0 + steps - 1, cells);
+
+          if ( !await(bandGate) ) {
+            return;
+          }
+
+          if ( nr == 0 ) {
+            metrics.rowsCompleted(r0 + steps - 1);
+          }
+        }
+      }
+      finally {
+        endGate.countDown();
+      }
+    }
+
+    /**
+     * @return {@code false} iff this worker should stop.
+     */
+    private boolean await(final CyclicBarrier bandGate) {
+      final long token = metrics.beginWait(nr);
+      try {
+        bandGate.await();
+        return true;
+      }
+      catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return false;
+      }
+      catch (BrokenBarrierException e) {
+        return false;
+      }
+      finally {
+        metrics.endWait(nr, token);
+      }
+    }
+  }
+
+  /**
+   * Splits {@code n} columns into blocks as described in {@link #TrapezoidSplit(int, int, int)}.
+   *
+   * @param n Number of columns
+   * @param p Number of workers
+   * @param k Block width, or a value less or equal to {@code 0} for balanced blocks
+   * @return Block boundaries; block {@code b} spans columns {@code bounds[b]} (inclusive) to
+   *         {@code bounds[b+1]} (exclusive). Contains at least two entries.
+   */
+  static int[] blockBounds(final int n, final int p, final int k) {
+    final int blocks = k > 0 ? Math.max(1, (n + k - 1) / k) : Math.max(1, Math.min(p, n));
+    final int[] bounds = new int[blocks + 1];
+
+    for ( int b=1; b<=blocks; b++ ) {
+      bounds[b] = k > 0 ? Math.min(n, b * k) : (int)((long)b * n / blocks);
+    }
+
+    return bounds;
+  }
+
+  @Override
+  public String toString() {
+    return this.getClass().getSimpleName() + "[" + p + "," + blockSize + "," + bandHeight + "]";
+  }
+}
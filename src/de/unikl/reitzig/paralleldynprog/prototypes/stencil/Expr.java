@@ -0,0 +1,368 @@
+/*
+ * This file is part of Parallel Dynamic Programming Implementation Prototype (PDPIP).
+ *
+ * PDPIP is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDPIP is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDPIP.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unikl.reitzig.paralleldynprog.prototypes.stencil;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Right-hand side of a recurrence in a {@link Stencil}. Expressions are built with the static
+ * factory methods and evaluate to an {@code int} for a cell {@code (i,j)}; {@code int}
+ * overflow wraps around silently.
+ * <p/>
+ * Example: the inner recurrence of
+ * {@link de.unikl.reitzig.paralleldynprog.prototypes.problems.EditDistance} is
+ * <pre>
+ *   min(add(cell(0,-1), constant(1)),
+ *       add(cell(-1,0), constant(1)),
+ *       add(cell(-1,-1), select(rowInput(0), columnInput(1), constant(0), constant(1))))
+ * </pre>
+ *
+ * @author agent, 10.2026
+ */
+public abstract class Expr {
+  Expr() {}
+
+  /**
+   * @param di Row offset; must not be positive.
+   * @param dj Column offset; must be negative if {@code di == 0}.
+   * @return The value of cell {@code (i+di,j+dj)}, or the stencil's outside value if that is
+   *         no table cell.
+   */
+  public static Expr cell(final int di, final int dj) {
+    return new Cell(di, dj);
+  }
+
+  /**
+   * @return The constant {@code c}
+   */
+  public static Expr constant(final int c) {
+    return new Constant(c);
+  }
+
+  /**
+   * @return The current row index {@code i}
+   */
+  public static Expr row() {
+    return new Index(true);
+  }
+
+  /**
+   * @return The current column index {@code j}
+   */
+  public static Expr column() {
+    return new Index(false);
+  }
+
+  /**
+   * @param k Index of a problem input
+   * @return Entry {@code i} of input {@code k}
+   */
+  public static Expr rowInput(final int k) {
+    return new Input(k, true);
+  }
+
+  /**
+   * @param k Index of a problem input
+   * @return Entry {@code j} of input {@code k}
+   */
+  public static Expr columnInput(final int k) {
+    return new Input(k, false);
+  }
+
+  /**
+   * @return The sum of all terms
+   */
+  public static Expr add(final Expr... terms) {
+    return new Nary(Nary.ADD, terms);
+  }
+
+  /**
+   * @return The minimum of all terms
+   */
+  public static Expr min(final Expr... terms) {
+    return new Nary(Nary.MIN, terms);
+  }
+
+  /**
+   * @return The maximum of all terms
+   */
+  public static Expr max(final Expr... terms) {
+    return new Nary(Nary.MAX, terms);
+  }
+
+  /**
+   * @return {@code x == y ? equal : different}
+   */
+  public static Expr select(final Expr x, final Expr y, final Expr equal, final Expr different) {
+    return new Select(x, y, equal, different);
+  }
+
+  /**
+   * Evaluates this expression for cell {@code (i,j)} of table {@code m}.
+   */
+  abstract int eval(int[][] m, int[][] in, int i, int j, int outside);
+
+  /**
+   * Appends Java source evaluating this expression to {@code out}; see {@link KernelCompiler}.
+   * Row {@code i-k} of the table is available as {@code rk}, input {@code k} as {@code ink} and
+   * the number of columns as {@code n}.
+   * @param minI Lower bound on {@code i} in the emitting context
+   * @param minJ Lower bound on {@code j} in the emitting context
+   */
+  abstract void emit(StringBuilder out, int minI, int minJ, int outside);
+
+  /**
+   * @return The direct subexpressions of this expression
+   */
+  List<Expr> children() {
+    return Collections.emptyList();
+  }
+
+  static final class Cell extends Expr {
+    final int di;
+    final int dj;
+
+    Cell(final int di, final int dj) {
+      if ( di > 0 || (di == 0 && dj >= 0) ) {
+        throw new IllegalArgumentException("Cell (" + di + "," + dj + ") is not computed before (0,0)");
+      }
+      this.di = di;
+      this.dj = dj;
+    }
+
+    @Override
+    int eval(final int[][] m, final int[][] in, final int i, final int j, final int outside) {
+      final int r = i + di;
+      final int c = j + dj;
+      return r >= 0 && c >= 0 && c < m[r].length ? m[r][c] : outside;
+    }
+
+    @Override
+    void emit(final StringBuilder out, final int minI, final int minJ, final int outside) {
+      final StringBuilder guard = new StringBuilder();
+      if ( minI + di < 0 ) {
+        guard.append("i >= ").append(-di);
+      }
+      if ( minJ + dj < 0 ) {
+        guard.append(guard.length() > 0 ? " && " : "").append("j >= ").append(-dj);
+      }
+      if ( dj > 0 ) {
+        guard.append(guard.length() > 0 ? " && " : "").append("j < n - ").append(dj);
+      }
+
+      final String access = "r" + (-di) + "[j" + (dj < 0 ? " - " + (-dj) : dj > 0 ? " + " + dj : "") + "]";
+      if ( guard.length() > 0 ) {
+        out.append("(").append(guard).append(" ? ").append(access).append(" : (").append(outside).append("))");
+      }
+      else {
+        out.append(access);
+      }
+    }
+
+    @Override
+    public String toString() {
+      return "cell(" + di + "," + dj + ")";
+    }
+  }
+
+  private static final class Constant extends Expr {
+    private final int c;
+
+    Constant(final int c) {
+      this.c = c;
+    }
+
+    @Override
+    int eval(final int[][] m, final int[][] in, final int i, final int j, final int outside) {
+      return c;
+    }
+
+    @Override
+    void emit(final StringBuilder out, final int minI, final int minJ, final int outside) {
+      out.append("(").append(c).append(")");
+    }
+
+    @Override
+    public String toString() {
+      return String.valueOf(c);
+    }
+  }
+
+  private static final class Index extends Expr {
+    private final boolean row;
+
+    Index(final boolean row) {
+      this.row = row;
+    }
+
+    @Override
+    int eval(final int[][] m, final int[][] in, final int i, final int j, final int outside) {
+      return row ? i : j;
+    }
+
+    @Override
+    void emit(final StringBuilder out, final int minI, final int minJ, final int outside) {
+      out.append(row ? "i" : "j");
+    }
+
+    @Override
+    public String toString() {
+      return row ? "i" : "j";
+    }
+  }
+
+  static final class Input extends Expr {
+    final int k;
+    final boolean row;
+
+    Input(final int k, final boolean row) {
+      if ( k < 0 ) {
+        throw new IllegalArgumentException("Negative input index " + k);
+      }
+      this.k = k;
+      this.row = row;
+    }
+
+    @Override
+    int eval(final int[][] m, final int[][] in, final int i, final int j, final int outside) {
+      return in[k][row ? i : j];
+    }
+
+    @Override
+    void emit(final StringBuilder out, final int minI, final int minJ, final int outside) {
+      out.append("in").append(k).append(row ? "[i]" : "[j]");
+    }
+
+    @Override
+    public String toString() {
+      return "in" + k + (row ? "[i]" : "[j]");
+    }
+  }
+
+  private static final class Nary extends Expr {
+    static final int ADD = 0;
+    static final int MIN = 1;
+    static final int MAX = 2;
+    private static final String[] NAMES = { "add", "min", "max" };
+
+    private final int op;
+    private final Expr[] terms;
+
+    Nary(final int op, final Expr[] terms) {
+      assert terms != null : "null parameter";
+      if ( terms.length == 0 ) {
+        throw new IllegalArgumentException(NAMES[op] + " needs at least one term");
+      }
+      this.op = op;
+      this.terms = terms.clone();
+    }
+
+    @Override
+    int eval(final int[][] m, final int[][] in, final int i, final int j, final int outside) {
+      int res = terms[0].eval(m, in, i, j, outside);
+      for ( int t=1; t<terms.length; t++ ) {
+        final int v = terms[t].eval(m, in, i, j, outside);
+        res = op == ADD ? res + v : op == MIN ? Math.min(res, v) : Math.max(res, v);
+      }
+      return res;
+    }
+
+    @Override
+    void emit(final StringBuilder out, final int minI, final int minJ, final int outside) {
+      if ( op == ADD ) {
+        out.append("(");
+        for ( int t=0; t<terms.length; t++ ) {
+          out.append(t > 0 ? " + " : "");
+          terms[t].emit(out, minI, minJ, outside);
+        }
+        out.append(")");
+      }
+      else {
+        // Nested binary calls; Math.min/max are intrinsics
+        final String call = op == MIN ? "Math.min(" : "Math.max(";
+        for ( int t=0; t<terms.length - 1; t++ ) {
+          out.append(call);
+          terms[t].emit(out, minI, minJ, outside);
+          out.append(", ");
+        }
+        terms[terms.length - 1].emit(out, minI, minJ, outside);
+        for ( int t=0; t<terms.length - 1; t++ ) {
+          out.append(")");
+        }
+      }
+    }
+
+    @Override
+    List<Expr> children() {
+      return Arrays.asList(terms);
+    }
+
+    @Override
+    public String toString() {
+      final StringBuilder res = new StringBuilder(NAMES[op]).append("(");
+      for ( int t=0; t<terms.length; t++ ) {
+        res.append(t > 0 ? ", " : "").append(terms[t]);
+      }
+      return res.append(")").toString();
+    }
+  }
+
+  private static final class Select extends Expr {
+    private final Expr x, y, equal, different;
+
+    Select(final Expr x, final Expr y, final Expr equal, final Expr different) {
+      assert x != null && y != null && equal != null && different != null : "null parameter";
+      this.x = x;
+      this.y = y;
+      this.equal = equal;
+      this.different = different;
+    }
+
+    @Override
+    int eval(final int[][] m, final int[][] in, final int i, final int j, final int outside) {
+      return x.eval(m, in, i, j, outside) == y.eval(m, in, i, j, outside)
+             ? equal.eval(m, in, i, j, outside)
+             : different.eval(m, in, i, j, outside);
+    }
+
+    @Override
+    void emit(final StringBuilder out, final int minI, final int minJ, final int outside) {
+      out.append("(");
+      x.emit(out, minI, minJ, outside);
+      out.append(" == ");
+      y.emit(out, minI, minJ, outside);
+      out.append(" ? ");
+      equal.emit(out, minI, minJ, outside);
+      out.append(" : ");
+      different.emit(out, minI, minJ, outside);
+      out.append(")");
+    }
+
+    @Override
+    List<Expr> children() {
+      return Arrays.asList(x, y, equal, different);
+    }
+
+    @Override
+    public String toString() {
+      return "select(" + x + ", " + y + ", " + equal + ", " + different + ")";
+    }
+  }
+}
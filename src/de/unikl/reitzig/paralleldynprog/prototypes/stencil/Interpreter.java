@@ -0,0 +1,46 @@
+/*
+ * This file is part of Parallel Dynamic Programming Implementation Prototype (PDPIP).
+ *
+ * PDPIP is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDPIP is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDPIP.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unikl.reitzig.paralleldynprog.prototypes.stencil;
+
+/**
+ * Evaluates a stencil's expression trees cell by cell. Slow, but works without a compiler.
+ *
+ * @author agent, 10.2026
+ */
+final class Interpreter implements Kernel {
+  private final Expr firstRow;
+  private final Expr firstColumn;
+  private final Expr inner;
+  private final int outside;
+
+  Interpreter(final Stencil stencil) {
+    assert stencil != null : "null parameter";
+    this.firstRow = stencil.getFirstRow();
+    this.firstColumn = stencil.getFirstColumn();
+    this.inner = stencil.getInner();
+    this.outside = stencil.getOutside();
+  }
+
+  @Override
+  public void computeRange(final int[][] m, final int[][] in, final int i, final int from, final int to) {
+    for ( int j=from; j<to; j++ ) {
+      final Expr e = i == 0 ? firstRow : j == 0 ? firstColumn : inner;
+      m[i][j] = e.eval(m, in, i, j, outside);
+    }
+  }
+}
@@ -0,0 +1,37 @@
+/*
+ * This file is part of Parallel Dynamic Programming Implementation Prototype (PDPIP).
+ *
+ * PDPIP is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDPIP is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDPIP.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unikl.reitzig.paralleldynprog.prototypes.stencil;
+
+/**
+ * Fills table cells according to a {@link Stencil}. Obtain instances from
+ * {@link Stencil#kernel()} or {@link Stencil#interpreter()}.
+ *
+ * @author agent, 10.2026
+ */
+public interface Kernel {
+  /**
+   * Computes cells {@code [from, to)} of row {@code i}. All cells they depend on have to be
+   * computed already.
+   * @param m The table; all rows have the same length.
+   * @param in The problem's inputs
+   * @param i Row index
+   * @param from First column to compute
+   * @param to Column after the last one to compute
+   */
+  void computeRange(int[][] m, int[][] in, int i, int from, int to);
+}
@@ -0,0 +1,180 @@
+/*
+ * This file is part of Parallel Dynamic Programming Implementation Prototype (PDPIP).
+ *
+ * PDPIP is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDPIP is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDPIP.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unikl.reitzig.paralleldynprog.prototypes.stencil;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Translates {@link Stencil}s to Java source, compiles it in memory and loads the result as
+ * hidden class.
+ * <p/>
+ * The generated kernel has separate loops for row {@code 0}, column {@code 0} and inner cells.
+ * Rows the recurrence refers to are loaded once per call, and bounds checks for cell references
+ * are only emitted where the loop's index range does not rule them out; for the usual
+ * dependencies on the row above and the cell to the left, the inner loop has none.
+ *
+ * @author agent, 10.2026
+ */
+final class KernelCompiler {
+  private static final String PACKAGE = KernelCompiler.class.getPackage().getName();
+  private static final String NAME = "StencilKernel";
+
+  private KernelCompiler() {}
+
+  /**
+   * @return Source of a {@link Kernel} implementation for {@code stencil} named {@link #NAME}
+   */
+  static String source(final Stencil stencil) {
+    assert stencil != null : "null parameter";
+    final int outside = stencil.getOutside();
+
+    int rows = 0;
+    for ( final int[] ij : new int[][] { {0,0}, {1,0}, {1,1} } ) {
+      for ( final int[] d : stencil.getDependencies(ij[0], ij[1]) ) {
+        rows = Math.max(rows, -d[0]);
+      }
+    }
+
+    final StringBuilder out = new StringBuilder();
+    out.append("package ").append(PACKAGE).append(";\n\n");
+    out.append("// ").append(stencil.getName()).append("\n");
+    out.append("public final class ").append(NAME).append(" implements Kernel {\n");
+    out.append("  @Override\n");
+    out.append("  public void computeRange(final int[][] m, final int[][] in, final int i, final int from, final int to) {\n");
+    out.append("    final int n = m[i].length;\n");
+    out.append("    final int[] r0 = m[i];\n");
+    for ( int k=1; k<=rows; k++ ) {
+      out.append("    final int[] r").append(k).append(" = i >= ").append(k).append(" ? m[i - ").append(k).append("] : null;\n");
+    }
+    for ( int k=0; k<stencil.getInputs(); k++ ) {
+      out.append("    final int[] in").append(k).append(" = in[").append(k).append("];\n");
+    }
+    out.append("    int j = from;\n\n");
+
+    out.append("    if ( i == 0 ) {\n");
+    out.append("      for ( ; j<to; j++ ) {\n");
+    out.append("        r0[j] = ");
+    stencil.getFirstRow().emit(out, 0, 0, outside);
+    out.append(";\n      }\n      return;\n    }\n\n");
+
+    out.append("    if ( j == 0 && to > 0 ) {\n");
+    out.append("      r0[0] = ");
+    stencil.getFirstColumn().emit(out, 1, 0, outside);
+    out.append(";\n      j++;\n    }\n\n");
+
+    out.append("    for ( ; j<to; j++ ) {\n");
+    out.append("      r0[j] = ");
+    stencil.getInner().emit(out, 1, 1, outside);
+    out.append(";\n    }\n  }\n}\n");
+
+    return out.toString();
+  }
+
+  /**
+   * @return A new instance of the compiled kernel for {@code stencil}
+   * @throws IllegalStateException If there is no compiler or compiling or loading fails
+   */
+  static Kernel compile(final Stencil stencil) {
+    final JavaCompiler javac = ToolProvider.getSystemJavaCompiler();
+    if ( javac == null ) {
+      throw new IllegalStateException("No Java compiler available");
+    }
+
+    final String source = source(stencil);
+    final ByteArrayOutputStream bytecode = new ByteArrayOutputStream();
+    final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<JavaFileObject>();
+    final StandardJavaFileManager files = javac.getStandardFileManager(diagnostics, null, null);
+
+    final JavaFileManager memory = new ForwardingJavaFileManager<StandardJavaFileManager>(files) {
+      @Override
+      public JavaFileObject getJavaFileForOutput(final Location location, final String className,
+                                                 final JavaFileObject.Kind kind, final FileObject sibling) {
+        return new SimpleJavaFileObject(URI.create("mem:///" + className.replace('.', '/') + kind.extension), kind) {
+          @Override
+          public OutputStream openOutputStream() {
+            return bytecode;
+          }
+        };
+      }
+    };
+
+    final JavaFileObject input = new SimpleJavaFileObject(URI.create("string:///" + PACKAGE.replace('.', '/') + "/" + NAME + ".java"),
+                                                          JavaFileObject.Kind.SOURCE) {
+      @Override
+      public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+        return source;
+      }
+    };
+
+    try {
+      final List<String> options = Arrays.asList("-classpath", classpath(), "-proc:none", "-g:none");
+      if ( !javac.getTask(null, memory, diagnostics, options, null, Collections.singletonList(input)).call() ) {
+        final StringBuilder msg = new StringBuilder("Could not compile kernel for " + stencil.getName() + ":");
+        for ( final Diagnostic<? extends JavaFileObject> d : diagnostics.getDiagnostics() ) {
+          msg.append("\n").append(d.getMessage(null));
+        }
+        throw new IllegalStateException(msg.toString());
+      }
+
+      final MethodHandles.Lookup kernel = MethodHandles.lookup().defineHiddenClass(bytecode.toByteArray(), true);
+      return (Kernel)kernel.findConstructor(kernel.lookupClass(), MethodType.methodType(void.class)).invoke();
+    }
+    catch ( IllegalStateException e ) {
+      throw e;
+    }
+    catch ( Throwable e ) {
+      throw new IllegalStateException("Could not load kernel for " + stencil.getName(), e);
+    }
+    finally {
+      try {
+        memory.close();
+      }
+      catch ( IOException e ) {
+        // Nothing was written to disk
+      }
+    }
+  }
+
+  /**
+   * @return The class path of the running VM plus the location of {@link Kernel}, so that
+   *         generated sources compile no matter how this class was loaded.
+   */
+  private static String classpath() throws Exception {
+    final String own = new File(Kernel.class.getProtectionDomain().getCodeSource().getLocation().toURI()).getPath();
+    return own + File.pathSeparator + System.getProperty("java.class.path");
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * This file is part of Parallel Dynamic Programming Implementation Prototype (PDPIP).
+ *
+ * PDPIP is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDPIP is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDPIP.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unikl.reitzig.paralleldynprog.prototypes.stencil;
+
+import de.unikl.reitzig.paralleldynprog.prototypes.RowwiseProblem;
+
+/**
+ * An instance of a {@link Stencil#isRowwise() rowwise} {@link Stencil} recurrence; exposes
+ * the stencil's reach so that
+ * {@link de.unikl.reitzig.paralleldynprog.prototypes.solvers.RowSplitReach} can solve it.
+ * Keeps the whole table.
+ *
+ * @author agent, 10.2026
+ */
+public class RowwiseStencilProblem extends StencilProblem implements RowwiseProblem<Integer> {
+  /**
+   * Creates a new instance
+   * @param stencil The recurrence
+   * @param rows Number of table rows; has to be positive.
+   * @param columns Number of table columns; has to be positive.
+   * @param inputs See {@link StencilProblem#StencilProblem(Stencil, int, int, int[]...)}
+   * @throws IllegalArgumentException if {@code stencil} is not rowwise
+   */
+  public RowwiseStencilProblem(final Stencil stencil, final int rows, final int columns, final int[]... inputs) {
+    this(stencil, stencil.kernel(), rows, columns, inputs);
+  }
+
+  /**
+   * Creates a new instance that uses the specified kernel
+   */
+  RowwiseStencilProblem(final Stencil stencil, final Kernel kernel, final int rows, final int columns, final int[]... inputs) {
+    super(stencil, kernel, rows, columns, inputs);
+    if ( !stencil.isRowwise() ) {
+      throw new IllegalArgumentException(stencil.getName() + " refers to cells outside of the previous row");
+    }
+  }
+
+  @Override
+  public int reachLeft(final int i) {
+    return getStencil().getReachLeft();
+  }
+
+  @Override
+  public int reachRight(final int i) {
+    return getStencil().getReachRight();
+  }
+
+  @Override
+  public int rowsKept() {
+    return getDimension()[0];
+  }
+
+  @Override
+  public RowwiseStencilProblem clone() {
+    final int[] dim = getDimension();
+    return new RowwiseStencilProblem(getStencil(), kernel, dim[0], dim[1], in);
+  }
+}
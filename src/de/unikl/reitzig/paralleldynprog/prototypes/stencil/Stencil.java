@@ -0,0 +1,228 @@
+/*
+ * This file is part of Parallel Dynamic Programming Implementation Prototype (PDPIP).
+ *
+ * PDPIP is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDPIP is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDPIP.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unikl.reitzig.paralleldynprog.prototypes.stencil;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Declarative description of a two-dimensional dynamic programming recurrence; solve instances
+ * with {@link StencilProblem}.
+ * <p/>
+ * Cell {@code (0,j)} is given by {@code firstRow}, cell {@code (i,0)} with {@code i > 0} by
+ * {@code firstColumn} and all others by {@code inner}. These {@link Expr}essions may refer to
+ * cells in rows above and cells to the left in the same row; references to cells outside of the
+ * table evaluate to {@code outside}. Problem inputs are {@code int} arrays which expressions
+ * index by row or column.
+ * <p/>
+ * Which solvers can solve a recurrence depends on the cells it refers to; see
+ * {@link #isLocal()}, {@link #isRowwise()} and {@link StencilProblem}.
+ * <p/>
+ * {@link #kernel()} translates the recurrence to Java source with one specialised loop per
+ * case, compiles it with the platform compiler and loads it as hidden class, so that the JIT
+ * compiler sees plain array code just like in a hand-written problem. Where no compiler is
+ * available, an {@link #interpreter() interpreter} is used instead.
+ *
+ * @author agent, 10.2026
+ */
+public final class Stencil {
+  /**
+   * Which cells make up a problem's solution
+   */
+  public enum Solution {
+    /** The bottom right cell */
+    CORNER,
+    /** The minimum of the last row */
+    ROW_MIN,
+    /** The maximum of the last row */
+    ROW_MAX
+  }
+
+  private final String name;
+  private final int inputs;
+  private final Expr firstRow;
+  private final Expr firstColumn;
+  private final Expr inner;
+  private final int outside;
+  private final Solution solution;
+  private final int[][][] dependencies;
+  private final boolean local;
+  private final boolean rowwise;
+  private final int reachLeft;
+  private final int reachRight;
+  private Kernel kernel;
+
+  /**
+   * Creates a new instance
+   * @param name Name of the recurrence; used for display only
+   * @param inputs Number of input arrays
+   * @param firstRow Value of cells in row {@code 0}; may only refer to cells to the left
+   * @param firstColumn Value of cells in column {@code 0} (but not in row {@code 0})
+   * @param inner Value of all other cells
+   * @param outside Value of references to cells outside of the table
+   * @param solution Which cells make up the solution
+   * @throws IllegalArgumentException if an expression refers to an input {@code >= inputs}
+   */
+  public Stencil(final String name, final int inputs, final Expr firstRow, final Expr firstColumn,
+                 final Expr inner, final int outside, final Solution solution) {
+    assert name != null && firstRow != null && firstColumn != null && inner != null && solution != null : "null parameter";
+    this.name = name;
+    this.inputs = inputs;
+    this.firstRow = firstRow;
+    this.firstColumn = firstColumn;
+    this.inner = inner;
+    this.outside = outside;
+    this.solution = solution;
+    this.dependencies = new int[][][] { cells(firstRow), cells(firstColumn), cells(inner) };
+
+    boolean local = true;
+    boolean rowwise = true;
+    int reachLeft = 0;
+    int reachRight = 0;
+    for ( final int[][] ds : dependencies ) {
+      for ( final int[] d : ds ) {
+        local &= d[0] >= -1 && d[1] >= -1 && d[1] <= 0;
+        rowwise &= d[0] == -1;
+        reachLeft = Math.max(reachLeft, -d[1]);
+        reachRight = Math.max(reachRight, d[1]);
+      }
+    }
+    this.local = local;
+    this.rowwise = rowwise;
+    this.reachLeft = reachLeft;
+    this.reachRight = reachRight;
+  }
+
+  /**
+   * Collects the offsets of all cells {@code e} refers to and checks its input references.
+   */
+  private int[][] cells(final Expr e) {
+    final List<int[]> res = new ArrayList<int[]>();
+    final List<Expr> todo = new ArrayList<Expr>();
+    todo.add(e);
+
+    while ( !todo.isEmpty() ) {
+      final Expr cur = todo.remove(todo.size() - 1);
+      if ( cur instanceof Expr.Cell ) {
+        res.add(new int[] { ((Expr.Cell)cur).di, ((Expr.Cell)cur).dj });
+      }
+      else if ( cur instanceof Expr.Input && ((Expr.Input)cur).k >= inputs ) {
+        throw new IllegalArgumentException(cur + " refers to missing input; " + name + " has " + inputs);
+      }
+      todo.addAll(cur.children());
+    }
+
+    return res.toArray(new int[res.size()][]);
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public int getInputs() {
+    return inputs;
+  }
+
+  public Expr getFirstRow() {
+    return firstRow;
+  }
+
+  public Expr getFirstColumn() {
+    return firstColumn;
+  }
+
+  public Expr getInner() {
+    return inner;
+  }
+
+  public int getOutside() {
+    return outside;
+  }
+
+  public Solution getSolution() {
+    return solution;
+  }
+
+  /**
+   * @return {@code true} iff cells refer only to their left, upper and upper left neighbours,
+   *         as solvers for type 1 problems assume.
+   */
+  public boolean isLocal() {
+    return local;
+  }
+
+  /**
+   * @return {@code true} iff cells refer only to cells in the previous row, as solvers for
+   *         type 2 problems assume.
+   */
+  public boolean isRowwise() {
+    return rowwise;
+  }
+
+  /**
+   * @return {@code l} so that no cell {@code (i,j)} refers to a cell left of column
+   *         {@code j - l}
+   */
+  public int getReachLeft() {
+    return reachLeft;
+  }
+
+  /**
+   * @return {@code r} so that no cell {@code (i,j)} refers to a cell right of column
+   *         {@code j + r}
+   */
+  public int getReachRight() {
+    return reachRight;
+  }
+
+  /**
+   * @return Offsets {@code {di,dj}} of the cells cell {@code (i,j)} refers to. Callers must not
+   *         change the result.
+   */
+  int[][] getDependencies(final int i, final int j) {
+    return dependencies[i == 0 ? 0 : j == 0 ? 1 : 2];
+  }
+
+  /**
+   * Compiles this recurrence on first call; falls back to an interpreter if that fails.
+   * @return A kernel for this recurrence; the same one on every call.
+   */
+  public synchronized Kernel kernel() {
+    if ( kernel == null ) {
+      try {
+        kernel = KernelCompiler.compile(this);
+      }
+      catch ( IllegalStateException e ) {
+        kernel = interpreter();
+      }
+    }
+    return kernel;
+  }
+
+  /**
+   * @return A kernel that evaluates this recurrence's expressions cell by cell.
+   */
+  public Kernel interpreter() {
+    return new Interpreter(this);
+  }
+
+  @Override
+  public String toString() {
+    return name + "[" + firstRow + "; " + firstColumn + "; " + inner + "]";
+  }
+}
@@ -0,0 +1,194 @@
+/*
+ * This file is part of Parallel Dynamic Programming Implementation Prototype (PDPIP).
+ *
+ * PDPIP is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDPIP is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDPIP.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unikl.reitzig.paralleldynprog.prototypes.stencil;
+
+import de.unikl.reitzig.paralleldynprog.prototypes.DynProgProblem;
+import de.unikl.reitzig.paralleldynprog.prototypes.InputKey;
+
+import java.util.Arrays;
+
+/**
+ * An instance of a {@link Stencil} recurrence. Cells are computed by the stencil's
+ * {@link Stencil#kernel() kernel}, so every {@link #computeRange(int, int, int)} runs one
+ * specialised loop.
+ * <p/>
+ * Solvers make assumptions on which cells a cell depends on, so not every solver can solve
+ * every instance:
+ * <ul>
+ *   <li>{@link de.unikl.reitzig.paralleldynprog.prototypes.solvers.RowFill} and the
+ *       {@code CellCheck} solvers check every dependency and solve all instances.</li>
+ *   <li>The other solvers for type 1 problems, i.e. the {@code BlockCheck} solvers,
+ *       {@code ColumnBlock}, {@code TileFlow}, {@code QuadrantSplit} and {@code AspectAware},
+ *       need a {@link Stencil#isLocal() local} stencil.</li>
+ *   <li>{@code RowSplit} needs a {@link Stencil#isRowwise() rowwise} stencil;
+ *       {@code RowSplitNeighbours} and {@code TrapezoidSplit} also need its reach to be at most
+ *       {@code 1} on both sides.</li>
+ *   <li>{@code RowSplitReach} only solves {@link RowwiseStencilProblem}s.</li>
+ * </ul>
+ * Other pairs compute wrong results or fail assertions.
+ *
+ * @author agent, 10.2026
+ */
+public class StencilProblem implements DynProgProblem<Integer> {
+  private final Stencil stencil;
+  final Kernel kernel;
+  final int[][] in;
+  private final int[][] m;
+  private final boolean[][] computed;
+  private final int[] dim;
+
+  /**
+   * Creates a new instance
+   * @param stencil The recurrence
+   * @param rows Number of table rows; has to be positive.
+   * @param columns Number of table columns; has to be positive.
+   * @param inputs As many input arrays as {@code stencil} expects; those indexed by row need
+   *               {@code rows}, those indexed by column {@code columns} entries. Callers must
+   *               not change them afterwards.
+   */
+  public StencilProblem(final Stencil stencil, final int rows, final int columns, final int[]... inputs) {
+    this(stencil, stencil.kernel(), rows, columns, inputs);
+  }
+
+  /**
+   * Creates a new instance that uses the specified kernel
+   */
+  StencilProblem(final Stencil stencil, final Kernel kernel, final int rows, final int columns, final int[]... inputs) {
+    assert stencil != null && kernel != null && inputs != null : "null parameter";
+    assert rows > 0 && columns > 0 : "empty table";
+    assert inputs.length == stencil.getInputs() : "wrong number of inputs";
+    this.stencil = stencil;
+    this.kernel = kernel;
+    this.in = inputs;
+    this.dim = new int[] { rows, columns };
+    this.m = new int[rows][columns];
+    this.computed = new boolean[rows][columns];
+  }
+
+  public Stencil getStencil() {
+    return stencil;
+  }
+
+  @Override
+  public int[] getDimension() {
+    return dim.clone();
+  }
+
+  @Override
+  public boolean isComputed(final int[] i) {
+    assert i.length == 2 && i[0] >= 0 && i[1] >= 0 && i[0] < dim[0] && i[1] < dim[1] : "invalid indices";
+    return computed[i[0]][i[1]];
+  }
+
+  @Override
+  public boolean isComputable(final int[] i) {
+    assert i.length == 2 && i[0] >= 0 && i[1] >= 0 && i[0] < dim[0] && i[1] < dim[1] : "invalid indices";
+
+    for ( final int[] d : stencil.getDependencies(i[0], i[1]) ) {
+      final int r = i[0] + d[0];
+      final int c = i[1] + d[1];
+      if ( r >= 0 && c >= 0 && c < dim[1] && !computed[r][c] ) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public void compute(final int[] i) {
+    computeRange(i[0], i[1], i[1] + 1);
+  }
+
+  @Override
+  public void computeRange(final int row, final int from, final int to) {
+    assert row >= 0 && row < dim[0] && 0 <= from && from <= to && to <= dim[1] : "invalid indices";
+    assert from == to || isComputable(new int[] {row, from}) : "dependecies not computed";
+
+    kernel.computeRange(m, in, row, from, to);
+    Arrays.fill(computed[row], from, to, true);
+  }
+
+  /**
+   * @param i Row index
+   * @return Copy of row {@code i} of the table; entries not computed yet are undefined.
+   */
+  public int[] getRow(final int i) {
+    assert i >= 0 && i < dim[0] : "invalid row";
+    return m[i].clone();
+  }
+
+  @Override
+  public Integer getSolution() {
+    if ( !isSolved() ) {
+      throw new Error("Requests result, but computation is not done.");
+    }
+
+    final int[] last = m[dim[0] - 1];
+    switch ( stencil.getSolution() ) {
+      case CORNER:
+        return last[dim[1] - 1];
+      case ROW_MIN: {
+        int res = last[0];
+        for ( final int v : last ) {
+          res = Math.min(res, v);
+        }
+        return res;
+      }
+      default: {
+        int res = last[0];
+        for ( final int v : last ) {
+          res = Math.max(res, v);
+        }
+        return res;
+      }
+    }
+  }
+
+  @Override
+  public boolean isSolved() {
+    final boolean[] last = computed[dim[0] - 1];
+    if ( stencil.getSolution() == Stencil.Solution.CORNER ) {
+      return last[dim[1] - 1];
+    }
+
+    boolean res = true;
+    for ( final boolean c : last ) {
+      res = res && c;
+    }
+    return res;
+  }
+
+  @Override
+  public InputKey getInputKey() {
+    final int[][] inputs = new int[in.length][];
+    for ( int k=0; k<in.length; k++ ) {
+      inputs[k] = in[k].clone();
+    }
+    return new InputKey(StencilProblem.class, stencil, dim[0], dim[1], inputs);
+  }
+
+  @Override
+  public String toString() {
+    return stencil.getName() + " (" + dim[0] + "x" + dim[1] + ") -- " + (isSolved() ? "" : "un") + "solved";
+  }
+
+  @Override
+  public StencilProblem clone() {
+    return new StencilProblem(stencil, kernel, dim[0], dim[1], in);
+  }
+}
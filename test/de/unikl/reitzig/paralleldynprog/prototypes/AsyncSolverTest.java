@@ -0,0 +1,157 @@
+/*
+ * This file is part of Parallel Dynamic Programming Implementation Prototype (PDPIP).
+ *
+ * PDPIP is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDPIP is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDPIP.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unikl.reitzig.paralleldynprog.prototypes;
+
+import de.unikl.reitzig.paralleldynprog.prototypes.problems.EditDistance;
+import de.unikl.reitzig.paralleldynprog.prototypes.problems.RsDummy;
+import de.unikl.reitzig.paralleldynprog.prototypes.solvers.*;
+import org.junit.Test;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent, 10.2026
+ */
+public class AsyncSolverTest {
+  private static final int p = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+  private final DynProgSolver[] dfSolvers = new DynProgSolver[] {
+    new RowFill(),
+    new BlockCheck(p, 10),
+    new BlockCheckSleep(p, 10),
+    new BlockCheckWait(p, 10),
+    new ColumnBlock(p, 10),
+    new AspectAware(p, 10),
+    new TileFlow(p, 10),
+    new QuadrantSplit(p)
+  };
+
+  @Test
+  public void testSolve() throws Exception {
+    for ( final DynProgSolver solver : dfSolvers ) {
+      final String a = Util.randomString(5, 50);
+      final String b = Util.randomString(5, 50);
+      final DynProgProblem<Integer> pr = new EditDistance(a, b);
+      new RowFill().solve(pr);
+
+      final CompletableFuture<Integer> res = new AsyncSolver(solver).solve(new EditDistance(a, b), 1, TimeUnit.MINUTES);
+      assertEquals("Wrong solution by " + solver, pr.getSolution(), res.get());
+    }
+  }
+
+  @Test
+  public void testDeadline() throws Exception {
+    final String a = Util.randomString(2000);
+    final String b = Util.randomString(2000);
+    final DynProgProblem<Integer> pr = new EditDistance(a, b);
+    new RowFill().solve(pr);
+
+    for ( final DynProgSolver solver : dfSolvers ) {
+      final DynProgProblem<Integer> ps = new EditDistance(a, b);
+      final CompletableFuture<Integer> res = new AsyncSolver(solver).solve(ps, 1, TimeUnit.MILLISECONDS);
+
+      try {
+        res.join();
+        fail("Deadline ignored by " + solver);
+      }
+      catch ( CompletionException e ) {
+        assertTrue("Unexpected failure of " + solver, e.getCause() instanceof TimeoutException);
+      }
+      awaitStopped(solver);
+
+      // The partial table has to be reusable
+      solver.solve(ps);
+      assertTrue("No solution by " + solver + " after deadline", ps.isSolved());
+      assertEquals("Wrong solution by " + solver + " after deadline", pr.getSolution(), ps.getSolution());
+    }
+  }
+
+  @Test
+  public void testCancel() throws Exception {
+    final int[] numbers = Util.randomArray(2000);
+    final DynProgProblem<Integer> pr = new RsDummy(2000, numbers);
+    new RowFill().solve(pr);
+
+    final DynProgSolver solver = new RowSplit(p, 10);
+    final DynProgProblem<Integer> ps = new RsDummy(2000, numbers);
+    final CompletableFuture<Integer> res = new AsyncSolver(solver).solve(ps);
+
+    assertTrue("Could not cancel", res.cancel(true));
+    try {
+      res.join();
+      fail("Cancellation ignored by " + solver);
+    }
+    catch ( CancellationException e ) {}
+    awaitStopped(solver);
+
+    solver.solve(ps);
+    assertEquals("Wrong solution by " + solver + " after cancellation", pr.getSolution(), ps.getSolution());
+  }
+
+  @Test
+  public void testQuiescentAfterCancel() throws Exception {
+    final DynProgSolver[] solvers = new DynProgSolver[] { new RowSplit(p, 10), new TileFlow(p, 10), new RowFill() };
+
+    for ( final DynProgSolver solver : solvers ) {
+      final RsDummy ps = new RsDummy(3000, Util.randomArray(2000));
+      final CompletableFuture<Integer> res = new AsyncSolver(solver).solve(ps);
+      Thread.sleep(5);
+
+      assertTrue("Could not cancel", res.cancel(true));
+      try {
+        res.join();
+      }
+      catch ( CancellationException e ) {}
+      assertTrue(res.isDone());
+
+      // No worker may write once the future is done
+      final int[][] before = new int[3000][];
+      for ( int i=0; i<before.length; i++ ) {
+        before[i] = ps.getRow(i);
+      }
+      Thread.sleep(50);
+      for ( int i=0; i<before.length; i++ ) {
+        assertArrayEquals("Row " + i + " changed after " + solver + " was cancelled", before[i], ps.getRow(i));
+      }
+    }
+  }
+
+  /**
+   * Waits until the background thread running {@code solver} has terminated.
+   */
+  private static void awaitStopped(final DynProgSolver solver) throws InterruptedException {
+    final long deadline = System.currentTimeMillis() + 10000;
+    boolean running = true;
+
+    while ( running ) {
+      running = false;
+      for ( final Thread t : Thread.getAllStackTraces().keySet() ) {
+        running = running || (t.getName().equals(solver + ".Async") && t.isAlive());
+      }
+
+      assertTrue(solver + " did not stop", System.currentTimeMillis() < deadline);
+      Thread.sleep(10);
+    }
+  }
+}
@@ -0,0 +1,319 @@
+/*
+ * This file is part of Parallel Dynamic Programming Implementation Prototype (PDPIP).
+ *
+ * PDPIP is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDPIP is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDPIP.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unikl.reitzig.paralleldynprog.prototypes;
+
+import de.unikl.reitzig.paralleldynprog.prototypes.corpus.Corpus;
+import de.unikl.reitzig.paralleldynprog.prototypes.problems.EditDistance;
+import de.unikl.reitzig.paralleldynprog.prototypes.problems.RsDummy;
+import de.unikl.reitzig.paralleldynprog.prototypes.solvers.*;
+import vanilla.java.affinity.AffinityLock;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Fixed performance suite for {@code ant perf}. Solves the same seeded inputs with every
+ * solver and compares median running times against a baseline file. A configuration counts
+ * as regressed if it got slower by more than the relative tolerance <em>and</em> by more than
+ * three times the combined noise (median absolute deviations) of both measurements.
+ * <p/>
+ * If there is no baseline yet, or an update is requested, the measurements become the new
+ * baseline. Baselines are only meaningful on the machine they were recorded on. They record
+ * the number of workers, which is part of every solver's name; the suite refuses to compare
+ * against a baseline recorded with a different number, one without measurements, or one that
+ * lacks some of the current configurations.
+ *
+ * @author agent, 10.2026
+ */
+public class PerfSuite {
+  static final long SEED = 20121019L;
+  static final int[] SIZES = new int[] { 500, 1000, 2000 };
+  static final int WARMUP = 2;
+  static final int RUNS = 7;
+  static final double TOLERANCE = 0.10;
+  static final String WORKERS = "# workers";
+
+  /**
+   * Median running time and its noise of one solver on one size, in microseconds.
+   */
+  static final class Result {
+    final String key;
+    final long median;
+    final long mad;
+
+    Result(final String key, final long median, final long mad) {
+      this.key = key;
+      this.median = median;
+      this.mad = mad;
+    }
+
+    /**
+     * @param times Measured running times; is sorted.
+     */
+    static Result of(final String key, final long[] times) {
+      Arrays.sort(times);
+      final long median = times[times.length / 2];
+      final long[] dev = new long[times.length];
+      for ( int i=0; i<times.length; i++ ) {
+        dev[i] = Math.abs(times[i] - median);
+      }
+      Arrays.sort(dev);
+      return new Result(key, median, dev[dev.length / 2]);
+    }
+  }
+
+  /**
+   * @return {@code true} iff {@code current} is significantly slower than {@code base}.
+   */
+  static boolean regressed(final Result base, final Result current, final double tolerance) {
+    // 1.4826 MAD estimates the standard deviation of normally distributed noise
+    final double noise = 3 * 1.4826 * (base.mad + current.mad);
+    return current.median - base.median > Math.max(tolerance * base.median, noise);
+  }
+
+  /**
+   * @return {@code "new"}, {@code "REGRESSION"}, {@code "faster"} or {@code "ok"}
+   */
+  static String verdict(final Result base, final Result current, final double tolerance) {
+    if ( base == null ) {
+      return "new";
+    }
+    else if ( regressed(base, current, tolerance) ) {
+      return "REGRESSION";
+    }
+    else if ( regressed(current, base, tolerance) ) {
+      return "faster";
+    }
+    else {
+      return "ok";
+    }
+  }
+
+  private static long[] time(final DynProgSolver solver, final DynProgProblem<?> problem) {
+    for ( int i=0; i<WARMUP; i++ ) {
+      solver.solve(problem.clone());
+    }
+
+    final long[] res = new long[RUNS];
+    for ( int i=0; i<RUNS; i++ ) {
+      final DynProgProblem<?> p = problem.clone();
+      System.gc();
+      final long start = System.nanoTime();
+      solver.solve(p);
+      res[i] = (System.nanoTime() - start) / 1000;
+      if ( !p.isSolved() ) {
+        throw new IllegalStateException(solver + " did not solve " + problem);
+      }
+    }
+    return res;
+  }
+
+  /**
+   * Runs the suite.
+   * @param corpus Source of inputs
+   * @param p Number of workers for parallel solvers
+   * @return Results in a fixed order
+   */
+  static List<Result> measure(final Corpus corpus, final int p) throws IOException {
+    final DynProgSolver[] df = new DynProgSolver[] {
+      new RowFill(), new BlockCheck(p, -1), new BlockCheckSleep(p, -1), new BlockCheckWait(p, -1),
+      new ColumnBlock(p, -1), new AspectAware(p, -1), new TileFlow(p), new QuadrantSplit(p)
+    };
+    final DynProgSolver[] rs = new DynProgSolver[] {
+      new RowFill(), new RowSplit(p), new TrapezoidSplit(p, -1), new RowSplitNeighbours(p)
+    };
+
+    final List<Result> res = new ArrayList<Result>();
+    for ( final int n : SIZES ) {
+      corpus.generate(Corpus.Kind.STRINGS, new int[] { n, n }, 1, p);
+      corpus.generate(Corpus.Kind.ARRAYS, new int[] { n }, 1, p);
+      final String[] s = corpus.strings(new int[] { n, n }, 0);
+      final int[] a = corpus.arrays(new int[] { n }, 0)[0];
+
+      for ( final DynProgSolver solver : df ) {
+        res.add(Result.of("DF\t" + solver + "\t" + n, time(solver, new EditDistance(s[0], s[1]))));
+      }
+      for ( final DynProgSolver solver : rs ) {
+        res.add(Result.of("RS\t" + solver + "\t" + n, time(solver, new RsDummy(n, a))));
+      }
+      System.out.println("Size " + n + " done.");
+    }
+    return res;
+  }
+
+  /**
+   * Measurements recorded earlier.
+   */
+  static final class Baseline {
+    /** Number of workers of the parallel solvers; {@code -1} if not recorded */
+    final int workers;
+    final Map<String, Result> results;
+
+    Baseline(final int workers, final Map<String, Result> results) {
+      this.workers = workers;
+      this.results = results;
+    }
+  }
+
+  static Baseline readBaseline(final File file) throws IOException {
+    int workers = -1;
+    final Map<String, Result> res = new LinkedHashMap<String, Result>();
+    final BufferedReader in = new BufferedReader(new FileReader(file));
+    try {
+      String line;
+      while ( (line = in.readLine()) != null ) {
+        final String[] f = line.split("\t");
+        if ( f.length == 2 && WORKERS.equals(f[0]) ) {
+          workers = Integer.parseInt(f[1]);
+        }
+        else if ( f.length == 5 && !line.startsWith("#") ) {
+          final String key = f[0] + "\t" + f[1] + "\t" + f[2];
+          res.put(key, new Result(key, Long.parseLong(f[3]), Long.parseLong(f[4])));
+        }
+      }
+    }
+    finally {
+      in.close();
+    }
+    return new Baseline(workers, res);
+  }
+
+  static void writeBaseline(final File file, final int workers, final List<Result> results) throws IOException {
+    final PrintWriter out = new PrintWriter(new FileWriter(file));
+    out.println(WORKERS + "\t" + workers);
+    out.println("# case\tsolver\tsize\tmedian [us]\tMAD [us]");
+    for ( final Result r : results ) {
+      out.println(r.key + "\t" + r.median + "\t" + r.mad);
+    }
+    out.close();
+  }
+
+  /**
+   * @return Keys of {@code results} that {@code baseline} has no measurement for
+   */
+  static List<String> missing(final Map<String, Result> baseline, final List<Result> results) {
+    final List<String> res = new ArrayList<String>();
+    for ( final Result r : results ) {
+      if ( !baseline.containsKey(r.key) ) {
+        res.add(r.key);
+      }
+    }
+    return res;
+  }
+
+  /**
+   * Prints {@code message} and ends the suite with a failure.
+   */
+  private static void fail(final String message) {
+    System.err.println(message);
+    System.exit(1);
+  }
+
+  /**
+   * Writes a per-solver comparison.
+   * @return Number of regressions
+   */
+  static int report(final Map<String, Result> baseline, final List<Result> results, final double tolerance,
+                    final PrintWriter out) {
+    int regressions = 0;
+    out.printf("%-4s %-28s %8s %12s %12s %8s  %s%n", "case", "solver", "size", "base [us]", "now [us]", "change", "verdict");
+    for ( final Result r : results ) {
+      final Result b = baseline.get(r.key);
+      final String[] f = r.key.split("\t");
+      final String v = verdict(b, r, tolerance);
+      out.printf("%-4s %-28s %8s %12s %12d %8s  %s%n", f[0], f[1], f[2], b != null ? "" + b.median : "-", r.median,
+                 b != null ? String.format("%+.1f%%", 100.0 * (r.median - b.median) / b.median) : "-", v);
+      if ( "REGRESSION".equals(v) ) {
+        regressions++;
+      }
+    }
+    out.flush();
+    return regressions;
+  }
+
+  /**
+   * @param args Baseline file, report file, corpus directory and, optionally, {@code true} to
+   *             replace the baseline. The relative tolerance can be set with system property
+   *             {@code perf.tolerance}, the number of workers with {@code perf.workers}; it
+   *             defaults to the baseline's, or the number of processors clamped to {@code [2,4]}
+   *             if a new baseline is recorded.
+   */
+  public static void main(final String[] args) throws IOException {
+    Logger.getLogger(AffinityLock.class.getName()).setLevel(Level.SEVERE);
+
+    final File baselineFile = new File(args[0]);
+    final File reportFile = new File(args[1]);
+    final Corpus corpus = new Corpus(new File(args[2]), SEED);
+    final boolean update = args.length > 3 && Boolean.parseBoolean(args[3]);
+    final double tolerance = Double.parseDouble(System.getProperty("perf.tolerance", "" + TOLERANCE));
+
+    final Baseline baseline = baselineFile.exists() && !update ? readBaseline(baselineFile)
+                                                               : new Baseline(-1, new LinkedHashMap<String, Result>());
+    final boolean record = !baselineFile.exists() || update;
+    final int p = Integer.getInteger("perf.workers", baseline.workers > 0
+                                                     ? baseline.workers
+                                                     : Math.min(4, Math.max(2, Runtime.getRuntime().availableProcessors())));
+
+    if ( !record && baseline.results.isEmpty() ) {
+      fail(baselineFile + " contains no measurements; record a baseline with -Dperf.update=true");
+    }
+    else if ( !record && baseline.workers != p ) {
+      fail(baselineFile + " was recorded with " + (baseline.workers > 0 ? "p = " + baseline.workers : "an unknown p")
+           + ", not p = " + p + "; record a new baseline with -Dperf.update=true");
+    }
+
+    System.out.println("Running performance suite with p = " + p);
+    final List<Result> results = measure(corpus, p);
+
+    final PrintWriter report = new PrintWriter(new FileWriter(reportFile));
+    final int regressions = report(baseline.results, results, tolerance, report);
+    report.close();
+    report(baseline.results, results, tolerance, new PrintWriter(System.out));
+
+    if ( record ) {
+      writeBaseline(baselineFile, p, results);
+      System.out.println("Recorded new baseline in " + baselineFile);
+      return;
+    }
+
+    final List<String> missing = missing(baseline.results, results);
+    if ( !missing.isEmpty() ) {
+      System.err.println(missing.size() + " configuration(s) not in " + baselineFile + ":");
+      for ( final String key : missing ) {
+        System.err.println("  " + key.replace('\t', ' '));
+      }
+    }
+    if ( regressions > 0 ) {
+      System.err.println(regressions + " significant regression(s); see " + reportFile);
+    }
+    if ( !missing.isEmpty() || regressions > 0 ) {
+      fail("Performance suite failed" + (missing.isEmpty() ? "" : "; record a new baseline with -Dperf.update=true"));
+    }
+  }
+}
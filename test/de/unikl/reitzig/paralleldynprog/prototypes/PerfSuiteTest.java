@@ -0,0 +1,77 @@
+/*
+ * This file is part of Parallel Dynamic Programming Implementation Prototype (PDPIP).
+ *
+ * PDPIP is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDPIP is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDPIP.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unikl.reitzig.paralleldynprog.prototypes;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent, 10.2026
+ */
+public class PerfSuiteTest {
+  @Test
+  public void testVerdict() {
+    final PerfSuite.Result base = PerfSuite.Result.of("x", new long[] { 1000, 1010, 990, 1005, 995 });
+    assertEquals(1000, base.median);
+    assertEquals(5, base.mad);
+
+    assertEquals("new", PerfSuite.verdict(null, base, 0.1));
+    assertEquals("ok", PerfSuite.verdict(base, new PerfSuite.Result("x", 1090, 5), 0.1));
+    assertEquals("REGRESSION", PerfSuite.verdict(base, new PerfSuite.Result("x", 1200, 5), 0.1));
+    assertEquals("faster", PerfSuite.verdict(base, new PerfSuite.Result("x", 800, 5), 0.1));
+
+    // Noisy measurements need larger differences
+    assertEquals("ok", PerfSuite.verdict(base, new PerfSuite.Result("x", 1200, 100), 0.1));
+  }
+
+  @Test
+  public void testBaseline() throws Exception {
+    final File file = File.createTempFile("perf-baseline", ".tsv");
+    try {
+      final List<PerfSuite.Result> results = Arrays.asList(new PerfSuite.Result("DF\tRowFill\t500", 1000, 5),
+                                                           new PerfSuite.Result("RS\tRowSplit[3]\t500", 800, 7));
+      PerfSuite.writeBaseline(file, 3, results);
+      final PerfSuite.Baseline baseline = PerfSuite.readBaseline(file);
+      assertEquals(3, baseline.workers);
+      assertEquals(2, baseline.results.size());
+      assertEquals(800, baseline.results.get("RS\tRowSplit[3]\t500").median);
+      assertEquals(7, baseline.results.get("RS\tRowSplit[3]\t500").mad);
+      assertTrue(PerfSuite.missing(baseline.results, results).isEmpty());
+
+      final List<PerfSuite.Result> other = Arrays.asList(new PerfSuite.Result("RS\tRowSplit[4]\t500", 800, 7));
+      assertEquals(Arrays.asList("RS\tRowSplit[4]\t500"), PerfSuite.missing(baseline.results, other));
+
+      // Header only, as left behind by an aborted run
+      final FileWriter out = new FileWriter(file);
+      out.write("# case\tsolver\tsize\tmedian [us]\tMAD [us]\n");
+      out.close();
+      final PerfSuite.Baseline empty = PerfSuite.readBaseline(file);
+      assertEquals(-1, empty.workers);
+      assertTrue(empty.results.isEmpty());
+    }
+    finally {
+      assertTrue(file.delete());
+    }
+  }
+}
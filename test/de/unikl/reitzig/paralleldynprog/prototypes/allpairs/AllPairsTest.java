@@ -0,0 +1,100 @@
+/*
+ * This file is part of Parallel Dynamic Programming Implementation Prototype (PDPIP).
+ *
+ * PDPIP is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDPIP is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDPIP.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unikl.reitzig.paralleldynprog.prototypes.allpairs;
+
+import de.unikl.reitzig.paralleldynprog.prototypes.DynProgProblem;
+import de.unikl.reitzig.paralleldynprog.prototypes.Util;
+import de.unikl.reitzig.paralleldynprog.prototypes.problems.EditDistance;
+import de.unikl.reitzig.paralleldynprog.prototypes.solvers.RowFill;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.InterruptedIOException;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent, 10.2026
+ */
+public class AllPairsTest {
+  @Test
+  public void testCompute() throws Exception {
+    final AllPairs[] engines = new AllPairs[] {
+      new AllPairs(1, -1),
+      new AllPairs(3, 4),
+      new AllPairs(4, 7)
+    };
+
+    final File target = File.createTempFile("allpairs", ".bin");
+    target.deleteOnExit();
+
+    for ( final AllPairs engine : engines ) {
+      for ( final int n : new int[] { 1, 2, 23 } ) {
+        final String[] strings = new String[n];
+        for ( int i=0; i<n; i++ ) {
+          strings[i] = Util.randomString(1, 60);
+        }
+
+        engine.compute(strings, target);
+        final int[][] res = AllPairs.read(target);
+        assertEquals("Wrong matrix size by " + engine, n, res.length);
+
+        for ( int i=0; i<n; i++ ) {
+          for ( int j=i+1; j<n; j++ ) {
+            final DynProgProblem<Integer> pr = new EditDistance(strings[i], strings[j]);
+            new RowFill().solve(pr);
+            assertEquals("Wrong distance by " + engine, pr.getSolution().intValue(), res[i][j]);
+            assertEquals("Asymmetric matrix by " + engine, res[i][j], res[j][i]);
+          }
+        }
+      }
+    }
+
+    target.delete();
+  }
+
+  @Test
+  public void testInterrupted() throws Exception {
+    final File target = File.createTempFile("allpairs", ".bin");
+    target.deleteOnExit();
+    new AllPairs(2, 4).compute(new String[] { "abc", "abd" }, target);
+
+    final String[] strings = new String[200];
+    for ( int i=0; i<strings.length; i++ ) {
+      strings[i] = Util.randomString(500);
+    }
+
+    Thread.currentThread().interrupt();
+    try {
+      new AllPairs(2, 4).compute(strings, target);
+      fail("Interrupt ignored");
+    }
+    catch ( InterruptedIOException e ) {
+      assertTrue("Interrupt flag cleared", Thread.currentThread().isInterrupted());
+    }
+    finally {
+      Thread.interrupted();
+    }
+
+    assertFalse("Temporary file left behind", new File(target.getPath() + ".tmp").exists());
+    final int[][] res = AllPairs.read(target);
+    assertEquals("Old result damaged", 2, res.length);
+    assertEquals("Old result damaged", 1, res[0][1]);
+    target.delete();
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ * This file is part of Parallel Dynamic Programming Implementation Prototype (PDPIP).
+ *
+ * PDPIP is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDPIP is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDPIP.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unikl.reitzig.paralleldynprog.prototypes.analysis;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.file.Files;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent, 10.2026
+ */
+public class ScalingReportTest {
+  private static final int[] SIZES = new int[] { 1000, 2000, 4000, 8000 };
+
+  private static void writeRaw(final File dir, final String name, final int n, final long... t) throws IOException {
+    final FileWriter w = new FileWriter(new File(dir, name), true);
+    w.write("" + n);
+    for ( final long x : t ) {
+      w.write("," + x);
+    }
+    w.write("\n");
+    w.close();
+  }
+
+  @Test
+  public void testReport() throws Exception {
+    final File raw = Files.createTempDirectory("raw").toFile();
+    final ScalingReport.Model truth = new ScalingReport.Model("Dummy", 1e-6, 4e-5, 2e-3);
+
+    for ( final int n : SIZES ) {
+      // Extremes are dropped, so only the middle values count
+      writeRaw(raw, "RowFill[1]", n, 1, 2 * n, 2 * n, 99 * n);
+      for ( final int p : new int[] { 1, 2, 4 } ) {
+        for ( final int k : new int[] { -1, 100 } ) {
+          final ScalingReport.Config c = new ScalingReport.Config("Dummy", p, k, ScalingReport.ABSENT);
+          final long t = Math.round(truth.predict(c, n));
+          writeRaw(raw, c.toString(), n, 0, t, t, t + 1000);
+        }
+      }
+    }
+    writeRaw(raw, "notes.txt", 1, 1);
+
+    final ScalingReport report = ScalingReport.read(raw);
+    assertEquals(7, report.configs().size());
+
+    final ScalingReport.Config c = ScalingReport.Config.parse("Dummy[4,100]");
+    assertEquals(new ScalingReport.Config("Dummy", 4, 100, ScalingReport.ABSENT), c);
+    assertEquals(Math.round(truth.predict(c, 2000)), report.time(c, 2000), 1e-9);
+    assertEquals(4000.0, report.time(ScalingReport.Config.parse("RowFill[1]"), 2000), 1e-9);
+    assertEquals(report.time(c.withP(1), 2000) / report.time(c, 2000), report.speedup(c, 2000), 1e-9);
+    assertEquals(report.speedup(c, 2000) / 4, report.efficiency(c, 2000), 1e-9);
+    assertEquals(4000.0 / report.time(c, 2000), report.realSpeedup(c, 2000), 1e-9);
+
+    final ScalingReport.Model fitted = report.fit("Dummy");
+    assertEquals(truth.serial, fitted.serial, truth.serial * 0.05);
+    assertEquals(truth.parallel, fitted.parallel, truth.parallel * 0.05);
+    assertEquals(truth.sync, fitted.sync, truth.sync * 0.05);
+    assertNull("RowFill can not be fitted", report.fit("RowFill"));
+
+    // Synchronisation costs favour p blocks per row and larger p for unseen sizes
+    final ScalingReport.Config best = report.best("Dummy", 16000, 8);
+    assertEquals(-1, best.k1);
+    assertEquals(8, best.p);
+
+    final StringWriter out = new StringWriter();
+    report.write(new PrintWriter(out));
+    assertTrue(out.toString().contains("Dummy[4,100],2000,"));
+
+    for ( final File f : raw.listFiles() ) {
+      f.delete();
+    }
+    raw.delete();
+  }
+
+  @Test
+  public void testSolve() {
+    final double[] x = ScalingReport.solve(new double[][] { { 0, 2, 1, 5 }, { 1, 0, 0, 1 }, { 0, 0, 3, 3 } });
+    assertArrayEquals(new double[] { 1, 2, 1 }, x, 1e-12);
+    assertNull(ScalingReport.solve(new double[][] { { 1, 1, 0, 1 }, { 1, 1, 0, 1 }, { 0, 0, 1, 1 } }));
+  }
+}
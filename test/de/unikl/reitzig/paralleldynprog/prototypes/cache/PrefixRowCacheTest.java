@@ -0,0 +1,98 @@
+/*
+ * This file is part of Parallel Dynamic Programming Implementation Prototype (PDPIP).
+ *
+ * PDPIP is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDPIP is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDPIP.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unikl.reitzig.paralleldynprog.prototypes.cache;
+
+import de.unikl.reitzig.paralleldynprog.prototypes.DynProgProblem;
+import de.unikl.reitzig.paralleldynprog.prototypes.Util;
+import de.unikl.reitzig.paralleldynprog.prototypes.problems.EditDistance;
+import de.unikl.reitzig.paralleldynprog.prototypes.solvers.RowFill;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent, 10.2026
+ */
+public class PrefixRowCacheTest {
+  private static int expected(final String a, final String b) {
+    final DynProgProblem<Integer> pr = new EditDistance(a, b);
+    new RowFill().solve(pr);
+    return pr.getSolution();
+  }
+
+  /**
+   * @return {@code n} random candidates that share a few random prefixes
+   */
+  private static String[] candidates(final int n) {
+    final String[] prefixes = new String[] { Util.randomString(1, 30), Util.randomString(1, 30), Util.randomString(1, 30) };
+    final String[] res = new String[n];
+    for ( int i=0; i<n; i++ ) {
+      res[i] = prefixes[i % prefixes.length] + Util.randomString(0, 10);
+    }
+    return res;
+  }
+
+  @Test
+  public void testDistance() {
+    final String reference = Util.randomString(1, 50);
+    final PrefixRowCache cache = new PrefixRowCache(reference, Long.MAX_VALUE);
+
+    for ( final String c : candidates(60) ) {
+      assertEquals("Wrong distance by " + cache, expected(c, reference), cache.distance(c));
+    }
+    assertEquals("Rows computed but not cached", cache.getComputedRows(), cache.getCachedRows());
+
+    // Repeated queries are answered from the cache
+    final long computed = cache.getComputedRows();
+    for ( final String c : candidates(10) ) {
+      cache.distance(c.substring(0, 1));
+    }
+    assertEquals("Computed rows for cached prefixes", computed, cache.getComputedRows());
+  }
+
+  @Test
+  public void testDistances() {
+    final String reference = Util.randomString(1, 50);
+    final PrefixRowCache cache = new PrefixRowCache(reference, Long.MAX_VALUE);
+    final String[] cands = candidates(100);
+
+    final int[] res = cache.distances(cands);
+    long lengths = 0;
+    for ( int i=0; i<cands.length; i++ ) {
+      assertEquals("Wrong distance by " + cache, expected(cands[i], reference), res[i]);
+      lengths += cands[i].length() - 1;
+    }
+    assertTrue("No rows shared", cache.getComputedRows() < lengths);
+  }
+
+  @Test
+  public void testEviction() {
+    final String reference = Util.randomString(5, 50);
+    final PrefixRowCache cache = new PrefixRowCache(reference, 1);
+    final PrefixRowCache small = new PrefixRowCache(reference, 10 * new PrefixRowCache(reference, 1).rowBytes());
+
+    for ( final String c : candidates(60) ) {
+      final int e = expected(c, reference);
+      assertEquals("Wrong distance by " + cache, e, cache.distance(c));
+      assertEquals("Wrong distance by " + small, e, small.distance(c));
+      assertTrue("Budget exceeded by " + cache, cache.getCachedRows() <= 1);
+      assertTrue("Budget exceeded by " + small, small.getCachedRows() <= 10);
+    }
+    assertTrue("Nothing evicted", small.getEvictedRows() > 0);
+  }
+}
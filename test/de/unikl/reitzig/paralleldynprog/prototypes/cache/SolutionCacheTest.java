@@ -0,0 +1,207 @@
+/*
+ * This file is part of Parallel Dynamic Programming Implementation Prototype (PDPIP).
+ *
+ * PDPIP is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDPIP is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDPIP.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unikl.reitzig.paralleldynprog.prototypes.cache;
+
+import de.unikl.reitzig.paralleldynprog.prototypes.DynProgProblem;
+import de.unikl.reitzig.paralleldynprog.prototypes.DynProgSolver;
+import de.unikl.reitzig.paralleldynprog.prototypes.Util;
+import de.unikl.reitzig.paralleldynprog.prototypes.problems.EditDistance;
+import de.unikl.reitzig.paralleldynprog.prototypes.problems.RsDummy;
+import de.unikl.reitzig.paralleldynprog.prototypes.solvers.RowFill;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent, 10.2026
+ */
+public class SolutionCacheTest {
+  /**
+   * Counts calls and, optionally, blocks them until released.
+   */
+  private static class CountingSolver implements DynProgSolver {
+    final AtomicInteger calls = new AtomicInteger(0);
+    final CountDownLatch entered = new CountDownLatch(1);
+    final CountDownLatch release;
+
+    CountingSolver(final boolean block) {
+      release = new CountDownLatch(block ? 1 : 0);
+    }
+
+    @Override
+    public void solve(final DynProgProblem<?> problem) {
+      calls.incrementAndGet();
+      entered.countDown();
+      try {
+        release.await();
+      }
+      catch ( InterruptedException e ) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+      new RowFill().solve(problem);
+    }
+  }
+
+  @Test
+  public void testInputKey() {
+    final String a = Util.randomString(5, 20);
+    final int[] numbers = Util.randomArray(10);
+
+    assertEquals(new EditDistance(a, "xyz").getInputKey(), new EditDistance(new String(a), "xyz").getInputKey());
+    assertEquals(new EditDistance(a, "xyz").getInputKey().hashCode(), new EditDistance(new String(a), "xyz").getInputKey().hashCode());
+    assertFalse(new EditDistance(a, "xyz").getInputKey().equals(new EditDistance("xyz", a).getInputKey()));
+    assertEquals(new RsDummy(5, numbers).getInputKey(), new RsDummy(5, numbers.clone()).getInputKey());
+    assertFalse(new RsDummy(5, numbers).getInputKey().equals(new RsDummy(6, numbers).getInputKey()));
+  }
+
+  @Test
+  public void testSolve() {
+    final CountingSolver solver = new CountingSolver(false);
+    final SolutionCache cache = new SolutionCache(solver, 3);
+
+    final List<DynProgProblem<Integer>> problems = new ArrayList<DynProgProblem<Integer>>();
+    for ( int i=0; i<4; i++ ) {
+      problems.add(new EditDistance(Util.randomString(5, 50), Util.randomString(5, 50)));
+    }
+
+    for ( final DynProgProblem<Integer> pr : problems.subList(0, 3) ) {
+      final DynProgProblem<Integer> ref = pr.clone();
+      new RowFill().solve(ref);
+      assertEquals("Wrong solution by " + cache, ref.getSolution(), cache.solve(pr));
+      assertEquals("Wrong cached solution by " + cache, ref.getSolution(), cache.solve(pr.clone()));
+    }
+    assertEquals(3, solver.calls.get());
+    assertEquals(3, cache.getMisses());
+    assertEquals(3, cache.getHits());
+
+    // Touch first problem, so that the second one is evicted
+    cache.solve(problems.get(0).clone());
+    cache.solve(problems.get(3));
+    assertEquals(1, cache.getEvictions());
+    assertEquals(3, cache.size());
+
+    cache.solve(problems.get(0).clone());
+    assertEquals(4, solver.calls.get());
+    cache.solve(problems.get(1).clone());
+    assertEquals(5, solver.calls.get());
+  }
+
+  @Test
+  public void testSingleFlight() throws Exception {
+    final CountingSolver solver = new CountingSolver(true);
+    final SolutionCache cache = new SolutionCache(solver, 10);
+    final RsDummy problem = new RsDummy(50, Util.randomArray(50));
+    final int waiters = 4;
+
+    final List<Integer> results = new ArrayList<Integer>();
+    final List<Thread> threads = new ArrayList<Thread>();
+    for ( int i=0; i<=waiters; i++ ) {
+      threads.add(new Thread() {
+        @Override
+        public void run() {
+          final Integer res = cache.solve(problem.clone());
+          synchronized ( results ) {
+            results.add(res);
+          }
+        }
+      });
+    }
+
+    threads.get(0).start();
+    solver.entered.await();
+    for ( final Thread t : threads.subList(1, threads.size()) ) {
+      t.start();
+    }
+    while ( cache.getShared() < waiters ) {
+      Thread.sleep(1);
+    }
+    solver.release.countDown();
+    for ( final Thread t : threads ) {
+      t.join();
+    }
+
+    final RsDummy ref = problem.clone();
+    new RowFill().solve(ref);
+    assertEquals("Solved more than once", 1, solver.calls.get());
+    assertEquals(waiters + 1, results.size());
+    for ( final Integer res : results ) {
+      assertEquals("Wrong shared solution", ref.getSolution(), res);
+    }
+  }
+
+  @Test
+  public void testCancelledOwner() throws Exception {
+    final CountingSolver solver = new CountingSolver(true);
+    final SolutionCache cache = new SolutionCache(solver, 10);
+    final RsDummy problem = new RsDummy(50, Util.randomArray(50));
+
+    final AtomicBoolean ownerCancelled = new AtomicBoolean(false);
+    final AtomicBoolean ownerInterrupted = new AtomicBoolean(false);
+    final Thread owner = new Thread() {
+      @Override
+      public void run() {
+        try {
+          cache.solve(problem.clone());
+        }
+        catch ( CancellationException e ) {
+          ownerCancelled.set(true);
+          ownerInterrupted.set(Thread.currentThread().isInterrupted());
+        }
+      }
+    };
+
+    final AtomicBoolean waiterCancelled = new AtomicBoolean(false);
+    final AtomicBoolean waiterInterrupted = new AtomicBoolean(true);
+    final Thread waiter = new Thread() {
+      @Override
+      public void run() {
+        try {
+          cache.solve(problem.clone());
+        }
+        catch ( CancellationException e ) {
+          waiterCancelled.set(true);
+          waiterInterrupted.set(Thread.currentThread().isInterrupted());
+        }
+      }
+    };
+
+    owner.start();
+    solver.entered.await();
+    waiter.start();
+    while ( cache.getShared() < 1 ) {
+      Thread.sleep(1);
+    }
+    owner.interrupt();
+    owner.join();
+    waiter.join();
+
+    assertTrue("Owner not cancelled", ownerCancelled.get());
+    assertTrue("Owner's interrupt flag cleared", ownerInterrupted.get());
+    assertTrue("Waiter not cancelled", waiterCancelled.get());
+    assertFalse("Waiter's interrupt flag set", waiterInterrupted.get());
+    assertEquals("Cancelled computation cached", 0, cache.size());
+  }
+}
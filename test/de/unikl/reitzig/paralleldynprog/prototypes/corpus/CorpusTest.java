@@ -0,0 +1,110 @@
+/*
+ * This file is part of Parallel Dynamic Programming Implementation Prototype (PDPIP).
+ *
+ * PDPIP is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDPIP is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDPIP.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unikl.reitzig.paralleldynprog.prototypes.corpus;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent, 10.2026
+ */
+public class CorpusTest {
+  private static File tempDir() throws IOException {
+    final File res = Files.createTempDirectory("corpus").toFile();
+    res.deleteOnExit();
+    return res;
+  }
+
+  private static void delete(final File dir) {
+    for ( final File f : dir.listFiles() ) {
+      f.delete();
+    }
+    dir.delete();
+  }
+
+  @Test
+  public void testReproducible() throws Exception {
+    final File d1 = tempDir();
+    final File d2 = tempDir();
+    final Corpus c1 = new Corpus(d1, 42);
+    final Corpus c2 = new Corpus(d2, 42);
+    final int[] lengths = new int[] { 17, Corpus.CHUNK + 5 };
+
+    c1.generate(Corpus.Kind.STRINGS, lengths, 3, 1);
+    c2.generate(Corpus.Kind.STRINGS, lengths, 3, 3);
+    c1.generate(Corpus.Kind.ARRAYS, new int[] { 100 }, 2, 2);
+    c2.generate(Corpus.Kind.ARRAYS, new int[] { 100 }, 2, 1);
+
+    for ( int i=0; i<3; i++ ) {
+      assertArrayEquals("Inputs differ by thread count",
+                        Files.readAllBytes(c1.file(Corpus.Kind.STRINGS, lengths, i).toPath()),
+                        Files.readAllBytes(c2.file(Corpus.Kind.STRINGS, lengths, i).toPath()));
+
+      final String[] s = c1.strings(lengths, i);
+      assertEquals(2, s.length);
+      assertEquals(17, s[0].length());
+      assertEquals(Corpus.CHUNK + 5, s[1].length());
+      assertTrue("Invalid symbols", s[1].matches("[a-z]+"));
+    }
+    assertFalse("Inputs repeat", c1.strings(lengths, 0)[1].equals(c1.strings(lengths, 1)[1]));
+
+    for ( int i=0; i<2; i++ ) {
+      final int[] a = c1.arrays(new int[] { 100 }, i)[0];
+      assertArrayEquals("Inputs differ by thread count", a, c2.arrays(new int[] { 100 }, i)[0]);
+      for ( final int x : a ) {
+        assertTrue("Value out of range", -100 <= x && x < 100);
+      }
+    }
+
+    delete(d1);
+    delete(d2);
+  }
+
+  @Test
+  public void testSeeds() throws Exception {
+    final File dir = tempDir();
+    final int[] lengths = new int[] { 50, 50 };
+    new Corpus(dir, 1).generate(Corpus.Kind.STRINGS, lengths, 1, 2);
+    new Corpus(dir, 2).generate(Corpus.Kind.STRINGS, lengths, 1, 2);
+
+    assertFalse("Seed ignored", new Corpus(dir, 1).strings(lengths, 0)[0].equals(new Corpus(dir, 2).strings(lengths, 0)[0]));
+
+    // Existing inputs are kept
+    final File f = new Corpus(dir, 1).file(Corpus.Kind.STRINGS, lengths, 0);
+    final long modified = f.lastModified();
+    new Corpus(dir, 1).generate(Corpus.Kind.STRINGS, lengths, 1, 2);
+    assertEquals(modified, f.lastModified());
+
+    // Damaged inputs are rejected
+    assertTrue(new Corpus(dir, 2).file(Corpus.Kind.STRINGS, lengths, 0).renameTo(new Corpus(dir, 3).file(Corpus.Kind.STRINGS, lengths, 0)));
+    try {
+      new Corpus(dir, 3).strings(lengths, 0);
+      fail("Read input with wrong seed");
+    }
+    catch ( IOException e ) {
+      // expected
+    }
+
+    delete(dir);
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * This file is part of Parallel Dynamic Programming Implementation Prototype (PDPIP).
+ *
+ * PDPIP is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDPIP is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDPIP.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unikl.reitzig.paralleldynprog.prototypes.distributed;
+
+import de.unikl.reitzig.paralleldynprog.prototypes.DynProgProblem;
+import de.unikl.reitzig.paralleldynprog.prototypes.Util;
+import de.unikl.reitzig.paralleldynprog.prototypes.problems.EditDistance;
+import de.unikl.reitzig.paralleldynprog.prototypes.solvers.RowFill;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent, 10.2026
+ */
+public class ColumnProcessesTest {
+  @Test
+  public void testSolve() throws Exception {
+    final ColumnProcesses[] solvers = new ColumnProcesses[] {
+      new ColumnProcesses(3, 4),
+      new ColumnProcesses(2, -1),
+      new ColumnProcesses(1, 7)
+    };
+
+    for ( final ColumnProcesses solver : solvers ) {
+      for ( int i=0; i<2; i++ ) {
+        final String a = Util.randomString(5, 300);
+        final String b = Util.randomString(2, 300);
+
+        final DynProgProblem<Integer> pr = new EditDistance(a, b);
+        new RowFill().solve(pr);
+
+        assertEquals("Wrong solution by " + solver, pr.getSolution().intValue(), solver.solve(a, b));
+      }
+    }
+  }
+
+  @Test
+  public void testStripWorker() throws Exception {
+    // Single strip without neighbours is plain linear-space filling
+    for ( int i=0; i<100; i++ ) {
+      final String a = Util.randomString(5, 50);
+      final String b = Util.randomString(5, 50);
+
+      final DynProgProblem<Integer> pr = new EditDistance(a, b);
+      new RowFill().solve(pr);
+
+      assertEquals("Wrong strip result", pr.getSolution().intValue(), new StripWorker(0, 3, 0, a, b).fill(null, null));
+    }
+  }
+}
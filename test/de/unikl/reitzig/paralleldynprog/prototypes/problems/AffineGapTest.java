@@ -0,0 +1,145 @@
+/*
+ * This file is part of Parallel Dynamic Programming Implementation Prototype (PDPIP).
+ *
+ * PDPIP is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDPIP is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDPIP.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unikl.reitzig.paralleldynprog.prototypes.problems;
+
+import de.unikl.reitzig.paralleldynprog.prototypes.DynProgProblem;
+import de.unikl.reitzig.paralleldynprog.prototypes.DynProgSolver;
+import de.unikl.reitzig.paralleldynprog.prototypes.Util;
+import de.unikl.reitzig.paralleldynprog.prototypes.solvers.BlockCheck;
+import de.unikl.reitzig.paralleldynprog.prototypes.solvers.ColumnBlock;
+import de.unikl.reitzig.paralleldynprog.prototypes.solvers.QuadrantSplit;
+import de.unikl.reitzig.paralleldynprog.prototypes.solvers.RowFill;
+import de.unikl.reitzig.paralleldynprog.prototypes.solvers.TileFlow;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent, 10.2026
+ */
+public class AffineGapTest {
+  /**
+   * Minimum cost of aligning {@code a[i..]} and {@code b[j..]} by exhaustive search; {@code gap}
+   * is {@code 1} resp. {@code 2} if a gap in {@code b} resp. {@code a} is open.
+   */
+  private static int reference(final String a, final String b, final int i, final int j, final int gap,
+                               final int mismatch, final int open, final int extend) {
+    if ( i == a.length() && j == b.length() ) {
+      return 0;
+    }
+
+    int res = Integer.MAX_VALUE;
+    if ( i < a.length() && j < b.length() ) {
+      res = Math.min(res, (a.charAt(i) == b.charAt(j) ? 0 : mismatch) + reference(a, b, i+1, j+1, 0, mismatch, open, extend));
+    }
+    if ( i < a.length() ) {
+      res = Math.min(res, (gap == 1 ? 0 : open) + extend + reference(a, b, i+1, j, 1, mismatch, open, extend));
+    }
+    if ( j < b.length() ) {
+      res = Math.min(res, (gap == 2 ? 0 : open) + extend + reference(a, b, i, j+1, 2, mismatch, open, extend));
+    }
+    return res;
+  }
+
+  @Test
+  public void testCompute() {
+    final Random random = new Random();
+    final DynProgSolver solver = new RowFill();
+
+    for ( int i=0; i<200; i++ ) {
+      final String a = Util.randomString(random.nextInt(6));
+      final String b = Util.randomString(random.nextInt(6));
+      final int mismatch = random.nextInt(5);
+      final int open = random.nextInt(5);
+      final int extend = 1 + random.nextInt(3);
+
+      final AffineGap p = new AffineGap(a, b, mismatch, open, extend);
+      solver.solve(p);
+
+      assertTrue(p.isSolved());
+      assertEquals("Wrong cost for (" + a + ", " + b + ")",
+                   (Integer)reference(a, b, 0, 0, 0, mismatch, open, extend), p.getSolution());
+    }
+  }
+
+  @Test
+  public void testUnitCosts() {
+    for ( int i=0; i<50; i++ ) {
+      final String a = Util.randomString(1, 60);
+      final String b = Util.randomString(1, 60);
+
+      // EditDistance skips the first characters, see there
+      final EditDistance ed = new EditDistance("#" + a, "#" + b);
+      final AffineGap ag = new AffineGap(a, b, 1, 0, 1);
+      new RowFill().solve(ed);
+      new RowFill().solve(ag);
+
+      assertEquals(ed.getSolution(), ag.getSolution());
+    }
+  }
+
+  @Test
+  public void testSubstitutionMatrix() {
+    // Transitions are cheaper than transversions; one long gap beats two short ones.
+    final int[][] costs = {
+      //A  C  G  T
+      { 0, 3, 1, 3 },
+      { 3, 0, 3, 1 },
+      { 1, 3, 0, 3 },
+      { 3, 1, 3, 0 }
+    };
+    final AffineGap p = new AffineGap("ACGTTTTACG", "GCGACG", "ACGT", costs, 4, 1);
+    new RowFill().solve(p);
+
+    // A-G transition (1) plus one gap of length four (4 + 4)
+    assertEquals((Integer)9, p.getSolution());
+  }
+
+  @Test
+  public void testSolvers() {
+    final int p = Runtime.getRuntime().availableProcessors();
+    final DynProgSolver[] solvers = new DynProgSolver[] {
+      new QuadrantSplit(p), new BlockCheck(p, 7), new ColumnBlock(p, 9, 5), new TileFlow(p, 8)
+    };
+
+    for ( final DynProgSolver solver : solvers ) {
+      for ( int i=0; i<20; i++ ) {
+        final String a = Util.randomString(1, 100);
+        final String b = Util.randomString(1, 100);
+
+        final DynProgProblem<Integer> ps = new AffineGap(a, b, 2, 3, 1);
+        final DynProgProblem<Integer> pr = ps.clone();
+
+        assertFalse("Premature solution", ps.isSolved());
+
+        solver.solve(ps);
+        new RowFill().solve(pr);
+
+        assertTrue("No solution by " + solver, ps.isSolved());
+        assertEquals("Wrong solution by " + solver, pr.getSolution(), ps.getSolution());
+      }
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testForeignCharacter() {
+    new AffineGap("ACGU", "ACGT", "ACGT", new int[4][4], 1, 1);
+  }
+}
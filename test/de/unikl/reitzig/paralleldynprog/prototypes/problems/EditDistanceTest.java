@@ -0,0 +1,62 @@
+/*
+ * This file is part of Parallel Dynamic Programming Implementation Prototype (PDPIP).
+ *
+ * PDPIP is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDPIP is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDPIP.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unikl.reitzig.paralleldynprog.prototypes.problems;
+
+import de.unikl.reitzig.paralleldynprog.prototypes.Util;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent, 10.2026
+ */
+public class EditDistanceTest {
+  @Test
+  public void testComputeRange() {
+    final Random random = new Random();
+
+    for ( int i=0; i<200; i++ ) {
+      final String a = Util.randomString(1 + random.nextInt(30));
+      final String b = Util.randomString(1 + random.nextInt(40));
+
+      final EditDistance cells = new EditDistance(a, b);
+      final EditDistance pieces = new EditDistance(a, b);
+      final int[] dim = cells.getDimension();
+      final int[] param = new int[2];
+
+      for ( param[0]=0; param[0]<dim[0]; param[0]++ ) {
+        for ( param[1]=0; param[1]<dim[1]; param[1]++ ) {
+          cells.compute(param);
+        }
+
+        // Random split of the row into pieces, including empty ones
+        int from = 0;
+        while ( from < dim[1] ) {
+          final int to = Math.min(dim[1], from + random.nextInt(6));
+          pieces.computeRange(param[0], from, to);
+          from = to;
+        }
+      }
+
+      assertTrue("Not solved by pieces", pieces.isSolved());
+      assertEquals("Wrong solution by pieces", cells.getSolution(), pieces.getSolution());
+    }
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * This file is part of Parallel Dynamic Programming Implementation Prototype (PDPIP).
+ *
+ * PDPIP is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDPIP is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDPIP.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unikl.reitzig.paralleldynprog.prototypes.problems;
+
+import de.unikl.reitzig.paralleldynprog.prototypes.solvers.RowFill;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent, 10.2026
+ */
+public class KnapsackTest {
+  /**
+   * @return The best value over all subsets of items
+   */
+  static int reference(final int[] weights, final int[] values, final int capacity) {
+    int best = 0;
+    for ( int s=0; s < 1 << weights.length; s++ ) {
+      long weight = 0;
+      int value = 0;
+      for ( int i=0; i<weights.length; i++ ) {
+        if ( (s & (1 << i)) != 0 ) {
+          weight += weights[i];
+          value += values[i];
+        }
+      }
+      if ( weight <= capacity ) {
+        best = Math.max(best, value);
+      }
+    }
+    return best;
+  }
+
+  @Test
+  public void testSolve() {
+    final Random random = new Random();
+
+    for ( int t=0; t<200; t++ ) {
+      final int n = 1 + random.nextInt(10);
+      final int[] weights = new int[n];
+      final int[] values = new int[n];
+      for ( int i=0; i<n; i++ ) {
+        weights[i] = random.nextInt(30);
+        values[i] = random.nextInt(1000);
+      }
+      final int capacity = random.nextInt(100);
+
+      final Knapsack p = new Knapsack(weights, values, capacity);
+      assertFalse("Premature solution", p.isSolved());
+      new RowFill().solve(p);
+
+      assertTrue(p.isSolved());
+      assertEquals((Integer)reference(weights, values, capacity), p.getSolution());
+    }
+  }
+
+  @Test
+  public void testStamps() {
+    final Knapsack p = new Knapsack(new int[] { 1, 2, 3, 4, 5 }, new int[] { 5, 4, 3, 2, 1 }, 10);
+    final int[] param = new int[2];
+
+    for ( param[0]=0; param[0]<5; param[0]++ ) {
+      for ( param[1]=0; param[1]<=10; param[1]++ ) {
+        assertFalse("Row " + param[0] + " computed early", p.isComputed(param));
+        assertTrue("Row " + param[0] + " not computable", p.isComputable(param));
+        p.compute(param);
+        assertTrue(p.isComputed(param));
+      }
+    }
+
+    assertEquals((Integer)14, p.getSolution());
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * This file is part of Parallel Dynamic Programming Implementation Prototype (PDPIP).
+ *
+ * PDPIP is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDPIP is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDPIP.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unikl.reitzig.paralleldynprog.prototypes.problems;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent, 10.2026
+ */
+public class MatrixChainTest {
+  /**
+   * @return Minimum cost of multiplying {@code A_i...A_j}, by plain recursion
+   */
+  static long reference(final int[] sizes, final int i, final int j) {
+    long best = i == j ? 0 : Long.MAX_VALUE;
+    for ( int k=i; k<j; k++ ) {
+      best = Math.min(best, reference(sizes, i, k) + reference(sizes, k + 1, j) + (long)sizes[i] * sizes[k + 1] * sizes[j + 1]);
+    }
+    return best;
+  }
+
+  /**
+   * Fills the table diagonal by diagonal, one cell at a time.
+   */
+  static void fill(final MatrixChain p) {
+    final int n = p.getDimension()[0];
+    for ( int length=1; length<=n; length++ ) {
+      for ( int i=0; i+length<=n; i++ ) {
+        assertTrue(p.isComputable(new int[] { i, i + length - 1 }));
+        p.compute(new int[] { i, i + length - 1 });
+      }
+    }
+  }
+
+  @Test
+  public void testTextbook() {
+    final MatrixChain p = new MatrixChain(new int[] { 30, 35, 15, 5, 10, 20, 25 });
+    assertFalse("Premature solution", p.isSolved());
+    fill(p);
+    assertEquals((Long)15125L, p.getSolution());
+  }
+
+  @Test
+  public void testCompute() {
+    final Random random = new Random();
+
+    for ( int t=0; t<100; t++ ) {
+      final int[] sizes = new int[2 + random.nextInt(9)];
+      for ( int i=0; i<sizes.length; i++ ) {
+        sizes[i] = 1 + random.nextInt(100);
+      }
+
+      final MatrixChain p = new MatrixChain(sizes);
+      fill(p);
+      assertTrue(p.isSolved());
+      assertEquals((Long)reference(sizes, 0, sizes.length - 2), p.getSolution());
+    }
+  }
+
+  @Test
+  public void testComputeDiagonal() {
+    final int[] sizes = new int[60];
+    for ( int i=0; i<sizes.length; i++ ) {
+      sizes[i] = 1 + i % 7 * 13;
+    }
+
+    final MatrixChain cells = new MatrixChain(sizes);
+    final MatrixChain diagonals = cells.clone();
+    fill(cells);
+
+    final int n = diagonals.getDimension()[0];
+    for ( int length=1; length<=n; length++ ) {
+      final int mid = (n - length + 1) / 2;
+      diagonals.computeDiagonal(length, 0, mid);
+      diagonals.computeDiagonal(length, mid, n - length + 1);
+    }
+
+    assertTrue(diagonals.isSolved());
+    assertEquals(cells.getSolution(), diagonals.getSolution());
+    assertTrue("Lower triangle not computed", diagonals.isComputed(new int[] { n - 1, 0 }));
+  }
+}
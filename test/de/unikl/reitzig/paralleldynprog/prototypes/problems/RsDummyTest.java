@@ -0,0 +1,67 @@
+/*
+ * This file is part of Parallel Dynamic Programming Implementation Prototype (PDPIP).
+ *
+ * PDPIP is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDPIP is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDPIP.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unikl.reitzig.paralleldynprog.prototypes.problems;
+
+import de.unikl.reitzig.paralleldynprog.prototypes.Util;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent, 10.2026
+ */
+public class RsDummyTest {
+  @Test
+  public void testComputeRange() {
+    final Random random = new Random();
+
+    for ( int i=0; i<200; i++ ) {
+      final int n = 1 + random.nextInt(40);
+      final int rows = 1 + random.nextInt(20);
+      final int[] numbers = Util.randomArray(n);
+
+      final RsDummy cells = new RsDummy(rows, numbers);
+      final RsDummy pieces = new RsDummy(rows, numbers);
+      final int[] param = new int[2];
+
+      for ( param[0]=0; param[0]<rows; param[0]++ ) {
+        for ( param[1]=0; param[1]<n; param[1]++ ) {
+          cells.compute(param);
+        }
+
+        // Random split of the row into pieces, including empty ones
+        int from = 0;
+        while ( from < n ) {
+          final int to = Math.min(n, from + random.nextInt(6));
+          pieces.computeRange(param[0], from, to);
+          from = to;
+        }
+      }
+
+      assertTrue("Not solved by pieces", pieces.isSolved());
+      for ( param[0]=0; param[0]<rows; param[0]++ ) {
+        for ( param[1]=0; param[1]<n; param[1]++ ) {
+          assertTrue(pieces.isComputed(param));
+        }
+      }
+      assertEquals("Wrong solution by pieces", cells.getSolution(), pieces.getSolution());
+    }
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * This file is part of Parallel Dynamic Programming Implementation Prototype (PDPIP).
+ *
+ * PDPIP is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDPIP is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDPIP.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unikl.reitzig.paralleldynprog.prototypes.problems;
+
+import de.unikl.reitzig.paralleldynprog.prototypes.DynProgProblem;
+import de.unikl.reitzig.paralleldynprog.prototypes.DynProgSolver;
+import de.unikl.reitzig.paralleldynprog.prototypes.Util;
+import de.unikl.reitzig.paralleldynprog.prototypes.solvers.BlockCheck;
+import de.unikl.reitzig.paralleldynprog.prototypes.solvers.ColumnBlock;
+import de.unikl.reitzig.paralleldynprog.prototypes.solvers.QuadrantSplit;
+import de.unikl.reitzig.paralleldynprog.prototypes.solvers.RowFill;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent, 10.2026
+ */
+public class SmithWatermanTest {
+  /**
+   * @return {@code {score, i, j}} of the first best cell in row-major order, by a plain full table
+   */
+  private static int[] reference(final String a, final String b, final int match, final int mismatch, final int gap) {
+    final int[][] h = new int[a.length() + 1][b.length() + 1];
+    final int[] res = new int[3];
+    for ( int i=1; i<=a.length(); i++ ) {
+      for ( int j=1; j<=b.length(); j++ ) {
+        h[i][j] = Math.max(0, Math.max(h[i-1][j-1] + (a.charAt(i-1) == b.charAt(j-1) ? match : -mismatch),
+                                       Math.max(h[i-1][j] - gap, h[i][j-1] - gap)));
+        if ( h[i][j] > res[0] ) {
+          res[0] = h[i][j];
+          res[1] = i;
+          res[2] = j;
+        }
+      }
+    }
+    return res;
+  }
+
+  @Test
+  public void testKnown() {
+    final SmithWaterman p = new SmithWaterman("TGTTACGG", "GGTTGACTA", 3, 3, 2);
+    new RowFill().solve(p);
+
+    assertEquals(13, p.getSolution().getScore());
+    assertEquals(6, p.getSolution().getEndA());
+    assertEquals(7, p.getSolution().getEndB());
+  }
+
+  @Test
+  public void testSolvers() {
+    final int p = Runtime.getRuntime().availableProcessors();
+    final DynProgSolver[] solvers = new DynProgSolver[] {
+      new RowFill(), new QuadrantSplit(p), new BlockCheck(p, 7), new ColumnBlock(p, 9, 5)
+    };
+
+    for ( final DynProgSolver solver : solvers ) {
+      for ( int t=0; t<30; t++ ) {
+        final String a = Util.randomString(1, 120);
+        final String b = Util.randomString(1, 120);
+        final int[] expected = reference(a, b, 2, 1, 1);
+
+        final DynProgProblem<SmithWaterman.Hit> ps = new SmithWaterman(a, b, 2, 1, 1);
+        assertFalse("Premature solution", ps.isSolved());
+        solver.solve(ps);
+
+        assertTrue("No solution by " + solver, ps.isSolved());
+        assertEquals("Wrong solution by " + solver, new SmithWaterman.Hit(expected[0], expected[1], expected[2]), ps.getSolution());
+      }
+    }
+  }
+
+  @Test
+  public void testLinearSpace() {
+    final int p = 3;
+    final DynProgSolver[] solvers = new DynProgSolver[] { new RowFill(), new BlockCheck(p, 11) };
+    final int[] rows = new int[] { 2, p + 1 };
+
+    for ( int s=0; s<solvers.length; s++ ) {
+      for ( int t=0; t<30; t++ ) {
+        final String a = Util.randomString(1, 300);
+        final String b = Util.randomString(1, 120);
+        final int[] expected = reference(a, b, 3, 2, 2);
+
+        final SmithWaterman ps = new SmithWaterman(a, b, 3, 2, 2, rows[s]);
+        solvers[s].solve(ps);
+
+        assertTrue("No solution by " + solvers[s], ps.isSolved());
+        assertEquals("Wrong solution by " + solvers[s], new SmithWaterman.Hit(expected[0], expected[1], expected[2]), ps.getSolution());
+      }
+    }
+  }
+
+  @Test
+  public void testEmptyRanges() {
+    final SmithWaterman p = new SmithWaterman("TGTTACGG", "GGTTGACTA", 3, 3, 2);
+    final int cols = p.getDimension()[1];
+    for ( int i=0; i<p.getDimension()[0]; i++ ) {
+      p.computeRange(i, 0, 0);
+      p.computeRange(i, 0, 1);
+      p.computeRange(i, 1, 1);
+      p.computeRange(i, 1, cols / 2);
+      p.computeRange(i, cols / 2, cols / 2);
+      p.computeRange(i, cols / 2, cols);
+      p.computeRange(i, cols, cols);
+    }
+
+    assertTrue(p.isSolved());
+    assertEquals(new SmithWaterman.Hit(13, 6, 7), p.getSolution());
+  }
+}
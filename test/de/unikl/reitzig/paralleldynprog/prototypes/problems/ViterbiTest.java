@@ -0,0 +1,160 @@
+/*
+ * This file is part of Parallel Dynamic Programming Implementation Prototype (PDPIP).
+ *
+ * PDPIP is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDPIP is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDPIP.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unikl.reitzig.paralleldynprog.prototypes.problems;
+
+import de.unikl.reitzig.paralleldynprog.prototypes.DynProgSolver;
+import de.unikl.reitzig.paralleldynprog.prototypes.InputKey;
+import de.unikl.reitzig.paralleldynprog.prototypes.solvers.RowFill;
+import de.unikl.reitzig.paralleldynprog.prototypes.solvers.RowSplitReach;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent, 10.2026
+ */
+public class ViterbiTest {
+  private final Random random = new Random();
+
+  /**
+   * @return {@code rows x columns} random probabilities with rows summing up to one
+   */
+  private double[][] stochastic(final int rows, final int columns) {
+    final double[][] res = new double[rows][columns];
+    for ( int i=0; i<rows; i++ ) {
+      double sum = 0;
+      for ( int j=0; j<columns; j++ ) {
+        res[i][j] = random.nextDouble();
+        sum += res[i][j];
+      }
+      for ( int j=0; j<columns; j++ ) {
+        res[i][j] /= sum;
+      }
+    }
+    return res;
+  }
+
+  /**
+   * @return The most likely state sequence, by a full table with backpointers
+   */
+  private static int[] reference(final double[] initial, final double[][] transition, final double[][] emission,
+                                 final int[] observations) {
+    final int n = observations.length;
+    final int states = initial.length;
+    final double[][] v = new double[n][states];
+    final int[][] back = new int[n][states];
+
+    for ( int s=0; s<states; s++ ) {
+      v[0][s] = Math.log(initial[s]) + Math.log(emission[s][observations[0]]);
+    }
+    for ( int t=1; t<n; t++ ) {
+      for ( int s=0; s<states; s++ ) {
+        v[t][s] = Double.NEGATIVE_INFINITY;
+        for ( int r=0; r<states; r++ ) {
+          if ( v[t-1][r] + Math.log(transition[r][s]) > v[t][s] ) {
+            v[t][s] = v[t-1][r] + Math.log(transition[r][s]);
+            back[t][s] = r;
+          }
+        }
+        v[t][s] += Math.log(emission[s][observations[t]]);
+      }
+    }
+
+    final int[] path = new int[n];
+    for ( int s=1; s<states; s++ ) {
+      if ( v[n-1][s] > v[n-1][path[n-1]] ) {
+        path[n-1] = s;
+      }
+    }
+    for ( int t=n-1; t>0; t-- ) {
+      path[t-1] = back[t][path[t]];
+    }
+    return path;
+  }
+
+  @Test
+  public void testSolve() {
+    final DynProgSolver[] solvers = new DynProgSolver[] { new RowFill(), new RowSplitReach(3), new RowSplitReach() };
+
+    for ( final DynProgSolver solver : solvers ) {
+      for ( int i=0; i<30; i++ ) {
+        final int states = 1 + random.nextInt(40);
+        final int symbols = 1 + random.nextInt(5);
+        final double[] initial = stochastic(1, states)[0];
+        final double[][] transition = stochastic(states, states);
+        final double[][] emission = stochastic(states, symbols);
+        final int[] observations = new int[1 + random.nextInt(200)];
+        for ( int t=0; t<observations.length; t++ ) {
+          observations[t] = random.nextInt(symbols);
+        }
+
+        final int[] expected = reference(initial, transition, emission, observations);
+        for ( final int k : new int[] { 1, 7, observations.length } ) {
+          final Viterbi p = new Viterbi(initial, transition, emission, observations, k);
+          assertFalse("Premature solution", p.isSolved());
+          solver.solve(p);
+
+          assertTrue("No solution by " + solver, p.isSolved());
+          assertArrayEquals("Wrong path by " + solver + " with checkpoints every " + k, expected, p.getSolution());
+        }
+
+        final Viterbi p = new Viterbi(initial, transition, emission, observations);
+        solver.solve(p);
+        assertArrayEquals("Wrong path by " + solver, expected, p.getSolution());
+      }
+    }
+  }
+
+  @Test
+  public void testInputKey() {
+    final double[] initial = stochastic(1, 4)[0];
+    final double[][] transition = stochastic(4, 4);
+    final double[][] emission = stochastic(4, 2);
+    final int[] observations = new int[] { 0, 1, 1, 0 };
+
+    final InputKey key = new Viterbi(initial, transition, emission, observations).getInputKey();
+
+    // Keys must not see later changes to the model
+    final double[][] t = new double[4][];
+    final double[][] e = new double[4][];
+    for ( int s=0; s<4; s++ ) {
+      t[s] = transition[s].clone();
+      e[s] = emission[s].clone();
+    }
+    final InputKey before = new Viterbi(initial, t, e, observations).getInputKey();
+    t[0][0] += 0.5;
+    e[1][1] += 0.5;
+    assertEquals("Key changed with transition or emission", key, before);
+  }
+
+  @Test
+  public void testLargeStateSpace() {
+    // More states than one block
+    final int states = 1100;
+    final double[] initial = stochastic(1, states)[0];
+    final double[][] transition = stochastic(states, states);
+    final double[][] emission = stochastic(states, 3);
+    final int[] observations = new int[] { 0, 2, 1, 1, 0, 2, 2, 1 };
+
+    final Viterbi p = new Viterbi(initial, transition, emission, observations, 3);
+    new RowSplitReach(4).solve(p);
+    assertArrayEquals(reference(initial, transition, emission, observations), p.getSolution());
+  }
+}
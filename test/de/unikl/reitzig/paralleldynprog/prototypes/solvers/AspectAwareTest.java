@@ -0,0 +1,76 @@
+/*
+ * This file is part of Parallel Dynamic Programming Implementation Prototype (PDPIP).
+ *
+ * PDPIP is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDPIP is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDPIP.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unikl.reitzig.paralleldynprog.prototypes.solvers;
+
+import de.unikl.reitzig.paralleldynprog.prototypes.DiagonalFrontierTest;
+import de.unikl.reitzig.paralleldynprog.prototypes.DynProgProblem;
+import de.unikl.reitzig.paralleldynprog.prototypes.DynProgSolver;
+import de.unikl.reitzig.paralleldynprog.prototypes.Util;
+import de.unikl.reitzig.paralleldynprog.prototypes.problems.EditDistance;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent, 10.2026
+ */
+public class AspectAwareTest extends DiagonalFrontierTest {
+  public AspectAwareTest() {
+    super(new AspectAware(Runtime.getRuntime().availableProcessors(), 5),
+          new AspectAware(Runtime.getRuntime().availableProcessors()),
+          new AspectAware(4),
+          new AspectAware());
+  }
+
+  @Test
+  @Override
+  public void testSolve() throws Exception {
+    super.testSolve();
+  }
+
+  @Test
+  public void testDecompose() throws Exception {
+    final AspectAware solver = new AspectAware(4);
+
+    assertTrue("Tall table not filled row-cyclically", solver.decompose(new int[] { 1000, 10 }) instanceof BlockCheckWait);
+    assertTrue("Square table not filled row-cyclically", solver.decompose(new int[] { 1000, 1000 }) instanceof BlockCheckWait);
+    assertTrue("Wide table not cut into strips", solver.decompose(new int[] { 10, 100000 }) instanceof ColumnBlock);
+  }
+
+  @Test
+  public void testSolveSkinny() throws Exception {
+    final DynProgSolver solver = new AspectAware(4);
+    final DynProgSolver reference = new RowFill();
+
+    for ( int i=0; i<20; i++ ) {
+      final String a = Util.randomString(2, 10);
+      final String b = Util.randomString(500, 2000);
+
+      for ( final String[] in : new String[][] { { a, b }, { b, a } } ) {
+        final DynProgProblem<Integer> ps = new EditDistance(in[0], in[1]);
+        final DynProgProblem<Integer> pr = new EditDistance(in[0], in[1]);
+
+        solver.solve(ps);
+        reference.solve(pr);
+
+        assertTrue("No solution by " + solver, ps.isSolved());
+        assertEquals("Wrong solution by " + solver, pr.getSolution(), ps.getSolution());
+      }
+    }
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * This file is part of Parallel Dynamic Programming Implementation Prototype (PDPIP).
+ *
+ * PDPIP is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDPIP is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDPIP.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unikl.reitzig.paralleldynprog.prototypes.solvers;
+
+import de.unikl.reitzig.paralleldynprog.prototypes.DynProgProblem;
+import de.unikl.reitzig.paralleldynprog.prototypes.DynProgSolver;
+import de.unikl.reitzig.paralleldynprog.prototypes.problems.MatrixChain;
+import de.unikl.reitzig.paralleldynprog.prototypes.problems.RsDummy;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent, 10.2026
+ */
+public class DiagonalSweepTest {
+  @Test
+  public void testSolve() {
+    final DynProgSolver[] solvers = new DynProgSolver[] {
+      new DiagonalSweep(Runtime.getRuntime().availableProcessors(), 1),
+      new DiagonalSweep(4, 50),
+      new DiagonalSweep()
+    };
+    final DynProgSolver reference = new DiagonalSweep(1);
+    final Random random = new Random();
+
+    for ( final DynProgSolver solver : solvers ) {
+      for ( int t=0; t<30; t++ ) {
+        final int[] sizes = new int[2 + random.nextInt(150)];
+        for ( int i=0; i<sizes.length; i++ ) {
+          sizes[i] = 1 + random.nextInt(100);
+        }
+
+        final DynProgProblem<Long> ps = new MatrixChain(sizes);
+        final DynProgProblem<Long> pr = ps.clone();
+
+        assertFalse("Premature solution", ps.isSolved());
+
+        solver.solve(ps);
+        reference.solve(pr);
+
+        assertTrue("No solution by " + solver, ps.isSolved());
+        assertEquals("Wrong solution by " + solver, pr.getSolution(), ps.getSolution());
+      }
+    }
+  }
+
+  @Test
+  public void testTextbook() {
+    final MatrixChain p = new MatrixChain(new int[] { 30, 35, 15, 5, 10, 20, 25 });
+    new DiagonalSweep(3, 1).solve(p);
+    assertEquals((Long)15125L, p.getSolution());
+  }
+
+  @Test
+  public void testOtherProblems() {
+    final DynProgProblem<Integer> p = new RsDummy(3, new int[] { 1, 2, 3 });
+    new DiagonalSweep(2).solve(p);
+    assertFalse("Solved unsupported problem", p.isSolved());
+  }
+}
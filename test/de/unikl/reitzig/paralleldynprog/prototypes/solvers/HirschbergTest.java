@@ -0,0 +1,125 @@
+/*
+ * This file is part of Parallel Dynamic Programming Implementation Prototype (PDPIP).
+ *
+ * PDPIP is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDPIP is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDPIP.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unikl.reitzig.paralleldynprog.prototypes.solvers;
+
+import de.unikl.reitzig.paralleldynprog.prototypes.Util;
+import de.unikl.reitzig.paralleldynprog.prototypes.problems.EditDistance;
+import org.junit.Test;
+
+import java.util.concurrent.CancellationException;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent, 10.2026
+ */
+public class HirschbergTest {
+  /**
+   * Checks that {@code script} transforms {@code a} into {@code b}.
+   */
+  private static void check(final String a, final String b, final String script) {
+    final StringBuilder res = new StringBuilder();
+    int i = 0;
+    int j = 0;
+    for ( final char op : script.toCharArray() ) {
+      switch ( op ) {
+        case 'M':
+          assertEquals("Match of different characters", a.charAt(i), b.charAt(j));
+          res.append(a.charAt(i++));
+          j++;
+          break;
+        case 'S':
+          assertTrue("Substitution of equal characters", a.charAt(i) != b.charAt(j));
+          res.append(b.charAt(j++));
+          i++;
+          break;
+        case 'D':
+          i++;
+          break;
+        case 'I':
+          res.append(b.charAt(j++));
+          break;
+        default:
+          fail("Unknown operation " + op);
+      }
+    }
+    assertEquals("Not all of a consumed", a.length(), i);
+    assertEquals(b, res.toString());
+  }
+
+  /**
+   * @return The edit distance of {@code a} and {@code b}
+   */
+  private static int distance(final String a, final String b) {
+    // EditDistance skips the first characters, see there
+    return EditDistance.distance(("#" + a).toCharArray(), ("#" + b).toCharArray(), new int[b.length() + 1], new int[b.length() + 1]);
+  }
+
+  @Test
+  public void testAlign() {
+    final Hirschberg[] engines = new Hirschberg[] {
+      new Hirschberg(Runtime.getRuntime().availableProcessors()), new Hirschberg(4), new Hirschberg()
+    };
+
+    for ( final Hirschberg engine : engines ) {
+      for ( int t=0; t<20; t++ ) {
+        final String a = Util.randomString(0, 600);
+        final String b = Util.randomString(0, 600);
+
+        final String script = engine.align(a, b);
+        check(a, b, script);
+        assertEquals("Not optimal for (" + a + ", " + b + ")", distance(a, b), Hirschberg.cost(script));
+      }
+    }
+  }
+
+  @Test
+  public void testLarge() {
+    final String a = Util.randomString(3000);
+    final String b = a.substring(100, 2500) + Util.randomString(700);
+
+    final String script = new Hirschberg(3).align(a, b);
+    check(a, b, script);
+    assertEquals(distance(a, b), Hirschberg.cost(script));
+  }
+
+  @Test
+  public void testCancelled() {
+    final String a = Util.randomString(5000);
+    final String b = Util.randomString(5000);
+
+    Thread.currentThread().interrupt();
+    try {
+      new Hirschberg(2).align(a, b);
+      fail("Not cancelled");
+    }
+    catch ( CancellationException e ) {
+      assertTrue("Interrupt flag cleared", Thread.currentThread().isInterrupted());
+    }
+    finally {
+      Thread.interrupted();
+    }
+  }
+
+  @Test
+  public void testEmpty() {
+    assertEquals("", new Hirschberg(2).align("", ""));
+    assertEquals("III", new Hirschberg(2).align("", "abc"));
+    assertEquals("DD", new Hirschberg(2).align("ab", ""));
+  }
+}
@@ -0,0 +1,293 @@
+/*
+ * This file is part of Parallel Dynamic Programming Implementation Prototype (PDPIP).
+ *
+ * PDPIP is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDPIP is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDPIP.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unikl.reitzig.paralleldynprog.prototypes.solvers;
+
+import de.unikl.reitzig.paralleldynprog.prototypes.DynProgProblem;
+import de.unikl.reitzig.paralleldynprog.prototypes.DynProgSolver;
+import de.unikl.reitzig.paralleldynprog.prototypes.Util;
+import de.unikl.reitzig.paralleldynprog.prototypes.problems.EditDistance;
+import de.unikl.reitzig.paralleldynprog.prototypes.problems.Knapsack;
+import de.unikl.reitzig.paralleldynprog.prototypes.problems.RsDummy;
+import de.unikl.reitzig.paralleldynprog.prototypes.problems.SmithWaterman;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent, 10.2026
+ */
+public class RowFeedTest {
+  /** Delivers rows on threads of its own; the common pool may be too small on test machines. */
+  private static final Executor DELIVERY = Executors.newCachedThreadPool(new ThreadFactory() {
+    @Override
+    public Thread newThread(final Runnable r) {
+      final Thread t = new Thread(r, "RowFeedTest.Delivery");
+      t.setDaemon(true);
+      return t;
+    }
+  });
+
+  /**
+   * @return Copy of row {@code i} of {@code problem}
+   */
+  private static int[] row(final DynProgProblem<?> problem, final int i) {
+    if ( problem instanceof EditDistance ) {
+      return ((EditDistance)problem).getRow(i);
+    }
+    else {
+      return ((RsDummy)problem).getRow(i);
+    }
+  }
+
+  /**
+   * Collects rows and checks that they are complete when they arrive.
+   */
+  private static class Collector implements Flow.Subscriber<Integer> {
+    final DynProgProblem<?> problem;
+    final long delay;
+    final List<Integer> rows = new ArrayList<Integer>();
+    final List<int[]> data = new ArrayList<int[]>();
+    final CountDownLatch done = new CountDownLatch(1);
+    volatile boolean incomplete = false;
+    volatile boolean unordered = false;
+    volatile Throwable error = null;
+    private Flow.Subscription subscription;
+
+    /**
+     * @param problem The problem whose rows arrive
+     * @param delay Milliseconds to take per row
+     */
+    Collector(final DynProgProblem<?> problem, final long delay) {
+      this.problem = problem;
+      this.delay = delay;
+    }
+
+    Collector(final DynProgProblem<?> problem) {
+      this(problem, 0);
+    }
+
+    /**
+     * Copies all rows up to and including {@code last} that have not been copied yet.
+     */
+    private void copy(final int last) {
+      final int[] param = new int[] { data.size(), 0 };
+      for ( ; param[0]<=last; param[0]++ ) {
+        for ( param[1]=0; param[1]<problem.getDimension()[1]; param[1]++ ) {
+          incomplete |= !problem.isComputed(param);
+        }
+        data.add(row(problem, param[0]));
+      }
+    }
+
+    @Override
+    public void onSubscribe(final Flow.Subscription subscription) {
+      this.subscription = subscription;
+      subscription.request(1);
+    }
+
+    @Override
+    public void onNext(final Integer row) {
+      unordered |= row < data.size();
+      rows.add(row);
+      copy(row);
+      if ( delay > 0 ) {
+        try {
+          Thread.sleep(delay);
+        }
+        catch ( final InterruptedException e ) {
+          Thread.currentThread().interrupt();
+        }
+      }
+      // Request one at a time to exercise full buffers
+      subscription.request(1);
+    }
+
+    @Override
+    public void onError(final Throwable throwable) {
+      error = throwable;
+      done.countDown();
+    }
+
+    @Override
+    public void onComplete() {
+      // The problem is solved now
+      copy(problem.getDimension()[0] - 1);
+      done.countDown();
+    }
+  }
+
+  private static Collector check(final DynProgSolver solver, final DynProgProblem<?> problem, final long delay)
+      throws Exception {
+    final DynProgProblem<?> reference = problem.clone();
+    new RowFill().solve(reference);
+
+    final RowFeed feed = new RowFeed(problem, DELIVERY, 2);
+    final Collector c = new Collector(problem, delay);
+    feed.subscribe(c);
+
+    feed.solve(solver);
+    assertTrue("Feed not completed by " + solver, c.done.await(10, TimeUnit.SECONDS));
+    assertNull("Feed failed with " + solver, c.error);
+    assertFalse("Incomplete row published by " + solver, c.incomplete);
+    assertFalse("Rows out of order by " + solver, c.unordered);
+
+    final int rows = problem.getDimension()[0];
+    assertEquals("Wrong number of rows by " + solver, rows, c.data.size());
+    for ( int i=0; i<rows; i++ ) {
+      assertArrayEquals("Wrong row published by " + solver, row(reference, i), c.data.get(i));
+    }
+    return c;
+  }
+
+  private static Collector check(final DynProgSolver solver, final DynProgProblem<?> problem) throws Exception {
+    return check(solver, problem, 0);
+  }
+
+  @Test
+  @SuppressWarnings("deprecation") // CellCheckWait
+  public void testDiagonalFrontier() throws Exception {
+    final DynProgSolver[] solvers = new DynProgSolver[] {
+      new RowFill(), new BlockCheck(2, 5), new BlockCheckWait(3, -1), new CellCheckWait(2),
+      new ColumnBlock(2, 4, 3), new TileFlow(2, 4), new QuadrantSplit(2, 16)
+    };
+
+    for ( final DynProgSolver solver : solvers ) {
+      check(solver, new EditDistance(Util.randomString(5, 60), Util.randomString(5, 60)));
+    }
+  }
+
+  @Test
+  public void testRowSplit() throws Exception {
+    final DynProgSolver[] solvers = new DynProgSolver[] {
+      new RowSplit(2, 3), new TrapezoidSplit(3, 6, 2), new RowSplitNeighbours(2, 4)
+    };
+
+    for ( final DynProgSolver solver : solvers ) {
+      check(solver, new RsDummy(40, Util.randomArray(50)));
+    }
+  }
+
+  @Test
+  public void testCancelled() throws Exception {
+    final DynProgProblem<Integer> problem = new RsDummy(400, Util.randomArray(500));
+    final RowFeed feed = new RowFeed(problem);
+    final Collector c = new Collector(problem);
+    feed.subscribe(c);
+
+    Thread.currentThread().interrupt();
+    feed.solve(new RowFill());
+    Thread.interrupted();
+
+    assertFalse(problem.isSolved());
+    assertTrue("Feed not closed", c.done.await(10, TimeUnit.SECONDS));
+    assertTrue("Wrong error", c.error instanceof CancellationException);
+  }
+
+  @Test
+  public void testRecycledRows() throws Exception {
+    final DynProgProblem<?>[] problems = new DynProgProblem<?>[] {
+      new Knapsack(new int[] { 1, 2, 3 }, new int[] { 4, 5, 6 }, 5),
+      new SmithWaterman("abcde", "bcd", 2, 1, 1, 2)
+    };
+
+    for ( final DynProgProblem<?> problem : problems ) {
+      try {
+        new RowFeed(problem);
+        fail("Feed created for " + problem);
+      }
+      catch ( IllegalArgumentException e ) {
+        // expected
+      }
+    }
+
+    assertTrue(RowFeed.keepsAllRows(new SmithWaterman("abcde", "bcd", 2, 1, 1)));
+    assertTrue(RowFeed.keepsAllRows(new RsDummy(10, new int[5])));
+  }
+
+  @Test
+  public void testSkipped() throws Exception {
+    // Solved already; all rows are published at once
+    final DynProgProblem<Integer> solved = new RsDummy(20, Util.randomArray(30));
+    new RowFill().solve(solved);
+    check(new RowSplit(2), solved);
+
+    // Problems the solver can not handle
+    final DynProgProblem<?>[] problems = new DynProgProblem<?>[] {
+      new EditDistance(Util.randomString(5, 30), Util.randomString(5, 30)),
+      new RsDummy(20, Util.randomArray(30))
+    };
+    final DynProgSolver[] solvers = new DynProgSolver[] { new RowSplitReach(2), new DiagonalSweep(2) };
+
+    for ( int i=0; i<problems.length; i++ ) {
+      final RowFeed feed = new RowFeed(problems[i], DELIVERY, 2);
+      final Collector c = new Collector(problems[i]);
+      feed.subscribe(c);
+
+      feed.solve(solvers[i]);
+      assertFalse(problems[i].isSolved());
+      assertTrue("Feed not closed by " + solvers[i], c.done.await(10, TimeUnit.SECONDS));
+      assertTrue("Wrong error by " + solvers[i], c.error instanceof CancellationException);
+
+      try {
+        feed.solve(new RowFill());
+        fail("Feed used twice");
+      }
+      catch ( IllegalStateException e ) {
+        // expected
+      }
+    }
+  }
+
+  @Test
+  public void testDetached() throws Exception {
+    // Feeds only see solves they run
+    final DynProgProblem<Integer> problem = new RsDummy(20, Util.randomArray(30));
+    final RowFeed feed = new RowFeed(problem, DELIVERY, 2);
+    final Collector c = new Collector(problem);
+    feed.subscribe(c);
+
+    new RowSplit(2).solve(problem);
+    assertTrue(problem.isSolved());
+    assertTrue("Rows published without a solve", c.rows.isEmpty());
+    assertEquals("Feed completed without a solve", 1, c.done.getCount());
+    feed.close();
+  }
+
+  @Test
+  public void testSlowSubscriber() throws Exception {
+    final int rows = 200;
+    final long delay = 20;
+    final long start = System.nanoTime();
+    final Collector c = check(new RowSplit(2), new RsDummy(rows, Util.randomArray(100)), delay);
+    final long elapsed = (System.nanoTime() - start) / 1000000;
+
+    // Had workers waited for the subscriber, it would have taken delay ms per row.
+    assertTrue("Workers waited for subscriber", c.rows.size() < rows);
+    assertTrue("Solve took " + elapsed + "ms", elapsed < rows * delay);
+  }
+}
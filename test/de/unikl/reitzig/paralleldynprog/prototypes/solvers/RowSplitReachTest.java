@@ -0,0 +1,92 @@
+/*
+ * This file is part of Parallel Dynamic Programming Implementation Prototype (PDPIP).
+ *
+ * PDPIP is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDPIP is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDPIP.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unikl.reitzig.paralleldynprog.prototypes.solvers;
+
+import de.unikl.reitzig.paralleldynprog.prototypes.DynProgProblem;
+import de.unikl.reitzig.paralleldynprog.prototypes.DynProgSolver;
+import de.unikl.reitzig.paralleldynprog.prototypes.Util;
+import de.unikl.reitzig.paralleldynprog.prototypes.problems.Knapsack;
+import de.unikl.reitzig.paralleldynprog.prototypes.problems.RsDummy;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent, 10.2026
+ */
+public class RowSplitReachTest {
+  private final DynProgSolver[] solvers = new DynProgSolver[] {
+    new RowSplitReach(Runtime.getRuntime().availableProcessors()),
+    new RowSplitReach(4),
+    new RowSplitReach(13),
+    new RowSplitReach()
+  };
+
+  @Test
+  public void testKnapsack() {
+    final Random random = new Random();
+
+    for ( final DynProgSolver solver : solvers ) {
+      for ( int t=0; t<50; t++ ) {
+        final int n = 1 + random.nextInt(40);
+        final int[] weights = new int[n];
+        final int[] values = new int[n];
+        for ( int i=0; i<n; i++ ) {
+          weights[i] = random.nextInt(200);
+          values[i] = random.nextInt(1000);
+        }
+
+        final DynProgProblem<Integer> ps = new Knapsack(weights, values, random.nextInt(1000));
+        final DynProgProblem<Integer> pr = ps.clone();
+
+        solver.solve(ps);
+        new RowFill().solve(pr);
+
+        assertTrue("No solution by " + solver, ps.isSolved());
+        assertEquals("Wrong solution by " + solver, pr.getSolution(), ps.getSolution());
+      }
+    }
+  }
+
+  @Test
+  public void testRsDummy() {
+    for ( final DynProgSolver solver : solvers ) {
+      for ( int i=0; i<50; i++ ) {
+        final int[] numbers = Util.randomArray(1 + i);
+
+        final DynProgProblem<Integer> ps = new RsDummy(50, numbers);
+        final DynProgProblem<Integer> pr = new RsDummy(50, numbers);
+
+        solver.solve(ps);
+        new RowFill().solve(pr);
+
+        assertTrue("No solution by " + solver, ps.isSolved());
+        assertEquals("Wrong solution by " + solver, pr.getSolution(), ps.getSolution());
+      }
+    }
+  }
+
+  @Test
+  public void testOtherProblems() {
+    final DynProgProblem<Integer> p = new de.unikl.reitzig.paralleldynprog.prototypes.problems.EditDistance("abc", "abd");
+    new RowSplitReach(2).solve(p);
+    assertFalse("Solved unsupported problem", p.isSolved());
+  }
+}
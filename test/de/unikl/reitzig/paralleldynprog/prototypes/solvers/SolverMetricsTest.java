@@ -0,0 +1,129 @@
+/*
+ * This file is part of Parallel Dynamic Programming Implementation Prototype (PDPIP).
+ *
+ * PDPIP is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDPIP is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDPIP.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unikl.reitzig.paralleldynprog.prototypes.solvers;
+
+import de.unikl.reitzig.paralleldynprog.prototypes.DynProgProblem;
+import de.unikl.reitzig.paralleldynprog.prototypes.DynProgSolver;
+import de.unikl.reitzig.paralleldynprog.prototypes.Util;
+import de.unikl.reitzig.paralleldynprog.prototypes.problems.EditDistance;
+import de.unikl.reitzig.paralleldynprog.prototypes.problems.RsDummy;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent, 10.2026
+ */
+public class SolverMetricsTest {
+  private boolean wasEnabled;
+
+  @Before
+  public void enable() {
+    wasEnabled = SolverMetrics.isEnabled();
+    SolverMetrics.setEnabled(true);
+  }
+
+  @After
+  public void restore() {
+    SolverMetrics.setEnabled(wasEnabled);
+  }
+
+  private static int registered() throws Exception {
+    return ManagementFactory.getPlatformMBeanServer()
+             .queryNames(new ObjectName(SolverMetrics.DOMAIN + ":type=SolverMetrics,*"), null).size();
+  }
+
+  @Test
+  public void testMetrics() throws Exception {
+    final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    final SolverMetrics metrics = SolverMetrics.start(new RowSplit(2), new RsDummy(10, new int[20]), 2);
+    final ObjectName name = metrics.getName();
+    assertNotNull("Not registered", name);
+
+    assertEquals(200L, server.getAttribute(name, "CellsTotal"));
+    assertArrayEquals(new long[] { -1, -1 }, (long[])server.getAttribute(name, "Frontier"));
+
+    metrics.progress(0, 0, 10);
+    metrics.progress(1, 0, 10);
+    metrics.progress(1, 1, 10);
+    final long token = metrics.beginWait(0);
+    assertEquals(1, server.getAttribute(name, "BlockedWorkers"));
+    Thread.sleep(5);
+    metrics.endWait(0, token);
+
+    assertEquals(30L, server.getAttribute(name, "CellsCompleted"));
+    assertEquals(15.0, (Double)server.getAttribute(name, "PercentComplete"), 1e-9);
+    assertArrayEquals(new long[] { 0, 1 }, (long[])server.getAttribute(name, "Frontier"));
+    assertEquals(0, server.getAttribute(name, "BlockedWorkers"));
+    assertTrue("Wait not recorded", ((long[])server.getAttribute(name, "WaitMillis"))[0] >= 5);
+
+    metrics.finish();
+    assertFalse("Not unregistered", server.isRegistered(name));
+  }
+
+  @Test
+  public void testDisabled() throws Exception {
+    SolverMetrics.setEnabled(false);
+    final int before = registered();
+
+    final SolverMetrics metrics = SolverMetrics.start(new RowSplit(2), new RsDummy(10, new int[20]), 2);
+    assertNull("Registered while disabled", metrics.getName());
+    assertEquals(before, registered());
+
+    metrics.progress(0, 0, 10);
+    assertEquals(0, metrics.beginWait(0));
+    metrics.endWait(0, 0);
+    metrics.finish();
+    assertEquals(0L, metrics.getCellsCompleted());
+    assertEquals(0, metrics.getBlockedWorkers());
+
+    final DynProgProblem<Integer> pr = new RsDummy(20, Util.randomArray(30));
+    new RowSplit(2, 3).solve(pr);
+    assertTrue(pr.isSolved());
+    assertEquals(before, registered());
+  }
+
+  @Test
+  @SuppressWarnings("deprecation") // CellCheck
+  public void testSolversUnregister() throws Exception {
+    final int before = registered();
+    final DynProgSolver[] solvers = new DynProgSolver[] {
+      new RowFill(), new BlockCheckWait(2, 3), new ColumnBlock(2, 3, 3), new CellCheck(2)
+    };
+
+    for ( final DynProgSolver solver : solvers ) {
+      final DynProgProblem<Integer> pr = new EditDistance(Util.randomString(5, 50), Util.randomString(5, 50));
+      solver.solve(pr);
+      assertTrue(pr.isSolved());
+      assertEquals("Metrics left behind by " + solver, before, registered());
+    }
+
+    for ( final DynProgSolver solver : new DynProgSolver[] { new RowSplit(2, 3), new TrapezoidSplit(2, 5), new RowSplitNeighbours(2, 3) } ) {
+      final DynProgProblem<Integer> pr = new RsDummy(20, Util.randomArray(30));
+      solver.solve(pr);
+      assertTrue(pr.isSolved());
+      assertEquals("Metrics left behind by " + solver, before, registered());
+    }
+  }
+}
@@ -0,0 +1,153 @@
+/*
+ * This file is part of Parallel Dynamic Programming Implementation Prototype (PDPIP).
+ *
+ * PDPIP is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDPIP is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDPIP.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unikl.reitzig.paralleldynprog.prototypes.solvers;
+
+import de.unikl.reitzig.paralleldynprog.prototypes.DynProgProblem;
+import de.unikl.reitzig.paralleldynprog.prototypes.Util;
+import de.unikl.reitzig.paralleldynprog.prototypes.problems.EditDistance;
+import de.unikl.reitzig.paralleldynprog.prototypes.problems.StreamingEditDistance;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent, 10.2026
+ */
+public class StreamSplitTest {
+  /**
+   * @return Levenshtein distance of {@code a} and {@code b}, computed with {@link EditDistance}.
+   */
+  private static int levenshtein(final String a, final String b) {
+    final DynProgProblem<Integer> pr = new EditDistance("#" + a, "#" + b);
+    new RowFill().solve(pr);
+    return pr.getSolution();
+  }
+
+  /**
+   * @return What a {@link StreamingEditDistance} should report after reading {@code text}.
+   */
+  private static int expected(final String pattern, final String text, final boolean local) {
+    if ( !local ) {
+      return levenshtein(pattern, text);
+    }
+
+    int res = pattern.length();
+    for ( int i=0; i<text.length(); i++ ) {
+      res = Math.min(res, levenshtein(pattern, text.substring(i)));
+    }
+    return res;
+  }
+
+  @Test
+  public void testSequential() {
+    for ( final boolean local : new boolean[] { false, true } ) {
+      for ( int i=0; i<10; i++ ) {
+        final String pattern = Util.randomString(1, 20);
+        final String text = Util.randomString(1, 40);
+        final StreamingEditDistance pr = new StreamingEditDistance(pattern, local);
+
+        for ( int j=0; j<text.length(); j++ ) {
+          assertEquals("Wrong distance of " + pr, expected(pattern, text.substring(0, j + 1), local), pr.append(text.charAt(j)));
+        }
+        assertEquals("Wrong position", text.length(), pr.getPosition());
+      }
+    }
+  }
+
+  @Test
+  public void testSolve() throws Exception {
+    final int[][] params = new int[][] { { 1, -1 }, { 2, 1 }, { 3, 4 }, { 4, -1 }, { 30, 2 } };
+
+    for ( final boolean local : new boolean[] { false, true } ) {
+      for ( final int[] param : params ) {
+        final String pattern = Util.randomString(5, 30);
+        final String text = Util.randomString(50, 300);
+
+        final StreamingEditDistance reference = new StreamingEditDistance(pattern, local);
+        final List<Integer> expected = new ArrayList<Integer>();
+        for ( int j=0; j<text.length(); j++ ) {
+          expected.add(reference.append(text.charAt(j)));
+        }
+
+        final StreamingEditDistance pr = new StreamingEditDistance(pattern, local);
+        final List<Integer> actual = Collections.synchronizedList(new ArrayList<Integer>());
+        final StreamSplit solver = new StreamSplit(pr, param[0], param[1], new StreamingEditDistance.Listener() {
+          @Override
+          public void update(final long position, final int distance) {
+            assertEquals("Wrong position", actual.size() + 1, position);
+            actual.add(distance);
+          }
+        });
+
+        for ( int j=0; j<text.length()/2; j++ ) {
+          solver.append(text.charAt(j));
+        }
+        solver.flush();
+        assertEquals("Wrong distance after flush by " + solver, expected.get(text.length()/2 - 1).intValue(), pr.getDistance());
+
+        for ( int j=text.length()/2; j<text.length(); j++ ) {
+          solver.append(text.charAt(j));
+        }
+        solver.close();
+
+        assertEquals("Wrong distances by " + solver, expected, actual);
+        assertEquals("Wrong final distance by " + solver, reference.getDistance(), pr.getDistance());
+        assertEquals("Wrong position after " + solver, text.length(), pr.getPosition());
+      }
+    }
+  }
+
+  @Test
+  public void testFlushBlocks() throws Exception {
+    final StreamingEditDistance pr = new StreamingEditDistance(Util.randomString(5, 10), false);
+    final StreamSplit solver = new StreamSplit(pr, 2, 1, new StreamingEditDistance.Listener() {
+      @Override
+      public void update(final long position, final int distance) {
+        try {
+          Thread.sleep(2);
+        }
+        catch ( final InterruptedException e ) {
+          Thread.currentThread().interrupt();
+        }
+      }
+    });
+
+    final String text = Util.randomString(100);
+    for ( int j=0; j<text.length(); j++ ) {
+      solver.append(text.charAt(j));
+    }
+
+    final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    final long wall = System.nanoTime();
+    final long cpu = threads.getCurrentThreadCpuTime();
+    solver.flush();
+    final long used = threads.getCurrentThreadCpuTime() - cpu;
+    final long waited = System.nanoTime() - wall;
+    solver.close();
+
+    assertEquals("Wrong position after flush by " + solver, text.length(), pr.getPosition());
+    assertTrue("flush spent " + used/1000000 + "ms of CPU time while waiting " + waited/1000000 + "ms",
+               used < waited / 2);
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * This file is part of Parallel Dynamic Programming Implementation Prototype (PDPIP).
+ *
+ * PDPIP is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDPIP is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDPIP.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unikl.reitzig.paralleldynprog.prototypes.solvers;
+
+import de.unikl.reitzig.paralleldynprog.prototypes.DynProgProblem;
+import de.unikl.reitzig.paralleldynprog.prototypes.DynProgSolver;
+import de.unikl.reitzig.paralleldynprog.prototypes.Util;
+import de.unikl.reitzig.paralleldynprog.prototypes.problems.RsDummy;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent, 10.2026
+ */
+public class TrapezoidSplitTest {
+  @Test
+  public void testSolve() throws Exception {
+    final DynProgSolver[] solvers = new DynProgSolver[] {
+      new TrapezoidSplit(Runtime.getRuntime().availableProcessors(), 5),
+      new TrapezoidSplit(Runtime.getRuntime().availableProcessors(), 8, 2),
+      new TrapezoidSplit(Runtime.getRuntime().availableProcessors(), 1),
+      new TrapezoidSplit(3, 4, 100),
+      new TrapezoidSplit(4, 3),
+      new TrapezoidSplit()
+    };
+    final DynProgSolver reference = new RowFill();
+
+    for ( final DynProgSolver solver : solvers ) {
+      for ( int i=0; i<100; i++ ) {
+        final int[] numbers = Util.randomArray(50);
+
+        final DynProgProblem<Integer> ps = new RsDummy(50, numbers);
+        final DynProgProblem<Integer> pr = new RsDummy(50, numbers);
+
+        assertFalse("Premature solution", ps.isSolved());
+
+        solver.solve(ps);
+        reference.solve(pr);
+
+        assertTrue("No solution by " + solver, ps.isSolved());
+        assertEquals("Wrong solution by " + solver, pr.getSolution(), ps.getSolution());
+      }
+    }
+  }
+
+  @Test
+  public void testBlockBounds() throws Exception {
+    // Every worker gets a non-empty block if there are many more columns than workers
+    for ( final int p : new int[] { 1, 2, 3, 7, 8, 16 } ) {
+      for ( final int n : new int[] { 100, 101, 1000, 4099 } ) {
+        final int[] bounds = TrapezoidSplit.blockBounds(n, p, -1);
+        assertEquals("Wrong block count for n=" + n + ", p=" + p, p + 1, bounds.length);
+        assertEquals(0, bounds[0]);
+        assertEquals(n, bounds[p]);
+
+        for ( int b=0; b<p; b++ ) {
+          final int width = bounds[b+1] - bounds[b];
+          assertTrue("Unbalanced block for n=" + n + ", p=" + p, width == n/p || width == n/p + 1);
+        }
+      }
+    }
+
+    // Explicit widths yield ceil(n/k) blocks, the last one taking the rest
+    assertArrayEquals(new int[] { 0, 8, 16, 20 }, TrapezoidSplit.blockBounds(20, 4, 8));
+    assertArrayEquals(new int[] { 0, 5, 10 }, TrapezoidSplit.blockBounds(10, 4, 5));
+    assertArrayEquals(new int[] { 0, 10 }, TrapezoidSplit.blockBounds(10, 4, 100));
+
+    // Fewer columns than workers
+    assertArrayEquals(new int[] { 0, 1, 2, 3 }, TrapezoidSplit.blockBounds(3, 8, -1));
+  }
+}
@@ -0,0 +1,162 @@
+/*
+ * This file is part of Parallel Dynamic Programming Implementation Prototype (PDPIP).
+ *
+ * PDPIP is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * PDPIP is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with PDPIP.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package de.unikl.reitzig.paralleldynprog.prototypes.stencil;
+
+import de.unikl.reitzig.paralleldynprog.prototypes.DynProgProblem;
+import de.unikl.reitzig.paralleldynprog.prototypes.DynProgSolver;
+import de.unikl.reitzig.paralleldynprog.prototypes.Util;
+import de.unikl.reitzig.paralleldynprog.prototypes.problems.EditDistance;
+import de.unikl.reitzig.paralleldynprog.prototypes.problems.RsDummy;
+import de.unikl.reitzig.paralleldynprog.prototypes.solvers.QuadrantSplit;
+import de.unikl.reitzig.paralleldynprog.prototypes.solvers.RowFill;
+import de.unikl.reitzig.paralleldynprog.prototypes.solvers.RowSplit;
+import de.unikl.reitzig.paralleldynprog.prototypes.solvers.RowSplitReach;
+import de.unikl.reitzig.paralleldynprog.prototypes.solvers.TrapezoidSplit;
+import org.junit.Test;
+
+import static de.unikl.reitzig.paralleldynprog.prototypes.stencil.Expr.*;
+import static org.junit.Assert.*;
+
+/**
+ * @author agent, 10.2026
+ */
+public class StencilProblemTest {
+  /** Same recurrence as {@link EditDistance}, including its off-by-one */
+  private static final Stencil EDIT = new Stencil("Edit Distance", 2,
+    column(),
+    row(),
+    min(add(cell(0, -1), constant(1)),
+        add(cell(-1, 0), constant(1)),
+        add(cell(-1, -1), select(rowInput(0), columnInput(1), constant(0), constant(1)))),
+    0, Stencil.Solution.CORNER);
+
+  /** Same recurrence as {@link RsDummy}; cells are never negative, so 0 is neutral outside. */
+  private static final Expr RS = max(constant(0), add(max(cell(-1, -1), cell(-1, 0), cell(-1, 1)), columnInput(0)));
+  private static final Stencil DUMMY = new Stencil("RS Dummy", 1,
+    max(constant(0), columnInput(0)), RS, RS, 0, Stencil.Solution.ROW_MIN);
+
+  private static int[] chars(final String s) {
+    final int[] res = new int[s.length()];
+    for ( int i=0; i<res.length; i++ ) {
+      res[i] = s.charAt(i);
+    }
+    return res;
+  }
+
+  @Test
+  public void testCompiled() {
+    assertFalse("Kernel not compiled", EDIT.kernel() instanceof Interpreter);
+    assertSame(EDIT.kernel(), EDIT.kernel());
+
+    final String source = KernelCompiler.source(EDIT);
+    final String inner = source.substring(source.lastIndexOf("for"));
+    assertFalse("Bounds checks in inner loop:\n" + source, inner.contains("i >=") || inner.contains("j >="));
+  }
+
+  @Test
+  public void testEditDistance() {
+    final DynProgSolver[] solvers = new DynProgSolver[] { new RowFill(), new QuadrantSplit(3) };
+
+    for ( final Kernel kernel : new Kernel[] { EDIT.kernel(), EDIT.interpreter() } ) {
+      for ( final DynProgSolver solver : solvers ) {
+        for ( int i=0; i<20; i++ ) {
+          final String a = Util.randomString(1, 80);
+          final String b = Util.randomString(1, 80);
+
+          final DynProgProblem<Integer> ps = new StencilProblem(EDIT, kernel, a.length(), b.length(), chars(a), chars(b));
+          final DynProgProblem<Integer> pr = new EditDistance(a, b);
+
+          assertFalse("Premature solution", ps.isSolved());
+
+          solver.solve(ps);
+          new RowFill().solve(pr);
+
+          assertTrue("No solution by " + solver, ps.isSolved());
+          assertEquals("Wrong solution by " + solver + " with " + kernel, pr.getSolution(), ps.getSolution());
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testRsDummy() {
+    final DynProgSolver[] solvers = new DynProgSolver[] {
+      new RowFill(), new RowSplit(3, 7), new TrapezoidSplit(2, 6), new RowSplitReach(3)
+    };
+
+    for ( final Kernel kernel : new Kernel[] { DUMMY.kernel(), DUMMY.interpreter() } ) {
+      for ( final DynProgSolver solver : solvers ) {
+        for ( int i=0; i<20; i++ ) {
+          final int[] numbers = Util.randomArray(1 + i * 3);
+
+          final DynProgProblem<Integer> ps = new RowwiseStencilProblem(DUMMY, kernel, 30, numbers.length, numbers);
+          final DynProgProblem<Integer> pr = new RsDummy(30, numbers);
+
+          solver.solve(ps);
+          new RowFill().solve(pr);
+
+          assertTrue("No solution by " + solver, ps.isSolved());
+          assertEquals("Wrong solution by " + solver + " with " + kernel, pr.getSolution(), ps.getSolution());
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testShape() {
+    assertTrue(EDIT.isLocal());
+    assertFalse(EDIT.isRowwise());
+    assertEquals(1, EDIT.getReachLeft());
+    assertEquals(0, EDIT.getReachRight());
+
+    assertFalse(DUMMY.isLocal());
+    assertTrue(DUMMY.isRowwise());
+    assertEquals(1, DUMMY.getReachLeft());
+    assertEquals(1, DUMMY.getReachRight());
+
+    final Stencil far = new Stencil("Far", 0, constant(0), cell(-1, 0), add(cell(-1, -3), cell(-2, 0)), 0, Stencil.Solution.CORNER);
+    assertFalse(far.isLocal());
+    assertFalse(far.isRowwise());
+    assertEquals(3, far.getReachLeft());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNotRowwise() {
+    new RowwiseStencilProblem(EDIT, 10, 10, new int[10], new int[10]);
+  }
+
+  @Test
+  public void testInputKey() {
+    final int[] numbers = Util.randomArray(20);
+    final StencilProblem p = new StencilProblem(DUMMY, 10, 20, numbers);
+
+    assertEquals(p.getInputKey(), p.clone().getInputKey());
+    assertEquals(p.getInputKey(), new RowwiseStencilProblem(DUMMY, 10, 20, numbers).clone().getInputKey());
+    assertFalse(p.getInputKey().equals(new StencilProblem(DUMMY, 11, 20, numbers).getInputKey()));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testCyclicReference() {
+    cell(0, 0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testMissingInput() {
+    new Stencil("Broken", 1, column(), row(), columnInput(1), 0, Stencil.Solution.CORNER);
+  }
+}